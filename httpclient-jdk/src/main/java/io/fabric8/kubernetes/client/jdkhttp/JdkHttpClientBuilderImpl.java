@@ -72,6 +72,9 @@ class JdkHttpClientBuilderImpl
     }
     if (preferHttp11) {
       builder.version(Version.HTTP_1_1);
+    } else if (http2Settings != null) {
+      // window sizes and pings may only be set globally for the JDK client via the jdk.httpclient system properties
+      builder.version(Version.HTTP_2);
     }
     if (tlsVersions != null && tlsVersions.length > 0) {
       builder.sslParameters(new SSLParameters(null,
@@ -15,11 +15,16 @@
  */
 package io.fabric8.kubernetes.client.jdkhttp;
 
+import io.fabric8.kubernetes.client.Config;
+import io.fabric8.kubernetes.client.ConfigBuilder;
+import io.fabric8.kubernetes.client.http.Http2Settings;
 import io.fabric8.kubernetes.client.http.HttpClient;
 import org.junit.jupiter.api.Test;
 
+import java.net.http.HttpClient.Version;
 import java.util.concurrent.TimeUnit;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 class JdkHttpClientBuilderTest {
@@ -35,4 +40,26 @@ class JdkHttpClientBuilderTest {
     }
   }
 
+  @Test
+  void testHttp2() {
+    JdkHttpClientBuilderImpl builder = new JdkHttpClientFactory().newBuilder();
+
+    try (JdkHttpClientImpl client = (JdkHttpClientImpl) builder.http2(Http2Settings.defaults()).build()) {
+      assertEquals(Version.HTTP_2, client.getHttpClient().version());
+    }
+    try (JdkHttpClientImpl client = (JdkHttpClientImpl) builder.preferHttp11().build()) {
+      assertEquals(Version.HTTP_1_1, client.getHttpClient().version());
+    }
+  }
+
+  @Test
+  void testHttp2DisabledByConfig() {
+    Config config = new ConfigBuilder(Config.empty()).withHttp2Disable(true).build();
+    HttpClient.Builder builder = new JdkHttpClientFactory().newBuilder(config);
+
+    try (JdkHttpClientImpl client = (JdkHttpClientImpl) builder.http2(Http2Settings.defaults()).build()) {
+      assertEquals(Version.HTTP_1_1, client.getHttpClient().version());
+    }
+  }
+
 }
@@ -16,6 +16,7 @@
 package io.fabric8.kubernetes.client.jetty;
 
 import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.http.Http2Settings;
 import io.fabric8.kubernetes.client.http.HttpClient.ProxyType;
 import io.fabric8.kubernetes.client.http.StandardHttpClientBuilder;
 import io.fabric8.kubernetes.client.http.TlsVersion;
@@ -53,10 +54,6 @@ public class JettyHttpClientBuilder
 
   public JettyHttpClientBuilder(JettyHttpClientFactory clientFactory) {
     super(clientFactory);
-    // TODO: HTTP2 disabled, MockWebServer support is limited and requires changes
-    //  Enable (preferHttp11->false) the feature after fixing MockWebServer
-    //  https://github.com/fabric8io/kubernetes-client/issues/4193
-    this.preferHttp11 = true;
   }
 
   @Override
@@ -71,8 +68,13 @@ public class JettyHttpClientBuilder
     if (tlsVersions != null && tlsVersions.length > 0) {
       sslContextFactory.setIncludeProtocols(Stream.of(tlsVersions).map(TlsVersion::javaName).toArray(String[]::new));
     }
-    HttpClient sharedHttpClient = new HttpClient(newTransport(sslContextFactory, preferHttp11));
-    WebSocketClient sharedWebSocketClient = new WebSocketClient(new HttpClient(newTransport(sslContextFactory, preferHttp11)));
+    // TODO: HTTP2 disabled unless requested with http2(Http2Settings), MockWebServer support is limited and requires changes
+    //  Enable the feature by default after fixing MockWebServer
+    //  https://github.com/fabric8io/kubernetes-client/issues/4193
+    final boolean http11 = preferHttp11 || http2Settings == null;
+    HttpClient sharedHttpClient = new HttpClient(newTransport(sslContextFactory, http11, http2Settings));
+    WebSocketClient sharedWebSocketClient = new WebSocketClient(
+        new HttpClient(newTransport(sslContextFactory, http11, http2Settings)));
     sharedWebSocketClient.setMaxBinaryMessageSize(MAX_WS_MESSAGE_SIZE);
     // the api-server does not seem to fragment messages, so the frames can be very large
     sharedWebSocketClient.setMaxFrameSize(MAX_WS_MESSAGE_SIZE);
@@ -122,14 +124,23 @@ public class JettyHttpClientBuilder
     return new JettyHttpClient(this, sharedHttpClient, sharedWebSocketClient);
   }
 
-  private static HttpClientTransport newTransport(SslContextFactory.Client sslContextFactory, boolean preferHttp11) {
+  private static HttpClientTransport newTransport(SslContextFactory.Client sslContextFactory, boolean preferHttp11,
+      Http2Settings http2Settings) {
     final var clientConnector = new ClientConnector();
     clientConnector.setSslContextFactory(sslContextFactory);
     final HttpClientTransport transport;
     if (preferHttp11) {
       transport = new HttpClientTransportOverHTTP(clientConnector);
     } else {
-      var http2 = new ClientConnectionFactoryOverHTTP2.HTTP2(new HTTP2Client(clientConnector));
+      var http2Client = new HTTP2Client(clientConnector);
+      // Jetty does not send health pings, idle connections are closed by its idle timeout instead
+      if (http2Settings != null && http2Settings.getStreamWindowSize() != null) {
+        http2Client.setInitialStreamRecvWindow(http2Settings.getStreamWindowSize());
+      }
+      if (http2Settings != null && http2Settings.getConnectionWindowSize() != null) {
+        http2Client.setInitialSessionRecvWindow(http2Settings.getConnectionWindowSize());
+      }
+      var http2 = new ClientConnectionFactoryOverHTTP2.HTTP2(http2Client);
       transport = new HttpClientTransportDynamic(clientConnector, http2, HttpClientConnectionFactory.HTTP11);
     }
     return transport;
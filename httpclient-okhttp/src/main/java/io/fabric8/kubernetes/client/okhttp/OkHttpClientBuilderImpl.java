@@ -90,6 +90,10 @@ class OkHttpClientBuilderImpl
     }
     if (preferHttp11) {
       builder.protocols(Collections.singletonList(Protocol.HTTP_1_1));
+    } else if (http2Settings != null && http2Settings.getPingInterval() != null) {
+      // OkHttp has a single ping interval, applied to both HTTP/2 connections and websockets
+      // the window sizes are not configurable
+      builder.pingInterval(http2Settings.getPingInterval());
     }
     return completeBuild(builder, false);
   }
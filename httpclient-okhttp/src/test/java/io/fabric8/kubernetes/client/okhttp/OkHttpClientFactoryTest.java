@@ -17,14 +17,17 @@ package io.fabric8.kubernetes.client.okhttp;
 
 import io.fabric8.kubernetes.client.Config;
 import io.fabric8.kubernetes.client.ConfigBuilder;
+import io.fabric8.kubernetes.client.http.Http2Settings;
 import okhttp3.Dispatcher;
 import okhttp3.OkHttpClient;
 import okhttp3.OkHttpClient.Builder;
+import okhttp3.Protocol;
 import org.junit.jupiter.api.Test;
 
 import java.net.InetSocketAddress;
 import java.net.Proxy;
 import java.net.Proxy.Type;
+import java.time.Duration;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -77,6 +80,16 @@ class OkHttpClientFactoryTest {
         .hasFieldOrPropertyWithValue("maxRequests", 1337);
   }
 
+  @Test
+  void http2AppliesPingInterval() {
+    OkHttpClientImpl client = new OkHttpClientFactory().newBuilder(Config.empty())
+        .http2(Http2Settings.builder().pingInterval(Duration.ofSeconds(5)).build())
+        .build();
+
+    assertThat(client.getOkHttpClient().pingIntervalMillis()).isEqualTo(5000);
+    assertThat(client.getOkHttpClient().protocols()).contains(Protocol.HTTP_2);
+  }
+
   @Test
   void initDispatcherCanOverrideDispatcher() {
     OkHttpClientImpl client = new OkHttpClientFactory() {
@@ -23,6 +23,8 @@ import io.netty.handler.ssl.ApplicationProtocolConfig;
 import io.netty.handler.ssl.IdentityCipherSuiteFilter;
 import io.netty.handler.ssl.JdkSslContext;
 import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpConnection;
 import io.vertx.core.http.HttpVersion;
 import io.vertx.core.net.JdkSSLEngineOptions;
 import io.vertx.core.net.ProxyOptions;
@@ -44,6 +46,11 @@ public class VertxHttpClientBuilder<F extends HttpClient.Factory>
   private static final int MAX_CONNECTIONS = 8192;
   // the default for etcd seems to be 3 MB, but we'll default to unlimited, so we have the same behavior across clients
   private static final int MAX_WS_MESSAGE_SIZE = Integer.MAX_VALUE;
+  private static final ApplicationProtocolConfig HTTP2_PROTOCOL_CONFIG = new ApplicationProtocolConfig(
+      ApplicationProtocolConfig.Protocol.ALPN,
+      ApplicationProtocolConfig.SelectorFailureBehavior.NO_ADVERTISE,
+      ApplicationProtocolConfig.SelectedListenerFailureBehavior.ACCEPT,
+      "h2", "http/1.1");
 
   final Vertx vertx;
 
@@ -98,8 +105,19 @@ public class VertxHttpClientBuilder<F extends HttpClient.Factory>
       protocols = null;
     }
 
+    final boolean http2 = !this.preferHttp11 && this.http2Settings != null;
     if (this.preferHttp11) {
       options.setProtocolVersion(HttpVersion.HTTP_1_1);
+    } else if (http2) {
+      options.setProtocolVersion(HttpVersion.HTTP_2);
+      options.setUseAlpn(true);
+      if (http2Settings.getStreamWindowSize() != null) {
+        options.setInitialSettings(
+            new io.vertx.core.http.Http2Settings().setInitialWindowSize(http2Settings.getStreamWindowSize()));
+      }
+      if (http2Settings.getConnectionWindowSize() != null) {
+        options.setHttp2ConnectionWindowSize(http2Settings.getConnectionWindowSize());
+      }
     }
 
     if (this.sslContext != null) {
@@ -117,16 +135,44 @@ public class VertxHttpClientBuilder<F extends HttpClient.Factory>
               true,
               null,
               IdentityCipherSuiteFilter.INSTANCE,
-              ApplicationProtocolConfig.DISABLED,
+              http2 ? HTTP2_PROTOCOL_CONFIG : ApplicationProtocolConfig.DISABLED,
               io.netty.handler.ssl.ClientAuth.NONE,
               protocols,
               false);
         }
       });
     }
+    if (http2 && http2Settings.getPingInterval() != null && !http2Settings.getPingInterval().isZero()) {
+      long interval = http2Settings.getPingInterval().toMillis();
+      return new VertxHttpClient<>(this,
+          vertx.httpClientBuilder().with(options).withConnectHandler(c -> schedulePings(c, interval)).build(),
+          new AtomicBoolean());
+    }
     return new VertxHttpClient<>(this, vertx.createHttpClient(options), new AtomicBoolean());
   }
 
+  /**
+   * Ping the connection at each interval, closing it if a ping is not acknowledged before the next
+   */
+  private void schedulePings(HttpConnection connection, long interval) {
+    long periodic = vertx.setPeriodic(interval, id -> {
+      long timeout = vertx.setTimer(interval, t -> connection.close());
+      try {
+        connection.ping(Buffer.buffer(new byte[8]), ar -> {
+          vertx.cancelTimer(timeout);
+          if (ar.failed()) {
+            connection.close();
+          }
+        });
+      } catch (UnsupportedOperationException e) {
+        // an HTTP/1.1 connection
+        vertx.cancelTimer(timeout);
+        vertx.cancelTimer(id);
+      }
+    });
+    connection.closeHandler(v -> vertx.cancelTimer(periodic));
+  }
+
   @Override
   protected VertxHttpClientBuilder<F> newInstance(F clientFactory) {
     return new VertxHttpClientBuilder<>(clientFactory, vertx);
@@ -60,7 +60,7 @@ public class PatchHandler implements KubernetesCrudDispatcherHandler {
     // Read the patch and create a complete resource (either from the body or by applying the PATCH operations)
     final JsonNode fullPatch;
     if (getMergeType(contentType) == PatchType.JSON) {
-      fullPatch = JsonPatch.apply(patch, initPaths(currentResource.deepCopy(), patch));
+      fullPatch = JsonPatch.compile(patch).applyInPlace(initPaths(currentResource.deepCopy(), patch));
     } else {
       fullPatch = persistence.merge(currentResource, requestBody);
     }
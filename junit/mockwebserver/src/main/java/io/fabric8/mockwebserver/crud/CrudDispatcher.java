@@ -105,7 +105,7 @@ public class CrudDispatcher extends Dispatcher {
       try {
         JsonNode patch = context.getMapper().readTree(body);
         JsonNode source = context.getMapper().readTree(existingObjectBody);
-        JsonNode updated = JsonPatch.apply(patch, source);
+        JsonNode updated = JsonPatch.compile(patch).applyInPlace(source);
         String updatedAsString = context.getMapper().writeValueAsString(updated);
         AttributeSet features = AttributeSet.merge(attributeExtractor.fromPath(path),
             attributeExtractor.fromResource(updatedAsString));
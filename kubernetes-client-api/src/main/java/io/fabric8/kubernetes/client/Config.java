@@ -25,10 +25,13 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import io.fabric8.kubernetes.api.model.AuthProviderConfig;
 import io.fabric8.kubernetes.api.model.ConfigBuilder;
 import io.fabric8.kubernetes.api.model.NamedContext;
+import io.fabric8.kubernetes.client.http.RequestCoalescer;
+import io.fabric8.kubernetes.client.http.RequestScheduler;
 import io.fabric8.kubernetes.client.http.TlsVersion;
 import io.fabric8.kubernetes.client.internal.CertUtils;
 import io.fabric8.kubernetes.client.internal.KubeConfigUtils;
 import io.fabric8.kubernetes.client.internal.SSLUtils;
+import io.fabric8.kubernetes.client.metrics.ClientMetrics;
 import io.fabric8.kubernetes.client.readiness.Readiness;
 import io.fabric8.kubernetes.client.utils.IOHelpers;
 import io.fabric8.kubernetes.client.utils.Utils;
@@ -131,6 +134,7 @@ public class Config {
   public static final Long DEFAULT_SCALE_TIMEOUT = 10 * 60 * 1000L;
   public static final int DEFAULT_REQUEST_TIMEOUT = 10 * 1000;
   public static final int DEFAULT_LOGGING_INTERVAL = 20 * 1000;
+  public static final int DEFAULT_MAX_STALENESS = 1000;
   public static final Long DEFAULT_WEBSOCKET_PING_INTERVAL = 30 * 1000L;
 
   public static final Integer DEFAULT_MAX_CONCURRENT_REQUESTS = 64;
@@ -231,6 +235,12 @@ public class Config {
 
   private Boolean autoConfigure;
 
+  @JsonIgnore
+  private ClientMetrics metrics;
+
+  @JsonIgnore
+  private RequestCoalescer requestCoalescer;
+
   @JsonIgnore
   protected Map<String, Object> additionalProperties = new HashMap<>();
 
@@ -1052,6 +1062,66 @@ public class Config {
     this.requestConfig.setImpersonateExtras(impersonateExtras);
   }
 
+  /**
+   * @return the scheduler limiting the concurrency of requests, or null if requests are not scheduled
+   */
+  @JsonIgnore
+  public RequestScheduler getRequestScheduler() {
+    return getRequestConfig().getRequestScheduler();
+  }
+
+  public void setRequestScheduler(RequestScheduler requestScheduler) {
+    this.requestConfig.setRequestScheduler(requestScheduler);
+  }
+
+  /**
+   * @return the consistency of reads of single resources, {@link ReadConsistency#STRONG} by default
+   */
+  @JsonIgnore
+  public ReadConsistency getReadConsistency() {
+    return getRequestConfig().getReadConsistency();
+  }
+
+  public void setReadConsistency(ReadConsistency readConsistency) {
+    this.requestConfig.setReadConsistency(readConsistency);
+  }
+
+  /**
+   * @return in milliseconds, the age up to which a {@link ReadConsistency#CACHED} read returns the last seen version
+   */
+  @JsonIgnore
+  public Integer getMaxStaleness() {
+    return getRequestConfig().getMaxStaleness();
+  }
+
+  public void setMaxStaleness(Integer maxStaleness) {
+    this.requestConfig.setMaxStaleness(maxStaleness);
+  }
+
+  /**
+   * @return the metrics receiving measurements of the client, or {@link ClientMetrics#NOOP} if none are set
+   */
+  @JsonIgnore
+  public ClientMetrics getMetrics() {
+    return metrics == null ? ClientMetrics.NOOP : metrics;
+  }
+
+  public void setMetrics(ClientMetrics metrics) {
+    this.metrics = metrics;
+  }
+
+  /**
+   * @return the coalescer of identical concurrent GET requests, or null if requests are not coalesced
+   */
+  @JsonIgnore
+  public RequestCoalescer getRequestCoalescer() {
+    return requestCoalescer;
+  }
+
+  public void setRequestCoalescer(RequestCoalescer requestCoalescer) {
+    this.requestCoalescer = requestCoalescer;
+  }
+
   @JsonProperty("clientKeyPassphrase")
   public String getClientKeyPassphrase() {
     return clientKeyPassphrase;
@@ -59,6 +59,15 @@ public class ConfigBuilder extends ConfigFluent<ConfigBuilder> implements Visita
         fluent.getCurrentContext(), fluent.getContexts(),
         Optional.ofNullable(fluent.getAutoConfigure()).orElse(!disableAutoConfig()), true);
     buildable.setAuthProvider(fluent.getAuthProvider());
+    buildable.setRequestScheduler(fluent.getRequestScheduler());
+    buildable.setMetrics(fluent.getMetrics());
+    buildable.setRequestCoalescer(fluent.getRequestCoalescer());
+    if (fluent.getReadConsistency() != null) {
+      buildable.setReadConsistency(fluent.getReadConsistency());
+    }
+    if (fluent.getMaxStaleness() != null) {
+      buildable.setMaxStaleness(fluent.getMaxStaleness());
+    }
     return buildable;
   }
 }
@@ -15,7 +15,18 @@
  */
 package io.fabric8.kubernetes.client;
 
+import io.fabric8.kubernetes.client.http.RequestCoalescer;
+import io.fabric8.kubernetes.client.http.RequestScheduler;
+import io.fabric8.kubernetes.client.metrics.ClientMetrics;
+
 public class ConfigFluent<A extends ConfigFluent<A>> extends SundrioConfigFluent<A> {
+
+  private RequestScheduler requestScheduler;
+  private ClientMetrics metrics;
+  private RequestCoalescer requestCoalescer;
+  private ReadConsistency readConsistency;
+  private Integer maxStaleness;
+
   public ConfigFluent() {
     super();
   }
@@ -78,9 +89,59 @@ public class ConfigFluent<A extends ConfigFluent<A>> extends SundrioConfigFluent
       this.withContexts(instance.getContexts());
       this.withAutoConfigure(instance.getAutoConfigure());
       this.withAuthProvider(instance.getAuthProvider());
+      this.withRequestScheduler(instance.getRequestScheduler());
+      this.withMetrics(instance.getMetrics());
+      this.withRequestCoalescer(instance.getRequestCoalescer());
+      this.withReadConsistency(instance.getReadConsistency());
+      this.withMaxStaleness(instance.getMaxStaleness());
     }
   }
 
+  public A withRequestScheduler(RequestScheduler requestScheduler) {
+    this.requestScheduler = requestScheduler;
+    return (A) this;
+  }
+
+  public RequestScheduler getRequestScheduler() {
+    return requestScheduler;
+  }
+
+  public A withMetrics(ClientMetrics metrics) {
+    this.metrics = metrics;
+    return (A) this;
+  }
+
+  public ClientMetrics getMetrics() {
+    return metrics;
+  }
+
+  public A withRequestCoalescer(RequestCoalescer requestCoalescer) {
+    this.requestCoalescer = requestCoalescer;
+    return (A) this;
+  }
+
+  public RequestCoalescer getRequestCoalescer() {
+    return requestCoalescer;
+  }
+
+  public A withReadConsistency(ReadConsistency readConsistency) {
+    this.readConsistency = readConsistency;
+    return (A) this;
+  }
+
+  public ReadConsistency getReadConsistency() {
+    return readConsistency;
+  }
+
+  public A withMaxStaleness(Integer maxStaleness) {
+    this.maxStaleness = maxStaleness;
+    return (A) this;
+  }
+
+  public Integer getMaxStaleness() {
+    return maxStaleness;
+  }
+
   // Fix #https://github.com/fabric8io/kubernetes-client/issues/6249
   // Unboxed builder methods (should allow for the co-existience of <6.13.2 and 6.13.x)
   public A withTrustCerts(boolean trustCerts) {
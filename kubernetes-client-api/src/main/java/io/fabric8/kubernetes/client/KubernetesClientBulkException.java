@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.Status;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Thrown when an operation on a list of resources failed for some of the resources.
+ * <p>
+ * The code and status are those of the first failure, which is also the cause.
+ */
+public class KubernetesClientBulkException extends KubernetesClientException {
+
+  private static final String MESSAGE_FORMAT = "Operation failed for [%d] of [%d] resources. First failure: %s";
+
+  private final transient List<Object> results;
+  private final transient Map<HasMetadata, RuntimeException> failures;
+
+  /**
+   * @param results the results of the resources for which the operation succeeded
+   * @param failures the failure of each resource for which the operation failed, in the order of the resources
+   * @param total the total number of resources
+   */
+  public KubernetesClientBulkException(List<?> results, Map<HasMetadata, RuntimeException> failures, int total) {
+    super(String.format(MESSAGE_FORMAT, failures.size(), total, firstFailure(failures).getMessage()),
+        firstFailure(failures), code(firstFailure(failures)), status(firstFailure(failures)));
+    this.results = Collections.unmodifiableList(new ArrayList<>(results));
+    this.failures = Collections.unmodifiableMap(new LinkedHashMap<>(failures));
+  }
+
+  /**
+   * @return the results of the resources for which the operation succeeded
+   */
+  public List<Object> getResults() {
+    return results;
+  }
+
+  /**
+   * @return the failure of each resource for which the operation failed
+   */
+  public Map<HasMetadata, RuntimeException> getFailures() {
+    return failures;
+  }
+
+  private static RuntimeException firstFailure(Map<HasMetadata, RuntimeException> failures) {
+    return failures.values().iterator().next();
+  }
+
+  private static int code(RuntimeException failure) {
+    return failure instanceof KubernetesClientException ? ((KubernetesClientException) failure).getCode() : -1;
+  }
+
+  private static Status status(RuntimeException failure) {
+    return failure instanceof KubernetesClientException ? ((KubernetesClientException) failure).getStatus() : null;
+  }
+
+}
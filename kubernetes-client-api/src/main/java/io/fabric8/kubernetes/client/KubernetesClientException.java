@@ -52,6 +52,10 @@ public class KubernetesClientException extends RuntimeException {
     this(message, null, code, status, (RequestMetadata) null);
   }
 
+  protected KubernetesClientException(String message, Throwable t, int code, Status status) {
+    this(message, t, code, status, (RequestMetadata) null);
+  }
+
   public KubernetesClientException(String message, Throwable t, int code, Status status, HttpRequest httpRequest) {
     this(message, t, code, status, RequestMetadata.from(httpRequest));
   }
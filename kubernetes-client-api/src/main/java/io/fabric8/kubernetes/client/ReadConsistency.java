@@ -0,0 +1,42 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client;
+
+/**
+ * The consistency of reads of single resources, such as {@link io.fabric8.kubernetes.client.dsl.Gettable#get()}.
+ * <p>
+ * Set via {@link RequestConfig#setReadConsistency(ReadConsistency)}. Weaker consistency levels avoid a quorum read
+ * from etcd for each get. The client then remembers the last version of each resource it has seen, so that reads never
+ * go back in time from the perspective of the client.
+ */
+public enum ReadConsistency {
+
+  /**
+   * Read the most recent version, with a quorum read from etcd. This is the default.
+   */
+  STRONG,
+  /**
+   * Read from the API server watch cache a version that is not older than the last version seen by this client, or any
+   * version if none has been seen.
+   */
+  BOUNDED_STALENESS,
+  /**
+   * Return the last version seen by this client if it was seen within the {@link RequestConfig#getMaxStaleness()},
+   * otherwise read as with {@link #BOUNDED_STALENESS}.
+   */
+  CACHED
+
+}
@@ -15,6 +15,7 @@
  */
 package io.fabric8.kubernetes.client;
 
+import io.fabric8.kubernetes.client.http.RequestScheduler;
 import io.sundr.builder.annotations.Buildable;
 
 import java.util.Arrays;
@@ -24,6 +25,7 @@ import java.util.List;
 import java.util.Map;
 
 import static io.fabric8.kubernetes.client.Config.DEFAULT_LOGGING_INTERVAL;
+import static io.fabric8.kubernetes.client.Config.DEFAULT_MAX_STALENESS;
 import static io.fabric8.kubernetes.client.Config.DEFAULT_REQUEST_RETRY_BACKOFFINTERVAL;
 import static io.fabric8.kubernetes.client.Config.DEFAULT_REQUEST_RETRY_BACKOFFLIMIT;
 import static io.fabric8.kubernetes.client.Config.DEFAULT_REQUEST_TIMEOUT;
@@ -46,6 +48,9 @@ public class RequestConfig {
   private Integer requestTimeout = DEFAULT_REQUEST_TIMEOUT;
   private Long scaleTimeout = DEFAULT_SCALE_TIMEOUT;
   private Integer loggingInterval = DEFAULT_LOGGING_INTERVAL;
+  private RequestScheduler requestScheduler;
+  private ReadConsistency readConsistency = ReadConsistency.STRONG;
+  private Integer maxStaleness = DEFAULT_MAX_STALENESS;
 
   RequestConfig() {
   }
@@ -152,4 +157,32 @@ public class RequestConfig {
   public Map<String, List<String>> getImpersonateExtras() {
     return Collections.unmodifiableMap(impersonateExtras);
   }
+
+  public void setRequestScheduler(RequestScheduler requestScheduler) {
+    this.requestScheduler = requestScheduler;
+  }
+
+  public RequestScheduler getRequestScheduler() {
+    return requestScheduler;
+  }
+
+  public void setReadConsistency(ReadConsistency readConsistency) {
+    this.readConsistency = readConsistency;
+  }
+
+  public ReadConsistency getReadConsistency() {
+    return readConsistency;
+  }
+
+  /**
+   * @param maxStaleness in milliseconds, the age up to which a {@link ReadConsistency#CACHED} read returns the last seen
+   *        version
+   */
+  public void setMaxStaleness(Integer maxStaleness) {
+    this.maxStaleness = maxStaleness;
+  }
+
+  public Integer getMaxStaleness() {
+    return maxStaleness;
+  }
 }
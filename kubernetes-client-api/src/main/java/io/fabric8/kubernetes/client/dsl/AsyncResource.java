@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl;
+
+import io.fabric8.kubernetes.api.model.StatusDetails;
+import io.fabric8.kubernetes.client.dsl.base.PatchContext;
+
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Non-blocking variants of the core {@link Resource} operations.
+ * <p>
+ * Each operation sends its request and returns immediately, without a thread waiting for the response. The returned
+ * stage is completed by the http client, exceptionally with a {@link io.fabric8.kubernetes.client.KubernetesClientException}
+ * if the operation failed. Dependent stages that are not async are executed by the http client thread, and so should not
+ * block.
+ * <p>
+ * The operations use the context of the {@link Resource} from which this was obtained, such as the namespace, name, item,
+ * dry run, field manager, grace period and propagation policy.
+ *
+ * @param <T> The resource type.
+ */
+public interface AsyncResource<T> {
+
+  /**
+   * Get the current state from the api server.
+   *
+   * @return a stage completed with the item, or null if the item doesn't exist.
+   * @see Gettable#get()
+   */
+  CompletionStage<T> get();
+
+  /**
+   * Create the item.
+   *
+   * @return a stage completed with the created item from the API server.
+   * @see CreateOrReplaceable#create()
+   */
+  CompletionStage<T> create();
+
+  /**
+   * Patch the resource with the given patch.
+   * <p>
+   * Unlike the blocking {@link EditReplacePatchable#patch(PatchContext, String)}, the item is not first fetched from the
+   * server - the name and namespace are taken from the context.
+   *
+   * @param patchContext {@link PatchContext} for patch request
+   * @param patch the patch
+   * @return a stage completed with the patched item from the API server.
+   */
+  CompletionStage<T> patch(PatchContext patchContext, String patch);
+
+  /**
+   * Perform a Kubernetes server-side apply operation.
+   *
+   * @return a stage completed with the patched item from the API server.
+   * @see ServerSideApplicable#serverSideApply()
+   */
+  CompletionStage<T> serverSideApply();
+
+  /**
+   * Delete the resource, or the resources matching the context, in a single request.
+   * <p>
+   * If a timeout has been specified via {@link Deletable#withTimeout(long, java.util.concurrent.TimeUnit)}, the stage is
+   * completed once the deleted resources are gone.
+   *
+   * @return a stage completed with the details of the deleted resources, or an empty list if the named resource
+   *         doesn't exist.
+   * @see Deletable#delete()
+   */
+  CompletionStage<List<StatusDetails>> delete();
+
+}
@@ -18,6 +18,7 @@ package io.fabric8.kubernetes.client.dsl;
 import io.fabric8.kubernetes.client.Watch;
 import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
 import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.utils.StringInterner;
 
 import java.util.List;
 import java.util.Map;
@@ -57,6 +58,45 @@ public interface Informable<T> {
    */
   Informable<T> withLimit(Long limit);
 
+  /**
+   * Deduplicate the string values of the resources deserialized by {@link SharedIndexInformer}s created
+   * by subsequent inform calls - such as label values, image names, node names, and owner uids.
+   * <p>
+   * Use a separate {@link StringInterner} per informer to bound the interning table and the statistics to
+   * that informer.
+   *
+   * @param stringInterner the interner to use, or null to disable interning
+   * @return the current {@link Informable}
+   */
+  Informable<T> withStringInterner(StringInterner stringInterner);
+
+  /**
+   * Have {@link SharedIndexInformer}s created by subsequent inform calls read each list response
+   * item by item, adding each item to the store as soon as it is read, rather than holding a whole response.
+   * The key of every listed item is still retained until the list completes, to then remove the items
+   * no longer present.
+   * <p>
+   * Best combined with {@link #withLimit(Long)} for large resource sets, so that the items held during a
+   * relist are bounded by the page size rather than by the total number of resources.
+   *
+   * @param streamingList true to stream lists
+   * @return the current {@link Informable}
+   */
+  Informable<T> withStreamingList(boolean streamingList);
+
+  /**
+   * Have {@link SharedIndexInformer}s created by subsequent inform calls obtain the current state from
+   * the initial events of a watch, requested with sendInitialEvents=true, rather than from a list. The
+   * server then streams the state without serializing a single large list response.
+   * <p>
+   * Requires Kubernetes 1.27+ with the WatchList feature enabled. If the server rejects the watch
+   * request, or ignores sendInitialEvents as older servers do, the informer falls back to listing.
+   *
+   * @param watchList true to use a watch for the initial state
+   * @return the current {@link Informable}
+   */
+  Informable<T> withWatchList(boolean watchList);
+
   /**
    * Similar to a {@link Watch}, but will attempt to handle failures after successfully started.
    * and provides a store of all the current resources.
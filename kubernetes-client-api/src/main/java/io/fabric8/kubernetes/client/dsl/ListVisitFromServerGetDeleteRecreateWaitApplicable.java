@@ -35,4 +35,20 @@ public interface ListVisitFromServerGetDeleteRecreateWaitApplicable<T>
    */
   Stream<? extends Resource<T>> resources();
 
+  /**
+   * Perform the operations on the items with up to the given number of concurrent requests.
+   * <p>
+   * With a concurrency of 1, the default, the operations are performed one at a time in the order of the items,
+   * and a {@link io.fabric8.kubernetes.client.KubernetesClientBulkException} is thrown at the first failure.
+   * <p>
+   * Otherwise Namespaces and CustomResourceDefinitions are written first, then ServiceAccounts, RBAC roles and
+   * bindings, ConfigMaps and Secrets, and then the other items - and deleted in the reverse order. Should the
+   * operation fail for any item, a {@link io.fabric8.kubernetes.client.KubernetesClientBulkException} is thrown
+   * once the operations on the other items of the same ordering tier have completed.
+   *
+   * @param concurrency the maximum number of concurrent requests, 1 to perform the operations one at a time
+   * @return the list context
+   */
+  ListVisitFromServerGetDeleteRecreateWaitApplicable<T> withConcurrency(int concurrency);
+
 }
@@ -28,6 +28,9 @@ public interface NamespaceListVisitFromServerGetDeleteRecreateWaitApplicable<T>
   @Override
   Stream<NamespaceableResource<T>> resources();
 
+  @Override
+  NamespaceListVisitFromServerGetDeleteRecreateWaitApplicable<T> withConcurrency(int concurrency);
+
   /**
    * Return the items used to create this list context - these values are not from the server.
    */
@@ -85,4 +85,11 @@ public interface Resource<T> extends
    */
   T item();
 
+  /**
+   * Get non-blocking variants of the core operations, which do not wait for the responses.
+   *
+   * @return the {@link AsyncResource} for the context of this resource
+   */
+  AsyncResource<T> async();
+
 }
@@ -17,6 +17,7 @@ package io.fabric8.kubernetes.client.extension;
 
 import io.fabric8.kubernetes.api.model.DeletionPropagation;
 import io.fabric8.kubernetes.client.Client;
+import io.fabric8.kubernetes.client.utils.StringInterner;
 import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.dsl.Nameable;
 import io.fabric8.kubernetes.client.dsl.Resource;
@@ -66,6 +67,15 @@ public interface ExtensibleResource<T> extends Resource<T>, TimeoutableScalable<
   @Override
   ExtensibleResource<T> withLimit(Long limit);
 
+  @Override
+  ExtensibleResource<T> withStringInterner(StringInterner stringInterner);
+
+  @Override
+  ExtensibleResource<T> withStreamingList(boolean streamingList);
+
+  @Override
+  ExtensibleResource<T> withWatchList(boolean watchList);
+
   @Override
   ExtensibleResource<T> lockResourceVersion();
 
@@ -17,6 +17,7 @@ package io.fabric8.kubernetes.client.extension;
 
 import io.fabric8.kubernetes.api.model.DeletionPropagation;
 import io.fabric8.kubernetes.client.Client;
+import io.fabric8.kubernetes.client.utils.StringInterner;
 
 import java.util.List;
 import java.util.Map;
@@ -86,6 +87,21 @@ public abstract class ExtensibleResourceAdapter<T> extends ResourceAdapter<T> im
     return newInstance().init(resource.withLimit(limit), client);
   }
 
+  @Override
+  public ExtensibleResource<T> withStringInterner(StringInterner stringInterner) {
+    return newInstance().init(resource.withStringInterner(stringInterner), client);
+  }
+
+  @Override
+  public ExtensibleResource<T> withStreamingList(boolean streamingList) {
+    return newInstance().init(resource.withStreamingList(streamingList), client);
+  }
+
+  @Override
+  public ExtensibleResource<T> withWatchList(boolean watchList) {
+    return newInstance().init(resource.withWatchList(watchList), client);
+  }
+
   @Override
   public <C extends Client> C inWriteContext(Class<C> clazz) {
     return resource.inWriteContext(clazz);
@@ -25,6 +25,7 @@ import io.fabric8.kubernetes.client.PropagationPolicyConfigurable;
 import io.fabric8.kubernetes.client.ResourceNotFoundException;
 import io.fabric8.kubernetes.client.Watch;
 import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.dsl.AsyncResource;
 import io.fabric8.kubernetes.client.dsl.Deletable;
 import io.fabric8.kubernetes.client.dsl.EditReplacePatchable;
 import io.fabric8.kubernetes.client.dsl.Gettable;
@@ -38,6 +39,7 @@ import io.fabric8.kubernetes.client.dsl.WritableOperation;
 import io.fabric8.kubernetes.client.dsl.base.PatchContext;
 import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
 import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.utils.StringInterner;
 
 import java.util.List;
 import java.util.Map;
@@ -200,6 +202,21 @@ public class ResourceAdapter<T> implements Resource<T> {
     return resource.withLimit(limit);
   }
 
+  @Override
+  public Informable<T> withStringInterner(StringInterner stringInterner) {
+    return resource.withStringInterner(stringInterner);
+  }
+
+  @Override
+  public Informable<T> withStreamingList(boolean streamingList) {
+    return resource.withStreamingList(streamingList);
+  }
+
+  @Override
+  public Informable<T> withWatchList(boolean watchList) {
+    return resource.withWatchList(watchList);
+  }
+
   @Override
   public <V> T edit(Class<V> visitorType, Visitor<V> visitor) {
     return resource.edit(visitorType, visitor);
@@ -330,6 +347,11 @@ public class ResourceAdapter<T> implements Resource<T> {
     return resource.item();
   }
 
+  @Override
+  public AsyncResource<T> async() {
+    return resource.async();
+  }
+
   @Override
   public Deletable withTimeout(long timeout, TimeUnit unit) {
     return resource.withTimeout(timeout, unit);
@@ -0,0 +1,68 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.http;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Settings of the HTTP/2 multiplexing profile, see {@link HttpClient.Builder#http2(Http2Settings)}.
+ * <p>
+ * With HTTP/2 concurrent requests to the same server, including long-running watch requests, share a
+ * multiplexed connection rather than each holding its own. Websocket watches still require a connection each,
+ * so the profile is intended to be combined with {@link io.fabric8.kubernetes.client.Config#isOnlyHttpWatches()}.
+ * <p>
+ * Not every implementation supports every setting:
+ * <ul>
+ * <li>OkHttp - ping interval</li>
+ * <li>Jetty - stream and connection window sizes</li>
+ * <li>Vert.x - ping interval, stream and connection window sizes</li>
+ * <li>JDK - none, the JDK client may only be tuned globally via the jdk.httpclient system properties</li>
+ * </ul>
+ */
+@Getter
+@Builder(toBuilder = true)
+public class Http2Settings {
+
+  public static final Duration DEFAULT_PING_INTERVAL = Duration.ofSeconds(30);
+
+  /**
+   * The interval of the connection level PING frames used to detect unresponsive connections, {@link Duration#ZERO}
+   * to disable. A connection that does not acknowledge a ping within the interval is closed, and its watches
+   * reconnect.
+   */
+  @Builder.Default
+  private final Duration pingInterval = DEFAULT_PING_INTERVAL;
+
+  /**
+   * The initial flow control window of each stream in bytes, or null for the implementation default.
+   * A larger window lets a watch with a slow consumer buffer more before the server must wait.
+   */
+  private final Integer streamWindowSize;
+
+  /**
+   * The flow control window of each connection in bytes, or null for the implementation default.
+   * It bounds the data buffered across all streams of the connection, so it should be a multiple of the stream window.
+   */
+  private final Integer connectionWindowSize;
+
+  public static Http2Settings defaults() {
+    return builder().build();
+  }
+
+}
@@ -16,6 +16,7 @@
 package io.fabric8.kubernetes.client.http;
 
 import io.fabric8.kubernetes.client.Config;
+import io.fabric8.kubernetes.client.metrics.ClientMetrics;
 import io.fabric8.kubernetes.client.utils.HttpClientUtils;
 
 import java.net.InetSocketAddress;
@@ -121,6 +122,25 @@ public interface HttpClient extends AutoCloseable {
 
     Builder preferHttp11();
 
+    /**
+     * Use HTTP/2 where the server supports it, so that concurrent requests share a multiplexed connection,
+     * with the given settings.
+     * <p>
+     * {@link #preferHttp11()}, also set when {@link Config#isHttp2Disable()}, still takes precedence.
+     *
+     * @param settings the HTTP/2 settings
+     * @return this builder
+     */
+    Builder http2(Http2Settings settings);
+
+    /**
+     * Record measurements of the requests sent by the client.
+     *
+     * @param metrics the metrics, or null for none
+     * @return this builder
+     */
+    Builder metrics(ClientMetrics metrics);
+
     Builder proxyType(ProxyType type);
   }
 
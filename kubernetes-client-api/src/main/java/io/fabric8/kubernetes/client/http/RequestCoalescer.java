@@ -0,0 +1,198 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.http;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Coalesces identical concurrent GET requests - such as many reconcile threads getting the same resource - so that
+ * only one of them is sent to the API server, while the others share its response.
+ * <p>
+ * Requests are identical if they are sent by the same {@link HttpClient} with the same uri and headers. The uri
+ * includes the query parameters, such as the resourceVersion and resourceVersionMatch, so only requests with the same
+ * consistency semantics are coalesced. A request joining one that is already in flight may however observe
+ * the state of the resource from shortly before it was issued.
+ * <p>
+ * Optionally successful responses are additionally held for a short time to live, during which identical requests
+ * are answered without being sent. That further relaxes consistency to the time to live, and so should be kept short -
+ * a few hundred milliseconds is enough to absorb a thundering herd of reconciles.
+ * <p>
+ * Each request is given its own copy of the response, by deserializing the shared response body separately.
+ * <p>
+ * A coalescer is configured via {@link io.fabric8.kubernetes.client.Config#setRequestCoalescer(RequestCoalescer)}, and
+ * is shared by all clients created from that config.
+ */
+public class RequestCoalescer {
+
+  private static final String GET = "GET";
+  // the number of entries above which expired responses are purged when a request is sent
+  private static final int PURGE_THRESHOLD = 256;
+
+  private final long timeToLiveNanos;
+  private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+  private final LongAdder sent = new LongAdder();
+  private final LongAdder coalesced = new LongAdder();
+  private final LongAdder cached = new LongAdder();
+
+  /**
+   * Create a coalescer that only shares in flight requests
+   */
+  public RequestCoalescer() {
+    this(Duration.ZERO);
+  }
+
+  /**
+   * @param timeToLive how long successful responses are held for identical requests, may be zero
+   */
+  public RequestCoalescer(Duration timeToLive) {
+    if (timeToLive.isNegative()) {
+      throw new IllegalArgumentException("timeToLive must not be negative");
+    }
+    this.timeToLiveNanos = timeToLive.toNanos();
+  }
+
+  /**
+   * Send the request, or share the response of an identical request
+   *
+   * @param client the client to send the request with
+   * @param request the request
+   * @return the future response, with the whole body
+   */
+  public CompletableFuture<HttpResponse<byte[]>> sendAsync(HttpClient client, HttpRequest request) {
+    if (!GET.equals(request.method())) {
+      return client.sendAsync(request, byte[].class);
+    }
+    Key key = new Key(client, request);
+    while (true) {
+      Entry entry = entries.get(key);
+      if (entry != null) {
+        if (!entry.response.isDone()) {
+          coalesced.increment();
+          return entry.response.thenApply(r -> r);
+        }
+        if (entry.isLive(System.nanoTime())) {
+          cached.increment();
+          return entry.response.thenApply(r -> r);
+        }
+        entries.remove(key, entry);
+        continue;
+      }
+      Entry created = new Entry();
+      if (entries.putIfAbsent(key, created) != null) {
+        continue;
+      }
+      sent.increment();
+      purgeExpired();
+      client.sendAsync(request, byte[].class).whenComplete((response, t) -> {
+        if (t == null && timeToLiveNanos > 0 && HttpResponse.isSuccessful(response.code())) {
+          created.expiresAt = System.nanoTime() + timeToLiveNanos;
+          created.held = true;
+        } else {
+          entries.remove(key, created);
+        }
+        if (t != null) {
+          created.response.completeExceptionally(t);
+        } else {
+          created.response.complete(response);
+        }
+      });
+      // return a dependent future, so that cancellation by one caller does not affect the others
+      return created.response.thenApply(r -> r);
+    }
+  }
+
+  private void purgeExpired() {
+    if (timeToLiveNanos > 0 && entries.size() > PURGE_THRESHOLD) {
+      long now = System.nanoTime();
+      entries.values().removeIf(e -> e.response.isDone() && !e.isLive(now));
+    }
+  }
+
+  /**
+   * @return the number of requests sent
+   */
+  public long getSentCount() {
+    return sent.sum();
+  }
+
+  /**
+   * @return the number of requests that shared the response of an identical in flight request
+   */
+  public long getCoalescedCount() {
+    return coalesced.sum();
+  }
+
+  /**
+   * @return the number of requests answered by a held response
+   */
+  public long getCachedCount() {
+    return cached.sum();
+  }
+
+  private static final class Entry {
+
+    private final CompletableFuture<HttpResponse<byte[]>> response = new CompletableFuture<>();
+    // only held once completed successfully with a time to live
+    private volatile long expiresAt;
+    private volatile boolean held;
+
+    boolean isLive(long now) {
+      return held && expiresAt - now > 0;
+    }
+
+  }
+
+  private static final class Key {
+
+    private final HttpClient client;
+    private final URI uri;
+    private final Map<String, List<String>> headers;
+    private final int hash;
+
+    Key(HttpClient client, HttpRequest request) {
+      this.client = client;
+      this.uri = request.uri();
+      this.headers = request.headers();
+      this.hash = Objects.hash(System.identityHashCode(client), uri, headers);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof Key)) {
+        return false;
+      }
+      Key other = (Key) obj;
+      return client == other.client && uri.equals(other.uri) && headers.equals(other.headers);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+
+  }
+
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.http;
+
+/**
+ * The priority classes of a {@link RequestScheduler}, from the highest to the lowest priority.
+ */
+public enum RequestPriority {
+
+  /**
+   * Watches and other long-running streams, which are never queued or counted against the concurrency limit
+   */
+  WATCH,
+  /**
+   * Creates, updates, patches and deletes of single resources
+   */
+  RECONCILE_WRITE,
+  /**
+   * Gets of single resources, and any other request
+   */
+  READ,
+  /**
+   * Lists of resources
+   */
+  BULK_LIST,
+  /**
+   * Deletes of collections of resources
+   */
+  BULK_DELETE
+
+}
@@ -0,0 +1,340 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.http;
+
+import io.fabric8.kubernetes.client.informers.workqueue.RateLimiter;
+import io.fabric8.kubernetes.client.utils.Utils;
+import lombok.Builder;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A client side scheduler of requests, which limits the concurrency of requests so that bursts of low priority
+ * requests neither get the client throttled by the API server's Priority and Fairness (APF) nor starve the higher
+ * priority requests sharing the same client.
+ * <p>
+ * Each request is classified as a {@link RequestPriority}. Requests over the concurrency limit are queued, and
+ * the highest priority queued request is sent first. The limit adapts by additive increase / multiplicative decrease
+ * (AIMD): it grows by 1 for each limit's worth of successful requests, and halves - at most once per second - when
+ * a request is throttled with a 429.
+ * <p>
+ * Requests are assigned to a server priority level by the X-Kubernetes-PF-PriorityLevel-UID response header. Each
+ * priority level has its own limit, so that throttling of one level does not reduce the concurrency of the others.
+ * <p>
+ * An optional token bucket additionally bounds the rate at which requests are sent.
+ * <p>
+ * A scheduler is configured via {@link io.fabric8.kubernetes.client.Config#setRequestScheduler(RequestScheduler)}, and
+ * is shared by all clients created from that config.
+ */
+public class RequestScheduler {
+
+  public static final String PRIORITY_LEVEL_HEADER = "X-Kubernetes-PF-PriorityLevel-UID";
+  public static final String FLOW_SCHEMA_HEADER = "X-Kubernetes-PF-FlowSchema-UID";
+
+  public static final int DEFAULT_INITIAL_CONCURRENCY = 16;
+  public static final int DEFAULT_MIN_CONCURRENCY = 1;
+  public static final int DEFAULT_MAX_CONCURRENCY = 256;
+
+  // the level of requests sent before any response identified their priority level
+  private static final String UNKNOWN_LEVEL = "";
+  private static final long DECREASE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+  private static final int TOO_MANY_REQUESTS = 429;
+
+  private final int initialConcurrency;
+  private final int minConcurrency;
+  private final int maxConcurrency;
+  private final RateLimiter<RequestPriority> rateLimiter;
+  private final Function<HttpRequest, RequestPriority> classifier;
+  private final Map<String, Limiter> limiters = new ConcurrentHashMap<>();
+  private final Map<RequestPriority, String> levels = new ConcurrentHashMap<>();
+  private final LongAdder throttled = new LongAdder();
+
+  /**
+   * @param initialConcurrency the initial concurrency limit of each priority level
+   * @param minConcurrency the lower bound of the concurrency limit
+   * @param maxConcurrency the upper bound of the concurrency limit
+   * @param qps if set, the rate at which requests may be sent
+   * @param burst the number of requests that may be sent at once when a qps is set, defaults to the qps
+   * @param classifier if set, determines the priority of each request instead of {@link #classify(HttpRequest)}
+   */
+  @Builder
+  private RequestScheduler(Integer initialConcurrency, Integer minConcurrency, Integer maxConcurrency, Double qps,
+      Integer burst, Function<HttpRequest, RequestPriority> classifier) {
+    this.minConcurrency = minConcurrency == null ? DEFAULT_MIN_CONCURRENCY : minConcurrency;
+    this.maxConcurrency = maxConcurrency == null ? DEFAULT_MAX_CONCURRENCY : maxConcurrency;
+    this.initialConcurrency = Math.max(this.minConcurrency,
+        Math.min(this.maxConcurrency, initialConcurrency == null ? DEFAULT_INITIAL_CONCURRENCY : initialConcurrency));
+    if (this.minConcurrency <= 0 || this.minConcurrency > this.maxConcurrency) {
+      throw new IllegalArgumentException("minConcurrency must be positive and no greater than maxConcurrency");
+    }
+    this.rateLimiter = qps == null ? null
+        : RateLimiter.bucket(qps, burst == null ? Math.max(1, (int) Math.ceil(qps)) : burst);
+    this.classifier = classifier == null ? RequestScheduler::classify : classifier;
+  }
+
+  /**
+   * Send the request once a permit is available
+   *
+   * @param request the request
+   * @param action sends the request
+   * @return the response, whose permit is released once its body is done
+   */
+  public CompletableFuture<HttpResponse<AsyncBody>> schedule(HttpRequest request,
+      Supplier<CompletableFuture<HttpResponse<AsyncBody>>> action) {
+    RequestPriority priority = classifier.apply(request);
+    if (priority == RequestPriority.WATCH) {
+      return action.get();
+    }
+    Limiter limiter = limiter(levels.getOrDefault(priority, UNKNOWN_LEVEL));
+    CompletableFuture<Void> permit = limiter.acquire(priority);
+    CompletableFuture<HttpResponse<AsyncBody>> result = new CompletableFuture<>();
+    permit.thenCompose(v -> {
+      Duration delay = rateLimiter == null ? Duration.ZERO : rateLimiter.when(priority);
+      if (delay.isZero()) {
+        return action.get();
+      }
+      return Utils.schedule(Runnable::run, () -> {
+      }, delay.toNanos(), TimeUnit.NANOSECONDS).thenCompose(ignored -> action.get());
+    }).whenComplete((response, t) -> {
+      if (t != null) {
+        if (!permit.isCancelled()) {
+          limiter.release(false);
+        }
+        result.completeExceptionally(t);
+        return;
+      }
+      String level = response.header(PRIORITY_LEVEL_HEADER);
+      if (level != null) {
+        levels.put(priority, level);
+      }
+      boolean tooManyRequests = response.code() == TOO_MANY_REQUESTS;
+      if (tooManyRequests) {
+        throttled.increment();
+      }
+      response.body().done().whenComplete((ignored, e) -> limiter.release(tooManyRequests));
+      if (!result.complete(response)) {
+        response.body().cancel();
+      }
+    });
+    result.whenComplete((r, t) -> {
+      if (result.isCancelled()) {
+        permit.cancel(false);
+      }
+    });
+    return result;
+  }
+
+  private Limiter limiter(String level) {
+    return limiters.computeIfAbsent(level, k -> new Limiter(initialConcurrency, minConcurrency, maxConcurrency));
+  }
+
+  /**
+   * The default classification of requests:
+   * <ul>
+   * <li>watches and other streaming requests - {@link RequestPriority#WATCH}
+   * <li>DELETE of a collection - {@link RequestPriority#BULK_DELETE}
+   * <li>any other POST, PUT, PATCH or DELETE - {@link RequestPriority#RECONCILE_WRITE}
+   * <li>GET of a collection - {@link RequestPriority#BULK_LIST}
+   * <li>any other request - {@link RequestPriority#READ}
+   * </ul>
+   *
+   * @param request the request
+   * @return the priority
+   */
+  public static RequestPriority classify(HttpRequest request) {
+    String query = request.uri().getRawQuery();
+    if ((request instanceof StandardHttpRequest && ((StandardHttpRequest) request).isForStreaming())
+        || (query != null && (query.startsWith("watch=true") || query.contains("&watch=true")))) {
+      return RequestPriority.WATCH;
+    }
+    String method = request.method();
+    boolean collection = isCollection(request.uri().getRawPath());
+    if ("DELETE".equals(method)) {
+      return collection ? RequestPriority.BULK_DELETE : RequestPriority.RECONCILE_WRITE;
+    }
+    if ("POST".equals(method) || "PUT".equals(method) || "PATCH".equals(method)) {
+      return RequestPriority.RECONCILE_WRITE;
+    }
+    return collection ? RequestPriority.BULK_LIST : RequestPriority.READ;
+  }
+
+  /**
+   * @return true if the path is /api/{version}/[namespaces/{namespace}/]{plural}, or the equivalent under /apis/{group}
+   */
+  static boolean isCollection(String path) {
+    if (path == null) {
+      return false;
+    }
+    String[] segments = path.split("/");
+    for (int i = 0; i < segments.length; i++) {
+      int resource;
+      if ("api".equals(segments[i])) {
+        resource = i + 2;
+      } else if ("apis".equals(segments[i])) {
+        resource = i + 3;
+      } else {
+        continue;
+      }
+      if (resource + 2 < segments.length && "namespaces".equals(segments[resource])) {
+        resource += 2;
+      }
+      return resource == segments.length - 1 && !segments[resource].isEmpty();
+    }
+    return false;
+  }
+
+  /**
+   * @param priority the priority
+   * @return the current concurrency limit of the priority level the priority was last assigned to
+   */
+  public double getConcurrencyLimit(RequestPriority priority) {
+    Limiter limiter = limiters.get(levels.getOrDefault(priority, UNKNOWN_LEVEL));
+    return limiter == null ? initialConcurrency : limiter.getLimit();
+  }
+
+  /**
+   * @return the number of requests currently counted against the concurrency limits
+   */
+  public int getInFlight() {
+    return limiters.values().stream().mapToInt(Limiter::getInFlight).sum();
+  }
+
+  /**
+   * @param priority the priority
+   * @return the number of requests of the priority waiting to be sent
+   */
+  public int getQueued(RequestPriority priority) {
+    return limiters.values().stream().mapToInt(l -> l.getQueued(priority)).sum();
+  }
+
+  /**
+   * @return the number of responses throttled with a 429
+   */
+  public long getThrottledCount() {
+    return throttled.sum();
+  }
+
+  /**
+   * @param priority the priority
+   * @return the uid of the server priority level the priority was last assigned to, or null if not yet known
+   */
+  public String getPriorityLevel(RequestPriority priority) {
+    return levels.get(priority);
+  }
+
+  static final class Limiter {
+
+    private final int min;
+    private final int max;
+    private final ArrayDeque<CompletableFuture<Void>>[] waiting;
+    private double limit;
+    private int inFlight;
+    private int queued;
+    private long lastDecrease;
+
+    @SuppressWarnings("unchecked")
+    Limiter(int initial, int min, int max) {
+      this.limit = initial;
+      this.min = min;
+      this.max = max;
+      this.waiting = new ArrayDeque[RequestPriority.values().length];
+      for (int i = 0; i < waiting.length; i++) {
+        waiting[i] = new ArrayDeque<>();
+      }
+      this.lastDecrease = System.nanoTime() - DECREASE_INTERVAL_NANOS;
+    }
+
+    CompletableFuture<Void> acquire(RequestPriority priority) {
+      CompletableFuture<Void> permit = new CompletableFuture<>();
+      synchronized (this) {
+        if (queued > 0 || inFlight >= (int) limit) {
+          waiting[priority.ordinal()].add(permit);
+          queued++;
+          return permit;
+        }
+        inFlight++;
+      }
+      permit.complete(null);
+      return permit;
+    }
+
+    void release(boolean throttled) {
+      synchronized (this) {
+        inFlight--;
+        if (throttled) {
+          long now = System.nanoTime();
+          if (now - lastDecrease >= DECREASE_INTERVAL_NANOS) {
+            limit = Math.max(min, limit / 2);
+            lastDecrease = now;
+          }
+        } else {
+          limit = Math.min(max, limit + 1 / limit);
+        }
+      }
+      grant();
+    }
+
+    private void grant() {
+      while (true) {
+        CompletableFuture<Void> next = null;
+        synchronized (this) {
+          if (inFlight >= (int) limit) {
+            return;
+          }
+          for (ArrayDeque<CompletableFuture<Void>> queue : waiting) {
+            next = queue.poll();
+            if (next != null) {
+              break;
+            }
+          }
+          if (next == null) {
+            return;
+          }
+          queued--;
+          inFlight++;
+        }
+        if (!next.complete(null)) {
+          // cancelled while waiting
+          synchronized (this) {
+            inFlight--;
+          }
+        }
+      }
+    }
+
+    synchronized double getLimit() {
+      return limit;
+    }
+
+    synchronized int getInFlight() {
+      return inFlight;
+    }
+
+    synchronized int getQueued(RequestPriority priority) {
+      return waiting[priority.ordinal()].size();
+    }
+
+  }
+
+}
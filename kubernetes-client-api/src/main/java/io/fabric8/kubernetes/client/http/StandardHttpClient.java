@@ -19,6 +19,7 @@ import io.fabric8.kubernetes.client.RequestConfig;
 import io.fabric8.kubernetes.client.http.AsyncBody.Consumer;
 import io.fabric8.kubernetes.client.http.Interceptor.RequestTags;
 import io.fabric8.kubernetes.client.http.WebSocket.Listener;
+import io.fabric8.kubernetes.client.metrics.ClientMetrics;
 import io.fabric8.kubernetes.client.utils.AsyncUtils;
 import io.fabric8.kubernetes.client.utils.ExponentialBackoffIntervalCalculator;
 import io.fabric8.kubernetes.client.utils.Utils;
@@ -85,11 +86,31 @@ public abstract class StandardHttpClient<C extends HttpClient, F extends HttpCli
   @Override
   public CompletableFuture<HttpResponse<AsyncBody>> consumeBytes(HttpRequest request, Consumer<List<ByteBuffer>> consumer) {
     final StandardHttpRequest standardHttpRequest = (StandardHttpRequest) request;
-    return retryWithExponentialBackoff(
+    final RequestConfig requestConfig = getTag(RequestConfig.class);
+    final RequestScheduler scheduler = requestConfig == null ? null : requestConfig.getRequestScheduler();
+    final ClientMetrics metrics = builder.metrics;
+    final boolean measured = metrics.isEnabled();
+    final long start = measured ? System.nanoTime() : 0;
+    final Consumer<List<ByteBuffer>> effectiveConsumer = measured ? new CountingConsumer(consumer, metrics) : consumer;
+    if (measured) {
+      metrics.requestStarted(standardHttpRequest.method());
+    }
+    CompletableFuture<HttpResponse<AsyncBody>> result = retryWithExponentialBackoff(
         standardHttpRequest,
-        () -> consumeBytesOnce(standardHttpRequest, consumer),
+        scheduler == null ? () -> consumeBytesOnce(standardHttpRequest, effectiveConsumer)
+            : () -> scheduler.schedule(standardHttpRequest, () -> consumeBytesOnce(standardHttpRequest, effectiveConsumer)),
         r -> r.body().cancel(),
         r -> r);
+    if (measured) {
+      result.whenComplete((r, t) -> {
+        if (t != null) {
+          metrics.requestFailed(standardHttpRequest.method(), unwrapCompletionException(t), System.nanoTime() - start);
+        } else {
+          metrics.requestCompleted(standardHttpRequest.method(), r.code(), System.nanoTime() - start);
+        }
+      });
+    }
+    return result;
   }
 
   private CompletableFuture<HttpResponse<AsyncBody>> consumeBytesOnce(StandardHttpRequest standardHttpRequest,
@@ -132,6 +153,33 @@ public abstract class StandardHttpClient<C extends HttpClient, F extends HttpCli
     return cf;
   }
 
+  private static final class CountingConsumer implements Consumer<List<ByteBuffer>> {
+
+    private final Consumer<List<ByteBuffer>> delegate;
+    private final ClientMetrics metrics;
+
+    private CountingConsumer(Consumer<List<ByteBuffer>> delegate, ClientMetrics metrics) {
+      this.delegate = delegate;
+      this.metrics = metrics;
+    }
+
+    @Override
+    public void consume(List<ByteBuffer> value, AsyncBody asyncBody) throws Exception {
+      long bytes = 0;
+      for (int i = 0; i < value.size(); i++) {
+        bytes += value.get(i).remaining();
+      }
+      metrics.bytesReceived(bytes);
+      delegate.consume(value, asyncBody);
+    }
+
+    @Override
+    public <U> U unwrap(Class<U> target) {
+      return Optional.ofNullable(Consumer.super.unwrap(target)).orElse(delegate.unwrap(target));
+    }
+
+  }
+
   private static <V> BiConsumer<? super V, ? super Throwable> completeOrCancel(java.util.function.Consumer<V> cancel,
       final CompletableFuture<V> result) {
     return (r, t) -> {
@@ -162,7 +210,11 @@ public abstract class StandardHttpClient<C extends HttpClient, F extends HttpCli
     }
     return AsyncUtils.retryWithExponentialBackoff(action, onCancel, timeout, retryIntervalCalculator,
         (response, throwable, retryInterval) -> {
-          return shouldRetry(request, responseExtractor, response, throwable, retryInterval);
+          long result = shouldRetry(request, responseExtractor, response, throwable, retryInterval);
+          if (result >= 0) {
+            builder.metrics.requestRetried(request.method());
+          }
+          return result;
         });
   }
 
@@ -18,6 +18,7 @@ package io.fabric8.kubernetes.client.http;
 import io.fabric8.kubernetes.client.http.HttpClient.DerivedClientBuilder;
 import io.fabric8.kubernetes.client.http.HttpClient.ProxyType;
 import io.fabric8.kubernetes.client.internal.SSLUtils;
+import io.fabric8.kubernetes.client.metrics.ClientMetrics;
 import lombok.Getter;
 import org.slf4j.LoggerFactory;
 
@@ -42,6 +43,8 @@ public abstract class StandardHttpClientBuilder<C extends HttpClient, F extends
   protected InetSocketAddress proxyAddress;
   protected boolean followRedirects;
   protected boolean preferHttp11;
+  protected Http2Settings http2Settings;
+  protected ClientMetrics metrics = ClientMetrics.NOOP;
   protected TlsVersion[] tlsVersions;
   protected boolean authenticatorNone;
   protected C client;
@@ -125,6 +128,18 @@ public abstract class StandardHttpClientBuilder<C extends HttpClient, F extends
     return (T) this;
   }
 
+  @Override
+  public T http2(Http2Settings settings) {
+    this.http2Settings = settings;
+    return (T) this;
+  }
+
+  @Override
+  public T metrics(ClientMetrics metrics) {
+    this.metrics = metrics == null ? ClientMetrics.NOOP : metrics;
+    return (T) this;
+  }
+
   public T clientFactory(F clientFactory) {
     this.clientFactory = clientFactory;
     return (T) this;
@@ -151,6 +166,8 @@ public abstract class StandardHttpClientBuilder<C extends HttpClient, F extends
     copy.proxyAuthorization = this.proxyAuthorization;
     copy.tlsVersions = this.tlsVersions;
     copy.preferHttp11 = this.preferHttp11;
+    copy.http2Settings = this.http2Settings;
+    copy.metrics = this.metrics;
     copy.followRedirects = this.followRedirects;
     copy.authenticatorNone = this.authenticatorNone;
     copy.client = client;
@@ -0,0 +1,104 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.http;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static io.fabric8.kubernetes.client.http.BufferUtil.toArray;
+
+/**
+ * Sends a request and passes the body of a successful response to a {@link Feed} as it arrives, rather than
+ * aggregating it first.
+ * <br>
+ * The body of an unsuccessful response is aggregated as usual, and is available via
+ * {@link HttpResponse#bodyString()}, while {@link HttpResponse#body()} is null.
+ */
+public final class StreamingBodyHandler {
+
+  /**
+   * Incrementally consumes a body to produce a result
+   *
+   * @param <T> the result type
+   */
+  public interface Feed<T> {
+
+    /**
+     * Consume the next chunk of the body. Called serially, the buffer must be fully consumed.
+     */
+    void feed(ByteBuffer buffer) throws Exception;
+
+    /**
+     * Called once the body has ended
+     *
+     * @return the result
+     */
+    T complete() throws Exception;
+
+  }
+
+  private StreamingBodyHandler() {
+    // just utils
+  }
+
+  public static <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpClient client, HttpRequest request, Feed<T> feed) {
+    List<ByteBuffer> unsuccessfulBody = Collections.synchronizedList(new ArrayList<>());
+    AtomicBoolean successful = new AtomicBoolean();
+    CompletableFuture<HttpResponse<AsyncBody>> futureResponse = client.consumeBytes(request, (buffers, asyncBody) -> {
+      if (successful.get()) {
+        for (ByteBuffer buffer : buffers) {
+          feed.feed(buffer);
+        }
+      } else {
+        unsuccessfulBody.addAll(buffers);
+      }
+      asyncBody.consume();
+    });
+    return futureResponse.thenCompose(res -> {
+      // set before the body is consumed
+      successful.set(res.isSuccessful());
+      AsyncBody asyncBody = res.body();
+      CompletableFuture<HttpResponse<T>> result = asyncBody.done().thenApply(v -> {
+        if (!successful.get()) {
+          byte[] bytes;
+          synchronized (unsuccessfulBody) {
+            bytes = toArray(unsuccessfulBody);
+          }
+          return new HttpResponseAdapter<T>(res, null) {
+            @Override
+            public String bodyString() {
+              return new String(bytes, StandardCharsets.UTF_8);
+            }
+          };
+        }
+        try {
+          return new HttpResponseAdapter<>(res, feed.complete());
+        } catch (Exception e) {
+          throw new CompletionException(e);
+        }
+      });
+      asyncBody.consume();
+      return result;
+    });
+  }
+
+}
@@ -58,6 +58,20 @@ public interface ResourceEventHandler<T> {
    */
   void onUpdate(T oldObj, T newObj);
 
+  /**
+   * Called instead of {@link #onUpdate(Object, Object)} when a resync happens, in which case the object is unchanged.
+   * <p>
+   * By default calls {@link #onUpdate(Object, Object)} with the object as both the old and new object. Override with a
+   * no-op to opt out of resync events for unchanged objects.
+   * <p>
+   * Should not be implemented with long-running logic as that may lead to memory issues.
+   *
+   * @param obj the unchanged object
+   */
+  default void onResync(T obj) {
+    onUpdate(obj, obj);
+  }
+
   /**
    * Gets the final state of the item if it is known, otherwise
    * it would get an object of the DeletedFinalStateUnknown. This can
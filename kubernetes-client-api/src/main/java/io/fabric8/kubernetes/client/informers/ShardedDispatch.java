@@ -0,0 +1,157 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers;
+
+/**
+ * Configures an informer to dispatch events on multiple serial lanes rather than on a single one,
+ * see {@link SharedIndexInformer#shardedDispatch(ShardedDispatch)}.
+ * <p>
+ * Each object key is hashed to a lane, so the events for an object are delivered in order, while events for
+ * distinct objects may be delivered concurrently. Event handlers must therefore be thread-safe.
+ */
+public final class ShardedDispatch {
+
+  public static final int DEFAULT_LANE_CAPACITY = 1024;
+
+  public enum Threads {
+    /**
+     * Run the lanes on the client's executor
+     */
+    SHARED,
+    /**
+     * Run the lanes on virtual threads. Requires Java 21+
+     */
+    VIRTUAL
+  }
+
+  private final int lanes;
+  private final int laneCapacity;
+  private final Threads threads;
+
+  private ShardedDispatch(int lanes, int laneCapacity, Threads threads) {
+    if (lanes < 1) {
+      throw new IllegalArgumentException("lanes must be positive");
+    }
+    if (laneCapacity < 1) {
+      throw new IllegalArgumentException("laneCapacity must be positive");
+    }
+    this.lanes = lanes;
+    this.laneCapacity = laneCapacity;
+    this.threads = threads;
+  }
+
+  /**
+   * @param lanes the number of serial lanes
+   * @return the configuration using the client's executor and the default lane capacity
+   */
+  public static ShardedDispatch lanes(int lanes) {
+    return new ShardedDispatch(lanes, DEFAULT_LANE_CAPACITY, Threads.SHARED);
+  }
+
+  /**
+   * Set the number of queued events at which a lane applies backpressure - that is the informer
+   * waits for the lane to process events before queuing more.
+   * <p>
+   * Events from resyncs are never held back, so lanes may temporarily exceed their capacity.
+   */
+  public ShardedDispatch withLaneCapacity(int laneCapacity) {
+    return new ShardedDispatch(lanes, laneCapacity, threads);
+  }
+
+  public ShardedDispatch withThreads(Threads threads) {
+    return new ShardedDispatch(lanes, laneCapacity, threads);
+  }
+
+  public int getLanes() {
+    return lanes;
+  }
+
+  public int getLaneCapacity() {
+    return laneCapacity;
+  }
+
+  public Threads getThreads() {
+    return threads;
+  }
+
+  /**
+   * Point in time statistics of a lane
+   */
+  public static final class LaneStatistics {
+
+    private final int lane;
+    private final int queued;
+    private final int maxQueued;
+    private final long dispatched;
+    private final long blocked;
+    private final long blockedNanos;
+
+    public LaneStatistics(int lane, int queued, int maxQueued, long dispatched, long blocked, long blockedNanos) {
+      this.lane = lane;
+      this.queued = queued;
+      this.maxQueued = maxQueued;
+      this.dispatched = dispatched;
+      this.blocked = blocked;
+      this.blockedNanos = blockedNanos;
+    }
+
+    public int getLane() {
+      return lane;
+    }
+
+    /**
+     * @return the number of events currently queued or being processed
+     */
+    public int getQueued() {
+      return queued;
+    }
+
+    /**
+     * @return the highest number of events that have been queued at once
+     */
+    public int getMaxQueued() {
+      return maxQueued;
+    }
+
+    /**
+     * @return the total number of events queued
+     */
+    public long getDispatched() {
+      return dispatched;
+    }
+
+    /**
+     * @return the number of times the informer had to wait for the lane to have capacity
+     */
+    public long getBlocked() {
+      return blocked;
+    }
+
+    /**
+     * @return the total time the informer waited for the lane to have capacity
+     */
+    public long getBlockedNanos() {
+      return blockedNanos;
+    }
+
+    @Override
+    public String toString() {
+      return String.format("LaneStatistics[lane=%d, queued=%d, maxQueued=%d, dispatched=%d, blocked=%d, blockedNanos=%d]",
+          lane, queued, maxQueued, dispatched, blocked, blockedNanos);
+    }
+  }
+
+}
@@ -17,10 +17,15 @@ package io.fabric8.kubernetes.client.informers;
 
 import io.fabric8.kubernetes.client.WatcherException;
 import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.fabric8.kubernetes.client.informers.cache.CacheSnapshot;
 import io.fabric8.kubernetes.client.informers.cache.Indexer;
 import io.fabric8.kubernetes.client.informers.cache.ItemStore;
 import io.fabric8.kubernetes.client.informers.cache.Store;
+import io.fabric8.kubernetes.client.informers.workqueue.WorkQueue;
+import io.fabric8.kubernetes.client.informers.workqueue.WorkQueueEventHandler;
+import io.fabric8.kubernetes.client.informers.workqueue.WorkerPool;
 
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletionStage;
@@ -93,6 +98,21 @@ public interface SharedIndexInformer<T> extends AutoCloseable {
   SharedIndexInformer<T> addEventHandlerWithResyncPeriod(ResourceEventHandler<? super T> handle,
       long resyncPeriod);
 
+  /**
+   * Add an event handler that adds the key of each notified object to the queue, rather than handling
+   * the events directly. Repeated events for an object are coalesced while its key is waiting in the queue.
+   * <p>
+   * The keys may be processed with a {@link WorkerPool}, and resolved via {@link #getStore()}.
+   *
+   * @param queue the queue
+   * @return the registered handler, which may be passed to {@link #removeEventHandler(ResourceEventHandler)}
+   */
+  default ResourceEventHandler<T> addWorkQueue(WorkQueue<String> queue) {
+    ResourceEventHandler<T> handler = new WorkQueueEventHandler<>(obj -> getIndexer().getKey(obj), queue);
+    addEventHandler(handler);
+    return handler;
+  }
+
   /**
    * Starts the shared informer, which will be stopped when {@link #stop()} is called.
    *
@@ -174,8 +194,83 @@ public interface SharedIndexInformer<T> extends AutoCloseable {
    */
   SharedIndexInformer<T> initialState(Stream<T> items);
 
+  /**
+   * Persist the store and the last synced resourceVersion to the file when the informer is stopped, including
+   * when the client is closed. When started, an informer restores the store from an existing file written for the same
+   * resource and endpoint, and resumes with a watch from the persisted resourceVersion rather than a list. If the
+   * resourceVersion is too old, the informer relists.
+   * <br>
+   * The items are written as JSON lines. The file should not be shared by informers with different selectors.
+   * <br>
+   * Ignored if {@link #initialState(Stream)} is used. Can only be called before the informer is running
+   *
+   * @param file the file to persist to and restore from
+   * @return this
+   */
+  SharedIndexInformer<T> persistTo(Path file);
+
   SharedIndexInformer<T> itemStore(ItemStore<T> itemStore);
 
+  /**
+   * Hold the store state in immutable persistent structures so that {@link #snapshot()} can provide
+   * consistent views without copying, and so that reads never contend with the informer's writes.
+   * <br>
+   * The {@link ItemStore}, if set, must hold the full state.
+   * <br>
+   * Can only be called before the informer is running
+   *
+   * @return this
+   */
+  SharedIndexInformer<T> enableSnapshots();
+
+  /**
+   * Return a consistent, point-in-time view of the store and all of its indices.
+   *
+   * @return the current snapshot
+   * @throws IllegalStateException if {@link #enableSnapshots()} was not called
+   */
+  CacheSnapshot<T> snapshot();
+
+  /**
+   * Deliver events on multiple serial lanes, selected by object key, rather than on a single one. Events
+   * for the same object remain ordered, while a slow handler only delays the events of its lane.
+   * <br>
+   * Event handlers must be thread-safe.
+   * <br>
+   * Can only be called before the informer is running
+   *
+   * @param dispatch the lane configuration
+   * @return this
+   */
+  SharedIndexInformer<T> shardedDispatch(ShardedDispatch dispatch);
+
+  /**
+   * @return the statistics of each dispatch lane, or an empty list if {@link #shardedDispatch(ShardedDispatch)}
+   *         was not called
+   */
+  List<ShardedDispatch.LaneStatistics> getLaneStatistics();
+
+  /**
+   * Spread each resync over the resync period, rather than resyncing every item at once. The keys to resync are
+   * taken at the start of each period and split into the given number of slices, one of which is resynced per
+   * tick. The first tick is randomly delayed by up to one tick, so that informers started together do not
+   * resync together.
+   * <br>
+   * Handlers may ignore resyncs by overriding {@link ResourceEventHandler#onResync(Object)}.
+   * <br>
+   * Can only be called before the informer is running
+   *
+   * @param slices the number of ticks per resync period
+   * @return this
+   */
+  SharedIndexInformer<T> incrementalResync(int slices);
+
+  /**
+   * @return the time from when the most recent resync tick was due, until all of its events were delivered
+   *         to the handlers, or 0 if no resync has completed
+   */
+  long getResyncLagMillis();
+
   /**
    * A non-blocking alternative to run. Starts the shared informer, which will normally be stopped when {@link #stop()} is
    * called.
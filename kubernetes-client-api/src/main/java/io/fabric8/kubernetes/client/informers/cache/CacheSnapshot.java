@@ -0,0 +1,73 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers.cache;
+
+import java.util.Collection;
+
+/**
+ * An immutable, point-in-time view of a {@link Cache} and all of its indices.
+ * <p>
+ * Unlike reads directly against the {@link Cache}, every read against the same snapshot is consistent
+ * with every other read - including reads across different indices. Subsequent changes to the cache are not
+ * visible.
+ * <p>
+ * The returned collections are unmodifiable views of the snapshot state, they are not copied.
+ *
+ * @param <T> type for cache object
+ */
+public interface CacheSnapshot<T> {
+
+  /**
+   * Gets the object for the given key
+   *
+   * @param key specific key
+   * @return the object or null if not present in the snapshot
+   */
+  T getByKey(String key);
+
+  /**
+   * List all objects in the snapshot.
+   *
+   * @return an unmodifiable view of the objects
+   */
+  Collection<T> list();
+
+  /**
+   * List all keys in the snapshot.
+   *
+   * @return an unmodifiable view of the keys
+   */
+  Collection<String> listKeys();
+
+  /**
+   * Lists objects that match on the named indexing function with the exact key.
+   *
+   * @param indexName specific indexing function
+   * @param indexKey specific index key
+   * @return an unmodifiable view of the matched objects
+   */
+  Collection<T> byIndex(String indexName, String indexKey);
+
+  /**
+   * Returns the set of keys that match on the named indexing function.
+   *
+   * @param indexName specific indexing function
+   * @param indexKey specific index key
+   * @return an unmodifiable view of the matched keys
+   */
+  Collection<String> indexKeys(String indexName, String indexKey);
+
+}
@@ -15,9 +15,16 @@
  */
 package io.fabric8.kubernetes.client.informers.cache;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Indexer extends Store interface and add index/de-index methods.
@@ -56,6 +63,28 @@ public interface Indexer<T> extends Store<T> {
    */
   List<T> byIndex(String indexName, String indexKey);
 
+  /**
+   * Lists objects that match on every one of the named indexing functions with the respective exact key.
+   * <br>
+   * For example the intersection of a namespace and a label index.
+   *
+   * @param indexKeys map of index name to the specific index key
+   * @return matched objects
+   */
+  default List<T> byIndices(Map<String, String> indexKeys) {
+    Iterator<Map.Entry<String, String>> entries = indexKeys.entrySet().iterator();
+    if (!entries.hasNext()) {
+      return new ArrayList<>();
+    }
+    Map.Entry<String, String> first = entries.next();
+    Set<String> keys = new LinkedHashSet<>(indexKeys(first.getKey(), first.getValue()));
+    while (entries.hasNext() && !keys.isEmpty()) {
+      Map.Entry<String, String> entry = entries.next();
+      keys.retainAll(new HashSet<>(indexKeys(entry.getKey(), entry.getValue())));
+    }
+    return keys.stream().map(this::getByKey).filter(Objects::nonNull).collect(Collectors.toList());
+  }
+
   /**
    * Return the indexers registered with the store.
    *
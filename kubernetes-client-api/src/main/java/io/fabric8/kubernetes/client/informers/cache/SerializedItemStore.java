@@ -0,0 +1,174 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers.cache;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.utils.KubernetesSerialization;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * By default an informer stores every item that exists as a graph of model objects.
+ * If that is too much memory for your application, but you still need the full state
+ * of each item, you may instead store each item as its serialized JSON bytes.
+ * <p>
+ * Items are deserialized on access. The most recently accessed items are additionally held as
+ * objects, so that repeated access to the same items does not need to deserialize them again.
+ * <p>
+ * NOTE: unless held as objects, each access returns a new instance. Modifications to the returned
+ * objects are not reflected in the store.
+ */
+public class SerializedItemStore<V extends HasMetadata> implements ItemStore<V> {
+
+  public static final int DEFAULT_MATERIALIZED_SIZE = 256;
+
+  private final ConcurrentHashMap<String, byte[]> store = new ConcurrentHashMap<>();
+  private final Map<String, V> materialized;
+  private final AtomicLong serializedBytes = new AtomicLong();
+  private final Function<V, String> keyFunction;
+  private final Class<V> typeClass;
+  private final KubernetesSerialization serialization;
+
+  /**
+   * Create a serialized store using the namespace/name key function and a default number of held objects
+   *
+   * @param typeClass the expected type
+   * @param serialization the serialization to use
+   */
+  public SerializedItemStore(Class<V> typeClass, KubernetesSerialization serialization) {
+    this(Cache::metaNamespaceKeyFunc, typeClass, serialization, DEFAULT_MATERIALIZED_SIZE);
+  }
+
+  /**
+   * Create a serialized store.
+   * <p>
+   * The key function should match the keyFunction provided to the informer.
+   *
+   * @param keyFunction to compute the key of an item
+   * @param typeClass the expected type
+   * @param serialization the serialization to use
+   * @param materializedSize the number of most recently accessed items to additionally hold as objects, may be 0
+   */
+  public SerializedItemStore(Function<V, String> keyFunction, Class<V> typeClass, KubernetesSerialization serialization,
+      int materializedSize) {
+    if (materializedSize < 0) {
+      throw new IllegalArgumentException("materializedSize must be non-negative");
+    }
+    this.keyFunction = keyFunction;
+    this.typeClass = typeClass;
+    this.serialization = serialization;
+    this.materialized = Collections.synchronizedMap(new LinkedHashMap<String, V>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, V> eldest) {
+        return size() > materializedSize;
+      }
+    });
+  }
+
+  byte[] store(V value) {
+    if (value == null) {
+      return null;
+    }
+    return serialization.asJsonBytes(value);
+  }
+
+  V restore(byte[] value) {
+    if (value == null) {
+      return null;
+    }
+    return serialization.unmarshalJson(value, typeClass);
+  }
+
+  @Override
+  public String getKey(V obj) {
+    return keyFunction.apply(obj);
+  }
+
+  @Override
+  public V put(String key, V obj) {
+    byte[] bytes = store(obj);
+    // the bytes are replaced first, so that a concurrent get can't hold the old object afterwards
+    byte[] oldBytes = this.store.put(key, bytes);
+    V old = materialized.put(key, obj);
+    serializedBytes.addAndGet(bytes.length - (oldBytes == null ? 0 : oldBytes.length));
+    return old != null ? old : restore(oldBytes);
+  }
+
+  @Override
+  public V remove(String key) {
+    byte[] oldBytes = this.store.remove(key);
+    V old = materialized.remove(key);
+    if (oldBytes == null) {
+      return null;
+    }
+    serializedBytes.addAndGet(-oldBytes.length);
+    return old != null ? old : restore(oldBytes);
+  }
+
+  @Override
+  public Stream<String> keySet() {
+    return store.keySet().stream();
+  }
+
+  @Override
+  public Stream<V> values() {
+    return store.entrySet().stream().map(e -> {
+      V result = materialized.get(e.getKey());
+      return result != null ? result : restore(e.getValue());
+    });
+  }
+
+  @Override
+  public V get(String key) {
+    V result = materialized.get(key);
+    if (result != null) {
+      return result;
+    }
+    byte[] bytes = store.get(key);
+    if (bytes == null) {
+      return null;
+    }
+    V restored = restore(bytes);
+    // only hold if it was not concurrently modified - checked while holding the map, as
+    // modifications change the bytes before the held objects
+    result = materialized.compute(key, (k, held) -> {
+      if (held != null) {
+        return held;
+      }
+      return store.get(key) == bytes ? restored : null;
+    });
+    return result != null ? result : restored;
+  }
+
+  @Override
+  public int size() {
+    return store.size();
+  }
+
+  /**
+   * @return the total size of the serialized items in bytes
+   */
+  public long getSerializedBytes() {
+    return serializedBytes.get();
+  }
+
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers.workqueue;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+class BucketRateLimiter<K> implements RateLimiter<K> {
+
+  private final double tokensPerNano;
+  private final int burst;
+  private double tokens;
+  private long last;
+
+  BucketRateLimiter(double qps, int burst) {
+    if (qps <= 0 || burst <= 0) {
+      throw new IllegalArgumentException("qps and burst must be positive");
+    }
+    this.tokensPerNano = qps / TimeUnit.SECONDS.toNanos(1);
+    this.burst = burst;
+    this.tokens = burst;
+    this.last = System.nanoTime();
+  }
+
+  @Override
+  public synchronized Duration when(K key) {
+    long now = System.nanoTime();
+    tokens = Math.min(burst, tokens + (now - last) * tokensPerNano);
+    last = now;
+    // reserve a token, possibly going into debt
+    tokens--;
+    if (tokens >= 0) {
+      return Duration.ZERO;
+    }
+    return Duration.ofNanos((long) Math.ceil(-tokens / tokensPerNano));
+  }
+
+  @Override
+  public void forget(K key) {
+    // not tracked per key
+  }
+
+  @Override
+  public int numRequeues(K key) {
+    return 0;
+  }
+
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers.workqueue;
+
+import io.fabric8.kubernetes.client.utils.Utils;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The default {@link RateLimitingQueue}.
+ * <p>
+ * Delayed keys are held until they are ready, with at most one pending delay per key, and are then added
+ * with the usual deduplication.
+ *
+ * @param <K> the key type
+ */
+public class DefaultRateLimitingQueue<K> implements RateLimitingQueue<K> {
+
+  private static final class Waiting {
+    private final long readyAt;
+    private final CompletableFuture<Void> future;
+
+    private Waiting(long readyAt, CompletableFuture<Void> future) {
+      this.readyAt = readyAt;
+      this.future = future;
+    }
+  }
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition notEmpty = lock.newCondition();
+  private final ArrayDeque<K> queue = new ArrayDeque<>();
+  // keys that need processing, either queued or to be queued once done
+  private final Set<K> dirty = new HashSet<>();
+  private final Set<K> processing = new HashSet<>();
+  private final Map<K, Waiting> waiting = new HashMap<>();
+  private final RateLimiter<K> rateLimiter;
+  private boolean shuttingDown;
+
+  /**
+   * Create a queue using {@link RateLimiter#defaultControllerRateLimiter()}
+   */
+  public DefaultRateLimitingQueue() {
+    this(RateLimiter.defaultControllerRateLimiter());
+  }
+
+  public DefaultRateLimitingQueue(RateLimiter<K> rateLimiter) {
+    this.rateLimiter = rateLimiter;
+  }
+
+  @Override
+  public void add(K key) {
+    lock.lock();
+    try {
+      if (shuttingDown || !dirty.add(key)) {
+        return;
+      }
+      if (processing.contains(key)) {
+        // requeued by done
+        return;
+      }
+      queue.add(key);
+      notEmpty.signal();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public K get() throws InterruptedException {
+    lock.lock();
+    try {
+      while (queue.isEmpty() && !shuttingDown) {
+        notEmpty.await();
+      }
+      K key = queue.poll();
+      if (key == null) {
+        return null;
+      }
+      processing.add(key);
+      dirty.remove(key);
+      return key;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public void done(K key) {
+    lock.lock();
+    try {
+      processing.remove(key);
+      if (dirty.contains(key)) {
+        queue.add(key);
+        notEmpty.signal();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public int len() {
+    lock.lock();
+    try {
+      return queue.size();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public void shutDown() {
+    lock.lock();
+    try {
+      shuttingDown = true;
+      waiting.values().forEach(w -> w.future.cancel(true));
+      waiting.clear();
+      notEmpty.signalAll();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public boolean isShuttingDown() {
+    lock.lock();
+    try {
+      return shuttingDown;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public void addAfter(K key, Duration delay) {
+    if (delay.isNegative() || delay.isZero()) {
+      add(key);
+      return;
+    }
+    long delayNanos = delay.toNanos();
+    long readyAt = System.nanoTime() + delayNanos;
+    lock.lock();
+    try {
+      if (shuttingDown) {
+        return;
+      }
+      Waiting existing = waiting.get(key);
+      if (existing != null && existing.readyAt - readyAt <= 0) {
+        return;
+      }
+      if (existing != null) {
+        existing.future.cancel(true);
+      }
+      Waiting[] scheduled = new Waiting[1];
+      CompletableFuture<Void> future = Utils.schedule(Runnable::run, () -> ready(key, scheduled), delayNanos,
+          TimeUnit.NANOSECONDS);
+      scheduled[0] = new Waiting(readyAt, future);
+      waiting.put(key, scheduled[0]);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void ready(K key, Waiting[] scheduled) {
+    lock.lock();
+    try {
+      // only add if not superseded by an earlier delay
+      if (!waiting.remove(key, scheduled[0])) {
+        return;
+      }
+    } finally {
+      lock.unlock();
+    }
+    add(key);
+  }
+
+  @Override
+  public void addRateLimited(K key) {
+    addAfter(key, rateLimiter.when(key));
+  }
+
+  @Override
+  public void forget(K key) {
+    rateLimiter.forget(key);
+  }
+
+  @Override
+  public int numRequeues(K key) {
+    return rateLimiter.numRequeues(key);
+  }
+
+}
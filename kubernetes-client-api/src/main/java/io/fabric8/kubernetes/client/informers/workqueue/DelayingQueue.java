@@ -0,0 +1,36 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers.workqueue;
+
+import java.time.Duration;
+
+/**
+ * A {@link WorkQueue} that can also add keys after a delay
+ *
+ * @param <K> the key type
+ */
+public interface DelayingQueue<K> extends WorkQueue<K> {
+
+  /**
+   * Add the key once the delay has passed. If the key is already waiting for a delay, it is added at
+   * the earlier of the two times.
+   *
+   * @param key the key
+   * @param delay the delay, a zero or negative delay adds the key immediately
+   */
+  void addAfter(K key, Duration delay);
+
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers.workqueue;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+class ExponentialFailureRateLimiter<K> implements RateLimiter<K> {
+
+  private final Map<K, Integer> failures = new ConcurrentHashMap<>();
+  private final long baseNanos;
+  private final long maxNanos;
+
+  ExponentialFailureRateLimiter(Duration baseDelay, Duration maxDelay) {
+    if (baseDelay.isNegative() || maxDelay.compareTo(baseDelay) < 0) {
+      throw new IllegalArgumentException("baseDelay must be non-negative and not greater than maxDelay");
+    }
+    this.baseNanos = baseDelay.toNanos();
+    this.maxNanos = maxDelay.toNanos();
+  }
+
+  @Override
+  public Duration when(K key) {
+    int exp = failures.merge(key, 1, Integer::sum) - 1;
+    long delay = maxNanos;
+    // guard against overflow
+    if (exp < 63 && baseNanos <= (maxNanos >> exp)) {
+      delay = baseNanos << exp;
+    }
+    return Duration.ofNanos(delay);
+  }
+
+  @Override
+  public void forget(K key) {
+    failures.remove(key);
+  }
+
+  @Override
+  public int numRequeues(K key) {
+    return failures.getOrDefault(key, 0);
+  }
+
+}
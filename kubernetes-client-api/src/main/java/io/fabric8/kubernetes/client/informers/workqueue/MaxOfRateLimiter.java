@@ -0,0 +1,56 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers.workqueue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+class MaxOfRateLimiter<K> implements RateLimiter<K> {
+
+  private final List<RateLimiter<K>> limiters;
+
+  MaxOfRateLimiter(List<RateLimiter<K>> limiters) {
+    if (limiters.isEmpty()) {
+      throw new IllegalArgumentException("at least one rate limiter is required");
+    }
+    this.limiters = new ArrayList<>(limiters);
+  }
+
+  @Override
+  public Duration when(K key) {
+    Duration result = Duration.ZERO;
+    // every limiter must be called to record the attempt
+    for (RateLimiter<K> limiter : limiters) {
+      Duration when = limiter.when(key);
+      if (when.compareTo(result) > 0) {
+        result = when;
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public void forget(K key) {
+    limiters.forEach(l -> l.forget(key));
+  }
+
+  @Override
+  public int numRequeues(K key) {
+    return limiters.stream().mapToInt(l -> l.numRequeues(key)).max().orElse(0);
+  }
+
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers.workqueue;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * Determines how long a key should wait before it is added to a {@link RateLimitingQueue}
+ *
+ * @param <K> the key type
+ */
+public interface RateLimiter<K> {
+
+  /**
+   * Called each time the key is rate limited
+   *
+   * @param key the key
+   * @return how long the key should wait
+   */
+  Duration when(K key);
+
+  /**
+   * Stop tracking the key
+   *
+   * @param key the key
+   */
+  void forget(K key);
+
+  /**
+   * @param key the key
+   * @return the number of times the key has been rate limited since it was last forgotten
+   */
+  int numRequeues(K key);
+
+  /**
+   * A per key exponential backoff - the nth failure of a key waits baseDelay * 2^(n-1), up to maxDelay
+   *
+   * @param baseDelay the delay of the first failure
+   * @param maxDelay the maximum delay
+   * @return the rate limiter
+   */
+  static <K> RateLimiter<K> exponential(Duration baseDelay, Duration maxDelay) {
+    return new ExponentialFailureRateLimiter<>(baseDelay, maxDelay);
+  }
+
+  /**
+   * An overall token bucket, shared by all keys
+   *
+   * @param qps the rate at which tokens are replenished per second
+   * @param burst the maximum number of tokens
+   * @return the rate limiter
+   */
+  static <K> RateLimiter<K> bucket(double qps, int burst) {
+    return new BucketRateLimiter<>(qps, burst);
+  }
+
+  /**
+   * Combine rate limiters, the longest delay applies
+   *
+   * @param limiters the limiters to combine
+   * @return the rate limiter
+   */
+  @SafeVarargs
+  static <K> RateLimiter<K> maxOf(RateLimiter<K>... limiters) {
+    return new MaxOfRateLimiter<>(Arrays.asList(limiters));
+  }
+
+  /**
+   * The client-go default: a per key exponential backoff from 5ms to 1000s, combined with an overall
+   * limit of 10 qps with a burst of 100
+   *
+   * @return the rate limiter
+   */
+  static <K> RateLimiter<K> defaultControllerRateLimiter() {
+    return maxOf(exponential(Duration.ofMillis(5), Duration.ofSeconds(1000)), bucket(10, 100));
+  }
+
+}
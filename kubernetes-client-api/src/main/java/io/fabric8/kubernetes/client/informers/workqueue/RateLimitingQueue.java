@@ -0,0 +1,48 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers.workqueue;
+
+/**
+ * A {@link DelayingQueue} that delays keys by a {@link RateLimiter}, typically to back off retries of a
+ * failing key.
+ *
+ * @param <K> the key type
+ */
+public interface RateLimitingQueue<K> extends DelayingQueue<K> {
+
+  /**
+   * Add the key once the rate limiter allows it
+   *
+   * @param key the key
+   */
+  void addRateLimited(K key);
+
+  /**
+   * Stop tracking the key in the rate limiter, typically once it has been successfully processed.
+   * <br>
+   * This only clears the rate limiter, the key is still to be marked {@link #done(Object)}
+   *
+   * @param key the key
+   */
+  void forget(K key);
+
+  /**
+   * @param key the key
+   * @return the number of times the key has been rate limited since it was last forgotten
+   */
+  int numRequeues(K key);
+
+}
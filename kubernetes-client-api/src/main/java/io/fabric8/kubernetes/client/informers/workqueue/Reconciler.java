@@ -0,0 +1,34 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers.workqueue;
+
+/**
+ * Processes a single key from a {@link WorkQueue}, see {@link WorkerPool}
+ *
+ * @param <K> the key type
+ */
+@FunctionalInterface
+public interface Reconciler<K> {
+
+  /**
+   * Reconcile the key. If an exception is thrown, the key is added back to the queue rate limited.
+   *
+   * @param key the key
+   * @throws Exception if the key should be retried
+   */
+  void reconcile(K key) throws Exception;
+
+}
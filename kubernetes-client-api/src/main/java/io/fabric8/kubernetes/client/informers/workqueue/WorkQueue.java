@@ -0,0 +1,64 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers.workqueue;
+
+/**
+ * A queue of keys to process, modeled after the client-go workqueue.
+ * <p>
+ * A key is held at most once - adding a key that is already waiting is a no-op, so that a burst of events
+ * for the same object results in a single unit of work. A key is also never handed to more than one consumer
+ * at a time - adding a key that is being processed defers it until {@link #done(Object)} is called for it.
+ *
+ * @param <K> the key type
+ */
+public interface WorkQueue<K> {
+
+  /**
+   * Add the key to the queue, unless it is already waiting or the queue is shutting down
+   *
+   * @param key the key
+   */
+  void add(K key);
+
+  /**
+   * Block until a key is available to process. The caller must call {@link #done(Object)} for the key
+   * once it has been processed.
+   *
+   * @return the key, or null if the queue is shutting down
+   * @throws InterruptedException if interrupted while waiting
+   */
+  K get() throws InterruptedException;
+
+  /**
+   * Mark the key as processed. If it was added again during processing, it is queued again.
+   *
+   * @param key the key returned from {@link #get()}
+   */
+  void done(K key);
+
+  /**
+   * @return the number of keys waiting to be processed
+   */
+  int len();
+
+  /**
+   * Stop accepting new keys, and release all consumers blocked on {@link #get()}
+   */
+  void shutDown();
+
+  boolean isShuttingDown();
+
+}
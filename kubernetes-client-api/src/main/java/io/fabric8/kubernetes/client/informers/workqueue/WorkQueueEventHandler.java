@@ -0,0 +1,60 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers.workqueue;
+
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+
+import java.util.function.Function;
+
+/**
+ * A {@link ResourceEventHandler} that adds the key of every notified object to a {@link WorkQueue}.
+ * <p>
+ * This is typically registered via {@link SharedIndexInformer#addWorkQueue(WorkQueue)}, with the keys then
+ * resolved against the informer's store when processed.
+ *
+ * @param <T> the resource type
+ */
+public class WorkQueueEventHandler<T> implements ResourceEventHandler<T> {
+
+  private final Function<T, String> keyFunction;
+  private final WorkQueue<String> queue;
+
+  /**
+   * @param keyFunction to compute the key of an object, which should match the informer's key function
+   * @param queue the queue
+   */
+  public WorkQueueEventHandler(Function<T, String> keyFunction, WorkQueue<String> queue) {
+    this.keyFunction = keyFunction;
+    this.queue = queue;
+  }
+
+  @Override
+  public void onAdd(T obj) {
+    queue.add(keyFunction.apply(obj));
+  }
+
+  @Override
+  public void onUpdate(T oldObj, T newObj) {
+    queue.add(keyFunction.apply(newObj));
+  }
+
+  @Override
+  public void onDelete(T obj, boolean deletedFinalStateUnknown) {
+    queue.add(keyFunction.apply(obj));
+  }
+
+}
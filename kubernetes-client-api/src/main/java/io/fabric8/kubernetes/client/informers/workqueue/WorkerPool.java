@@ -0,0 +1,110 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers.workqueue;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * A fixed number of workers taking keys from a {@link RateLimitingQueue} and passing them to a {@link Reconciler}.
+ * <p>
+ * A key that is successfully reconciled is forgotten by the rate limiter, while a key that fails is added back
+ * rate limited. As the queue never hands out the same key twice at a time, each key is reconciled by at most one
+ * worker at a time.
+ *
+ * @param <K> the key type
+ */
+public class WorkerPool<K> implements AutoCloseable {
+
+  private static final Logger log = LoggerFactory.getLogger(WorkerPool.class);
+
+  private final RateLimitingQueue<K> queue;
+  private final Reconciler<K> reconciler;
+  private final CompletableFuture<Void> stopped;
+
+  private WorkerPool(RateLimitingQueue<K> queue, Reconciler<K> reconciler, int workers, Executor executor) {
+    this.queue = queue;
+    this.reconciler = reconciler;
+    List<CompletableFuture<Void>> running = new ArrayList<>(workers);
+    for (int i = 0; i < workers; i++) {
+      running.add(CompletableFuture.runAsync(this::work, executor));
+    }
+    this.stopped = CompletableFuture.allOf(running.toArray(new CompletableFuture[0]));
+  }
+
+  /**
+   * Start the workers
+   *
+   * @param queue the queue to process
+   * @param reconciler the reconciler
+   * @param workers the number of workers
+   * @param executor the executor to run the workers, which must be able to run all of them concurrently as each
+   *        holds its thread until the queue is shut down
+   * @return the running pool
+   */
+  public static <K> WorkerPool<K> start(RateLimitingQueue<K> queue, Reconciler<K> reconciler, int workers,
+      Executor executor) {
+    if (workers <= 0) {
+      throw new IllegalArgumentException("workers must be positive");
+    }
+    return new WorkerPool<>(queue, reconciler, workers, executor);
+  }
+
+  private void work() {
+    while (true) {
+      K key;
+      try {
+        key = queue.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+      if (key == null) {
+        return;
+      }
+      try {
+        reconciler.reconcile(key);
+        queue.forget(key);
+      } catch (Exception e) {
+        log.warn("Reconcile of {} failed, requeuing", key, e);
+        queue.addRateLimited(key);
+      } finally {
+        queue.done(key);
+      }
+    }
+  }
+
+  /**
+   * @return a future that completes once all workers have stopped
+   */
+  public CompletableFuture<Void> stopped() {
+    return stopped;
+  }
+
+  /**
+   * Shut down the queue, workers stop after finishing their current key
+   */
+  @Override
+  public void close() {
+    queue.shutDown();
+  }
+
+}
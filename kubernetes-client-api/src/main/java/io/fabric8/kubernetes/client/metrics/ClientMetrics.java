@@ -0,0 +1,146 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.metrics;
+
+import io.fabric8.kubernetes.client.Watcher;
+
+/**
+ * Receives measurements from the HTTP, watch and informer layers of a client.
+ * <p>
+ * All methods are called on the threads performing the measured work, so implementations must be thread-safe,
+ * and should return quickly. Each method has a no-op default, so implementations only override what they record.
+ * <p>
+ * Set via {@link io.fabric8.kubernetes.client.Config#setMetrics(ClientMetrics)}. When not set, {@link #NOOP} is used,
+ * for which the instrumented code skips any timing or wrapping it would otherwise need.
+ * <p>
+ * The resource of watch and informer measurements is the group, version and kind of the watched resources, such as
+ * {@code v1/Pod} or {@code apps/v1/Deployment}. It does not include the namespace, so that the number of distinct
+ * resources stays bounded.
+ */
+public interface ClientMetrics {
+
+  ClientMetrics NOOP = new ClientMetrics() {
+    @Override
+    public boolean isEnabled() {
+      return false;
+    }
+  };
+
+  /**
+   * @return false if no measurements are recorded, in which case none need to be taken
+   */
+  default boolean isEnabled() {
+    return true;
+  }
+
+  /**
+   * A request is about to be sent. Each started request is followed by either {@link #requestCompleted} or
+   * {@link #requestFailed}.
+   *
+   * @param method the HTTP method
+   */
+  default void requestStarted(String method) {
+  }
+
+  /**
+   * The response headers of a request were received, after any retries.
+   *
+   * @param method the HTTP method
+   * @param code the response code
+   * @param durationNanos the time from start of the request
+   */
+  default void requestCompleted(String method, int code, long durationNanos) {
+  }
+
+  /**
+   * A request failed without a response, after any retries.
+   *
+   * @param method the HTTP method
+   * @param cause the failure
+   * @param durationNanos the time from start of the request
+   */
+  default void requestFailed(String method, Throwable cause, long durationNanos) {
+  }
+
+  /**
+   * A request will be retried after a 429, 5xx or connection failure.
+   *
+   * @param method the HTTP method
+   */
+  default void requestRetried(String method) {
+  }
+
+  /**
+   * Bytes of a response body were received.
+   *
+   * @param bytes the number of bytes
+   */
+  default void bytesReceived(long bytes) {
+  }
+
+  /**
+   * A watch was established, either initially or on reconnect.
+   *
+   * @param resource the watched resource
+   */
+  default void watchStarted(String resource) {
+  }
+
+  /**
+   * A watch was closed by the server or failed, and a reconnect is scheduled.
+   *
+   * @param resource the watched resource
+   */
+  default void watchReconnecting(String resource) {
+  }
+
+  /**
+   * A watch event was received.
+   *
+   * @param resource the watched resource
+   * @param action the type of the event
+   */
+  default void watchEventReceived(String resource, Watcher.Action action) {
+  }
+
+  /**
+   * An informer completed a list of the resources, including all pages.
+   *
+   * @param resource the listed resource
+   * @param items the number of items
+   * @param durationNanos the time to list and store the items
+   */
+  default void informerListed(String resource, int items, long durationNanos) {
+  }
+
+  /**
+   * An informer failed to list or watch, and will retry.
+   *
+   * @param resource the resource
+   */
+  default void informerRetrying(String resource) {
+  }
+
+  /**
+   * An informer notification was delivered to the event handlers.
+   *
+   * @param resource the resource
+   * @param queuedNanos the time the notification waited to be delivered
+   */
+  default void informerEventDispatched(String resource, long queuedNanos) {
+  }
+
+}
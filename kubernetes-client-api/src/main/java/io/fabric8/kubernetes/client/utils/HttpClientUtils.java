@@ -200,6 +200,7 @@ public class HttpClientUtils {
     builder.followAllRedirects();
 
     builder.tag(config.getRequestConfig());
+    builder.metrics(config.getMetrics());
 
     if (config.getConnectionTimeout() > 0) {
       builder.connectTimeout(config.getConnectionTimeout(), TimeUnit.MILLISECONDS);
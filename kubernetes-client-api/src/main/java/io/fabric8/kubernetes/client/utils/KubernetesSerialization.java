@@ -17,25 +17,37 @@ package io.fabric8.kubernetes.client.utils;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.KeyDeserializer;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.SerializationConfig;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.annotation.JacksonStdImpl;
 import com.fasterxml.jackson.databind.cfg.HandlerInstantiator;
 import com.fasterxml.jackson.databind.cfg.MapperConfig;
+import com.fasterxml.jackson.databind.deser.std.StringDeserializer;
 import com.fasterxml.jackson.databind.introspect.Annotated;
 import com.fasterxml.jackson.databind.jsontype.TypeIdResolver;
 import com.fasterxml.jackson.databind.jsontype.TypeResolverBuilder;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResource;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
+import io.fabric8.kubernetes.api.model.ListMeta;
+import io.fabric8.kubernetes.api.model.Status;
+import io.fabric8.kubernetes.api.model.WatchEvent;
 import io.fabric8.kubernetes.api.model.runtime.RawExtension;
 import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.internal.KubernetesDeserializer;
@@ -59,16 +71,45 @@ import java.io.InputStream;
 import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.ServiceLoader;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class KubernetesSerialization {
 
+  /**
+   * Interns deserialized string values when a {@link StringInterner} is present as a reader attribute.
+   * <br>
+   * Only registered on the mapper of interning views, so that the String handling of the base mapper is unchanged.
+   * <br>
+   * Marked as a standard implementation so that Jackson keeps its optimized handling of untyped values and
+   * string collections, which then bypass interning.
+   */
+  @JacksonStdImpl
+  private static final class InterningStringDeserializer extends StringDeserializer {
+
+    @Override
+    public String deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+      String result = super.deserialize(p, ctxt);
+      Object interner = ctxt.getAttribute(StringInterner.class);
+      return interner == null ? result : ((StringInterner) interner).intern(result);
+    }
+  }
+
   private final ObjectMapper mapper;
-  private final UnmatchedFieldTypeModule unmatchedFieldTypeModule = new UnmatchedFieldTypeModule();
+  private final UnmatchedFieldTypeModule unmatchedFieldTypeModule;
   private KubernetesDeserializer kubernetesDeserializer;
   private final boolean searchClassloaders;
+  private final KubernetesSerialization parent;
+  private final StringInterner stringInterner;
+  private volatile ObjectMapper interningMapper;
 
   /**
    * Creates a new instance with a fresh ObjectMapper
@@ -86,9 +127,58 @@ public class KubernetesSerialization {
   public KubernetesSerialization(ObjectMapper mapper, boolean searchClassloaders) {
     this.mapper = mapper;
     this.searchClassloaders = searchClassloaders;
+    this.unmatchedFieldTypeModule = new UnmatchedFieldTypeModule();
+    this.parent = null;
+    this.stringInterner = null;
     configureMapper(mapper);
   }
 
+  private KubernetesSerialization(KubernetesSerialization parent, StringInterner stringInterner) {
+    this.mapper = parent.getInterningMapper();
+    this.searchClassloaders = parent.searchClassloaders;
+    this.unmatchedFieldTypeModule = parent.unmatchedFieldTypeModule;
+    this.parent = parent;
+    this.stringInterner = stringInterner;
+  }
+
+  /**
+   * Create a view of this serialization that shares all state and configuration, but deduplicates
+   * deserialized string values with the given {@link StringInterner}.
+   *
+   * @param stringInterner the interner to use
+   * @return the new view
+   */
+  public KubernetesSerialization withStringInterner(StringInterner stringInterner) {
+    return new KubernetesSerialization(parent != null ? parent : this, stringInterner);
+  }
+
+  /**
+   * @return a copy of the mapper that also interns string values, shared by all interning views
+   */
+  private ObjectMapper getInterningMapper() {
+    ObjectMapper result = interningMapper;
+    if (result == null) {
+      synchronized (this) {
+        result = interningMapper;
+        if (result == null) {
+          result = mapper.copy();
+          result.registerModule(
+              new SimpleModule("StringInterning").addDeserializer(String.class, new InterningStringDeserializer()));
+          interningMapper = result;
+        }
+      }
+    }
+    return result;
+  }
+
+  private ObjectReader readerFor(Type type) {
+    ObjectReader reader = mapper.readerFor(mapper.getTypeFactory().constructType(type));
+    if (stringInterner != null) {
+      reader = reader.withAttribute(StringInterner.class, stringInterner);
+    }
+    return reader;
+  }
+
   protected void configureMapper(ObjectMapper mapper) {
     mapper.registerModules(new JavaTimeModule(), new GoCompatibilityModule(), unmatchedFieldTypeModule);
     mapper.disable(DeserializationFeature.FAIL_ON_INVALID_SUBTYPE);
@@ -148,6 +238,9 @@ public class KubernetesSerialization {
   }
 
   private synchronized KubernetesDeserializer getKubernetesDeserializer() {
+    if (parent != null) {
+      return parent.getKubernetesDeserializer();
+    }
     // created lazily to avoid holding all model classes in memory by default
     if (this.kubernetesDeserializer == null) {
       this.kubernetesDeserializer = new KubernetesDeserializer(searchClassloaders);
@@ -175,6 +268,22 @@ public class KubernetesSerialization {
     }
   }
 
+  /**
+   * Returns a UTF-8 encoded JSON representation of the given object.
+   *
+   * @param object the object to serialize.
+   * @param <T> the type of the object being serialized.
+   * @return the JSON bytes
+   * @see #asJson(Object)
+   */
+  public <T> byte[] asJsonBytes(T object) {
+    try {
+      return mapper.writeValueAsBytes(object);
+    } catch (JsonProcessingException e) {
+      throw KubernetesClientException.launderThrowable(e);
+    }
+  }
+
   /**
    * Returns a YAML representation of the given object.
    *
@@ -243,18 +352,11 @@ public class KubernetesSerialization {
 
   public <T> T unmarshal(InputStream is, TypeReference<T> type) {
     try (BufferedInputStream bis = new BufferedInputStream(is)) {
-      bis.mark(-1);
-      int intch;
-      do {
-        intch = bis.read();
-      } while (intch > -1 && Character.isWhitespace(intch));
-      bis.reset();
-
       final T result;
-      if (intch != '{' && intch != '[') {
+      if (!isJson(bis)) {
         result = parseYaml(bis, type);
       } else {
-        result = mapper.readerFor(type).readValue(bis);
+        result = readerFor(type.getType()).readValue(bis);
       }
       return result;
     } catch (IOException e) {
@@ -304,6 +406,79 @@ public class KubernetesSerialization {
     }
   }
 
+  /**
+   * Lazily unmarshals the resources of a stream of JSON, or of YAML that may contain multiple documents.
+   * <p>
+   * Each document is only read and deserialized as the returned stream is consumed, so that neither
+   * the whole content nor all of the resources need to be held at once. Lists, including JSON arrays,
+   * are flattened into their items and empty documents are skipped.
+   * <p>
+   * The returned stream should be closed, which closes the input stream.
+   *
+   * @param is The {@link InputStream}.
+   * @return the stream of resources
+   * @throws KubernetesClientException if a document does not contain a {@link HasMetadata}
+   */
+  public Stream<HasMetadata> unmarshalAll(InputStream is) {
+    final BufferedInputStream bis = new BufferedInputStream(is);
+    try {
+      final Stream<?> values;
+      if (isJson(bis)) {
+        values = toStream(readerFor(KubernetesResource.class).readValues(bis));
+      } else {
+        final Load yaml = new Load(LoadSettings.builder().build());
+        values = toStream(yaml.loadAllFromInputStream(bis).iterator()).map(obj -> {
+          if (obj == null) {
+            return null;
+          }
+          return mapper.convertValue(obj instanceof Map ? obj : new RawExtension(obj), KubernetesResource.class);
+        });
+      }
+      return values.flatMap(KubernetesSerialization::asHasMetadata).onClose(() -> {
+        try {
+          bis.close();
+        } catch (IOException e) {
+          throw KubernetesClientException.launderThrowable(e);
+        }
+      });
+    } catch (IOException e) {
+      try {
+        bis.close();
+      } catch (IOException closeException) {
+        e.addSuppressed(closeException);
+      }
+      throw KubernetesClientException.launderThrowable(e);
+    }
+  }
+
+  private static <T> Stream<T> toStream(Iterator<T> iterator) {
+    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false);
+  }
+
+  private static Stream<HasMetadata> asHasMetadata(Object value) {
+    if (value == null) {
+      return Stream.empty();
+    } else if (value instanceof KubernetesResourceList) {
+      return ((KubernetesResourceList<?>) value).getItems().stream().filter(Objects::nonNull).map(HasMetadata.class::cast);
+    } else if (value instanceof HasMetadata) {
+      return Stream.of((HasMetadata) value);
+    }
+    throw new KubernetesClientException("Could not convert " + value.getClass().getName() + " to a HasMetadata");
+  }
+
+  /**
+   * Peeks at the first non-whitespace character to determine if the content is JSON rather than YAML
+   */
+  private static boolean isJson(BufferedInputStream bis) throws IOException {
+    bis.mark(-1);
+    int intch;
+    do {
+      intch = bis.read();
+    } while (intch > -1 && Character.isWhitespace(intch));
+    bis.reset();
+    return intch == '{' || intch == '[';
+  }
+
   /**
    * Unmarshals a {@link String}
    * <p>
@@ -350,19 +525,142 @@ public class KubernetesSerialization {
     });
   }
 
+  /**
+   * Unmarshals UTF-8 encoded JSON, such as produced by {@link #asJsonBytes(Object)}.
+   * <p>
+   * Unlike the other unmarshal methods YAML is not supported.
+   *
+   * @param json The JSON bytes.
+   * @param type The type.
+   * @param <T> Template argument denoting type
+   * @return returns de-serialized object
+   */
+  public <T> T unmarshalJson(byte[] json, final Class<T> type) {
+    return unmarshalJson(json, 0, json.length, type);
+  }
+
+  /**
+   * Unmarshals a range of UTF-8 encoded JSON, such as a single event of a newline delimited stream.
+   * <p>
+   * Unlike the other unmarshal methods YAML is not supported.
+   *
+   * @param json The buffer holding the JSON bytes.
+   * @param offset The offset of the JSON in the buffer.
+   * @param length The length of the JSON.
+   * @param type The type.
+   * @param <T> Template argument denoting type
+   * @return returns de-serialized object
+   */
+  public <T> T unmarshalJson(byte[] json, int offset, int length, final Class<T> type) {
+    try {
+      return readerFor(type).readValue(json, offset, length);
+    } catch (IOException e) {
+      throw KubernetesClientException.launderThrowable(e);
+    }
+  }
+
+  /**
+   * Unmarshals a JSON {@link WatchEvent} in a single pass. The object of an ERROR event is read as a
+   * {@link Status}, the object of any other event directly as the given type.
+   * <p>
+   * Unlike the other unmarshal methods YAML is not supported.
+   *
+   * @param json The buffer holding the JSON bytes.
+   * @param offset The offset of the JSON in the buffer.
+   * @param length The length of the JSON.
+   * @param objectType The type of the watched objects.
+   * @return returns de-serialized event
+   */
+  public WatchEvent unmarshalWatchEvent(byte[] json, int offset, int length, Class<?> objectType) {
+    ObjectReader objectReader = readerFor(objectType);
+    WatchEventDeserializer deserializer = new WatchEventDeserializer(objectReader, readerFor(Status.class),
+        readerFor(Object.class));
+    try (JsonParser parser = objectReader.createParser(json, offset, length)) {
+      return deserializer.deserialize(parser);
+    } catch (IOException e) {
+      throw KubernetesClientException.launderThrowable(e);
+    }
+  }
+
+  /**
+   * Unmarshals a JSON {@link KubernetesResourceList} from a stream, passing each item to the consumer as soon
+   * as it is read. Neither the list nor its items are held.
+   * <p>
+   * Unlike the other unmarshal methods YAML is not supported.
+   *
+   * @param is The {@link InputStream}.
+   * @param itemType The type of the items.
+   * @param itemConsumer The consumer of the items.
+   * @param <T> Template argument denoting the item type
+   * @return returns the metadata of the list
+   */
+  public <T> ListMeta unmarshalItems(InputStream is, final Class<T> itemType, Consumer<? super T> itemConsumer) {
+    try (JsonParser parser = mapper.getFactory().createParser(is)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new KubernetesClientException("Expected a JSON object, but found " + parser.currentToken());
+      }
+      ObjectReader itemReader = readerFor(itemType);
+      ListMeta metadata = null;
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String field = parser.currentName();
+        JsonToken token = parser.nextToken();
+        if ("metadata".equals(field)) {
+          metadata = readerFor(ListMeta.class).readValue(parser);
+        } else if ("items".equals(field) && token == JsonToken.START_ARRAY) {
+          while (parser.nextToken() != JsonToken.END_ARRAY) {
+            T item = itemReader.readValue(parser);
+            if (item != null) {
+              itemConsumer.accept(item);
+            }
+          }
+        } else {
+          parser.skipChildren();
+        }
+      }
+      return metadata;
+    } catch (IOException e) {
+      throw KubernetesClientException.launderThrowable(e);
+    }
+  }
+
+  /**
+   * Create a deserializer of a JSON list that is fed the bytes of the list as they arrive.
+   * <br>
+   * The items of the list are deserialized as soon as each is complete, so that the whole
+   * body need not be held.
+   *
+   * @param listType the type of the list, which is expected to be a {@link KubernetesResourceList}
+   * @param itemType the type of the items
+   * @param <L> Template argument denoting the list type
+   * @return the deserializer
+   */
+  public <L> NonBlockingListDeserializer<L> nonBlockingListDeserializer(Type listType, Class<?> itemType) {
+    try {
+      return new NonBlockingListDeserializer<>(mapper.getFactory().createNonBlockingByteBufferParser(),
+          readerFor(listType), readerFor(itemType));
+    } catch (IOException e) {
+      throw KubernetesClientException.launderThrowable(e);
+    }
+  }
+
   /**
    * Create a copy of the resource via serialization.
+   * <p>
+   * The resource is serialized to a buffer of tokens rather than to text, so that the copy
+   * is made without encoding or parsing JSON. Immutable values, such as strings, are shared with the copy.
    *
    * @return a deep clone of the resource
    * @throws IllegalArgumentException if the cloning cannot be performed
    */
   public <T> T clone(T resource) {
-    // if full serialization seems too expensive, there is also
-    //return (T) JSON_MAPPER.convertValue(resource, resource.getClass());
+    // convertValue is not used as it returns the same instance if no conversion is needed
+    TokenBuffer buffer = new TokenBuffer(mapper, false);
     try {
-      return (T) mapper.readValue(
-          mapper.writeValueAsString(resource), resource.getClass());
-    } catch (JsonProcessingException e) {
+      mapper.writeValue(buffer, resource);
+      try (JsonParser parser = buffer.asParser(mapper)) {
+        return (T) mapper.readValue(parser, resource.getClass());
+      }
+    } catch (IOException e) {
       throw new IllegalStateException(e);
     }
   }
@@ -0,0 +1,123 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.utils;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteBufferFeeder;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.KubernetesResourceList;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.http.StreamingBodyHandler;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Deserializes a JSON list from chunks of bytes as they arrive, using a non-blocking parser.
+ * <br>
+ * Each element of the top-level items array is deserialized as soon as it is complete, so that only the
+ * tokens of a single item are buffered at a time, rather than the whole body. The remainder of the list is
+ * deserialized once the input ends.
+ *
+ * @param <L> the list type
+ * @see KubernetesSerialization#nonBlockingListDeserializer(java.lang.reflect.Type, Class)
+ */
+public class NonBlockingListDeserializer<L> implements StreamingBodyHandler.Feed<L> {
+
+  private static final String ITEMS = "items";
+
+  private final JsonParser parser;
+  private final ByteBufferFeeder feeder;
+  private final ObjectReader listReader;
+  private final ObjectReader itemReader;
+  private final TokenBuffer root;
+  private final List<HasMetadata> items = new ArrayList<>();
+  private TokenBuffer item;
+  private int itemDepth;
+  private int depth;
+  private boolean inItems;
+  private boolean started;
+
+  NonBlockingListDeserializer(JsonParser parser, ObjectReader listReader, ObjectReader itemReader) {
+    this.parser = parser;
+    this.feeder = (ByteBufferFeeder) parser.getNonBlockingInputFeeder();
+    this.listReader = listReader;
+    this.itemReader = itemReader;
+    this.root = new TokenBuffer(parser);
+  }
+
+  @Override
+  public void feed(ByteBuffer buffer) throws IOException {
+    feeder.feedInput(buffer);
+    parse();
+  }
+
+  @Override
+  public L complete() throws IOException {
+    feeder.endOfInput();
+    parse();
+    parser.close();
+    if (!started || depth != 0) {
+      throw new KubernetesClientException("Unexpected end of the list response");
+    }
+    L result = listReader.readValue(root.asParser());
+    if (!items.isEmpty()) {
+      ((KubernetesResourceList<HasMetadata>) result).getItems().addAll(items);
+    }
+    return result;
+  }
+
+  private void parse() throws IOException {
+    JsonToken token;
+    while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+      if (item != null) {
+        item.copyCurrentEvent(parser);
+        if (token.isStructStart()) {
+          itemDepth++;
+        } else if (token.isStructEnd() && --itemDepth == 0) {
+          HasMetadata value = itemReader.readValue(item.asParser());
+          if (value != null) {
+            items.add(value);
+          }
+          item = null;
+        }
+      } else if (inItems && token != JsonToken.END_ARRAY) {
+        if (token.isStructStart()) {
+          item = new TokenBuffer(parser);
+          item.copyCurrentEvent(parser);
+          itemDepth = 1;
+        }
+        // null items are skipped
+      } else {
+        started = true;
+        root.copyCurrentEvent(parser);
+        if (token.isStructStart()) {
+          depth++;
+          inItems = depth == 2 && token == JsonToken.START_ARRAY && ITEMS.equals(parser.currentName());
+        } else if (token.isStructEnd()) {
+          depth--;
+          inItems = false;
+        }
+      }
+    }
+  }
+
+}
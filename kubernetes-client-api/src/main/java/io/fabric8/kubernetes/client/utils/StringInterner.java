@@ -0,0 +1,119 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.utils;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded, lossy table of canonical {@link String} instances, used to deduplicate the values of
+ * deserialized resources - such as label values, image names, node names or owner uids.
+ * <p>
+ * Each string hashes to a single slot. A hit returns the instance already held in the slot, while a miss
+ * replaces it. Slots only weakly reference their strings, so the table never keeps a string reachable.
+ * <p>
+ * Field names, including map keys such as label and annotation keys, are already canonicalized by Jackson.
+ *
+ * @see KubernetesSerialization#withStringInterner(StringInterner)
+ */
+public class StringInterner {
+
+  public static final int DEFAULT_SIZE = 1 << 14;
+
+  // approximate size of a String and its byte[] with compressed oops and compact strings
+  private static final int STRING_OVERHEAD = 40;
+
+  private final AtomicReferenceArray<WeakReference<String>> table;
+  private final int mask;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder bytesSaved = new LongAdder();
+
+  public StringInterner() {
+    this(DEFAULT_SIZE);
+  }
+
+  /**
+   * @param size the number of slots, rounded up to a power of 2
+   */
+  public StringInterner(int size) {
+    if (size <= 0) {
+      throw new IllegalArgumentException("size must be positive");
+    }
+    int capacity = Integer.highestOneBit(size);
+    if (capacity < size) {
+      capacity <<= 1;
+    }
+    this.table = new AtomicReferenceArray<>(capacity);
+    this.mask = capacity - 1;
+  }
+
+  /**
+   * Return the canonical instance of the given value
+   *
+   * @param value the value
+   * @return the held equal instance, or the value itself
+   */
+  public String intern(String value) {
+    if (value == null || value.isEmpty()) {
+      return value;
+    }
+    int h = value.hashCode();
+    int slot = (h ^ (h >>> 16)) & mask;
+    WeakReference<String> ref = table.get(slot);
+    String existing = ref == null ? null : ref.get();
+    if (existing != null && existing.equals(value)) {
+      if (existing != value) {
+        hits.increment();
+        bytesSaved.add(STRING_OVERHEAD + value.length());
+      }
+      return existing;
+    }
+    misses.increment();
+    table.set(slot, new WeakReference<>(value));
+    return value;
+  }
+
+  /**
+   * @return the number of values replaced by an already held instance
+   */
+  public long getHits() {
+    return hits.sum();
+  }
+
+  /**
+   * @return the number of values that were not already held
+   */
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  /**
+   * @return an estimate of the heap bytes saved by returning held instances, assuming that
+   *         the replaced values would otherwise have remained reachable
+   */
+  public long getEstimatedBytesSaved() {
+    return bytesSaved.sum();
+  }
+
+  @Override
+  public String toString() {
+    return String.format("StringInterner[hits=%d, misses=%d, estimatedBytesSaved=%d]", getHits(), getMisses(),
+        getEstimatedBytesSaved());
+  }
+
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.utils;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import io.fabric8.kubernetes.api.model.WatchEvent;
+
+import java.io.IOException;
+
+/**
+ * Reads a {@link WatchEvent} in a single pass, binding the object of ERROR events as a
+ * {@link io.fabric8.kubernetes.api.model.Status} and the object of all other events directly as the watched type.
+ * <p>
+ * The API server writes the type before the object. Should the object come first it is held in a
+ * {@link TokenBuffer} until the type is known.
+ */
+final class WatchEventDeserializer {
+
+  private static final String ERROR = "ERROR";
+
+  private final ObjectReader objectReader;
+  private final ObjectReader statusReader;
+  private final ObjectReader valueReader;
+
+  WatchEventDeserializer(ObjectReader objectReader, ObjectReader statusReader, ObjectReader valueReader) {
+    this.objectReader = objectReader;
+    this.statusReader = statusReader;
+    this.valueReader = valueReader;
+  }
+
+  WatchEvent deserialize(JsonParser parser) throws IOException {
+    if (parser.nextToken() != JsonToken.START_OBJECT) {
+      throw JsonMappingException.from(parser, "Expected a watch event object");
+    }
+    WatchEvent event = new WatchEvent();
+    TokenBuffer pendingObject = null;
+    JsonToken token;
+    while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+      String field = parser.currentName();
+      JsonToken value = parser.nextToken();
+      if ("type".equals(field)) {
+        event.setType(parser.getValueAsString());
+      } else if ("object".equals(field)) {
+        if (value == JsonToken.VALUE_NULL) {
+          continue;
+        }
+        if (event.getType() != null) {
+          event.setObject(readObject(event.getType(), parser));
+        } else {
+          pendingObject = new TokenBuffer(parser);
+          pendingObject.copyCurrentStructure(parser);
+        }
+      } else {
+        event.setAdditionalProperty(field, valueReader.readValue(parser));
+      }
+    }
+    if (token != JsonToken.END_OBJECT) {
+      throw JsonMappingException.from(parser, "Unexpected token " + token + " in watch event");
+    }
+    if (pendingObject != null) {
+      try (JsonParser objectParser = pendingObject.asParser()) {
+        event.setObject(readObject(event.getType(), objectParser));
+      }
+    }
+    return event;
+  }
+
+  private Object readObject(String type, JsonParser parser) throws IOException {
+    return (ERROR.equals(type) ? statusReader : objectReader).readValue(parser);
+  }
+
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.http;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RequestCoalescerTest {
+
+  private final HttpClient client = mock(HttpClient.class);
+
+  @Test
+  void identicalInFlightRequestsShareOneRequest() {
+    RequestCoalescer coalescer = new RequestCoalescer();
+    CompletableFuture<HttpResponse<byte[]>> response = new CompletableFuture<>();
+    when(client.sendAsync(any(), any(Class.class))).thenReturn((CompletableFuture) response);
+
+    CompletableFuture<HttpResponse<byte[]>> first = coalescer.sendAsync(client, request("GET", "/api/v1/pods/p"));
+    CompletableFuture<HttpResponse<byte[]>> second = coalescer.sendAsync(client, request("GET", "/api/v1/pods/p"));
+    response.complete(new TestHttpResponse<byte[]>().withCode(200).withBody(new byte[0]));
+
+    assertThat(first).isCompleted();
+    assertThat(second.join()).isSameAs(first.join());
+    verify(client, times(1)).sendAsync(any(), any(Class.class));
+    assertThat(coalescer.getSentCount()).isEqualTo(1);
+    assertThat(coalescer.getCoalescedCount()).isEqualTo(1);
+  }
+
+  @Test
+  void completedRequestsAreNotSharedWithoutTimeToLive() {
+    RequestCoalescer coalescer = new RequestCoalescer();
+    when(client.sendAsync(any(), any(Class.class))).thenAnswer(i -> CompletableFuture.completedFuture(
+        new TestHttpResponse<byte[]>().withCode(200).withBody(new byte[0])));
+
+    coalescer.sendAsync(client, request("GET", "/api/v1/pods/p"));
+    coalescer.sendAsync(client, request("GET", "/api/v1/pods/p"));
+
+    verify(client, times(2)).sendAsync(any(), any(Class.class));
+  }
+
+  @Test
+  void successfulResponsesAreHeldForTimeToLive() {
+    RequestCoalescer coalescer = new RequestCoalescer(Duration.ofMinutes(1));
+    when(client.sendAsync(any(), any(Class.class))).thenAnswer(i -> CompletableFuture.completedFuture(
+        new TestHttpResponse<byte[]>().withCode(200).withBody(new byte[0])));
+
+    coalescer.sendAsync(client, request("GET", "/api/v1/pods/p"));
+    coalescer.sendAsync(client, request("GET", "/api/v1/pods/p"));
+
+    verify(client, times(1)).sendAsync(any(), any(Class.class));
+    assertThat(coalescer.getCachedCount()).isEqualTo(1);
+  }
+
+  @Test
+  void failedResponsesAreNotHeld() {
+    RequestCoalescer coalescer = new RequestCoalescer(Duration.ofMinutes(1));
+    when(client.sendAsync(any(), any(Class.class))).thenAnswer(i -> CompletableFuture.completedFuture(
+        new TestHttpResponse<byte[]>().withCode(500).withBody(new byte[0])));
+
+    coalescer.sendAsync(client, request("GET", "/api/v1/pods/p"));
+    coalescer.sendAsync(client, request("GET", "/api/v1/pods/p"));
+
+    verify(client, times(2)).sendAsync(any(), any(Class.class));
+  }
+
+  @Test
+  void differentRequestsAreNotShared() {
+    RequestCoalescer coalescer = new RequestCoalescer();
+    when(client.sendAsync(any(), any(Class.class))).thenReturn(new CompletableFuture<>());
+
+    coalescer.sendAsync(client, request("GET", "/api/v1/pods/p"));
+    coalescer.sendAsync(client, request("GET", "/api/v1/pods/p?resourceVersion=0"));
+    coalescer.sendAsync(client, new StandardHttpRequest.Builder().uri("https://localhost/api/v1/pods/p")
+        .header("Accept", "application/yaml").build());
+    HttpClient other = mock(HttpClient.class);
+    when(other.sendAsync(any(), any(Class.class))).thenReturn(new CompletableFuture<>());
+    coalescer.sendAsync(other, request("GET", "/api/v1/pods/p"));
+
+    verify(client, times(3)).sendAsync(any(), any(Class.class));
+    verify(other, times(1)).sendAsync(any(), any(Class.class));
+    assertThat(coalescer.getCoalescedCount()).isZero();
+  }
+
+  @Test
+  void nonGetRequestsAreNotShared() {
+    RequestCoalescer coalescer = new RequestCoalescer();
+    when(client.sendAsync(any(), any(Class.class))).thenReturn(new CompletableFuture<>());
+
+    coalescer.sendAsync(client, request("DELETE", "/api/v1/pods/p"));
+    coalescer.sendAsync(client, request("DELETE", "/api/v1/pods/p"));
+
+    verify(client, times(2)).sendAsync(any(), any(Class.class));
+  }
+
+  @Test
+  void cancellationDoesNotAffectOtherRequests() {
+    RequestCoalescer coalescer = new RequestCoalescer();
+    CompletableFuture<HttpResponse<byte[]>> response = new CompletableFuture<>();
+    when(client.sendAsync(any(), any(Class.class))).thenReturn((CompletableFuture) response);
+
+    coalescer.sendAsync(client, request("GET", "/api/v1/pods/p")).cancel(true);
+    CompletableFuture<HttpResponse<byte[]>> second = coalescer.sendAsync(client, request("GET", "/api/v1/pods/p"));
+    response.complete(new TestHttpResponse<byte[]>().withCode(200).withBody(new byte[0]));
+
+    assertThat(second.join().code()).isEqualTo(200);
+  }
+
+  private static HttpRequest request(String method, String path) {
+    StandardHttpRequest.Builder builder = new StandardHttpRequest.Builder().uri("https://localhost" + path);
+    if (!"GET".equals(method)) {
+      builder.method(method, "application/json", "{}");
+    }
+    return builder.build();
+  }
+
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.http;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestSchedulerTest {
+
+  @Test
+  void classify() {
+    assertThat(RequestScheduler.classify(request("GET", "/api/v1/namespaces/ns/pods"))).isEqualTo(RequestPriority.BULK_LIST);
+    assertThat(RequestScheduler.classify(request("GET", "/apis/apps/v1/deployments"))).isEqualTo(RequestPriority.BULK_LIST);
+    assertThat(RequestScheduler.classify(request("GET", "/api/v1/namespaces"))).isEqualTo(RequestPriority.BULK_LIST);
+    assertThat(RequestScheduler.classify(request("GET", "/api/v1/namespaces/ns"))).isEqualTo(RequestPriority.READ);
+    assertThat(RequestScheduler.classify(request("GET", "/api/v1/namespaces/ns/pods/p"))).isEqualTo(RequestPriority.READ);
+    assertThat(RequestScheduler.classify(request("GET", "/api/v1/namespaces/ns/pods/p/log"))).isEqualTo(RequestPriority.READ);
+    assertThat(RequestScheduler.classify(request("GET", "/api/v1/namespaces/ns/pods?watch=true")))
+        .isEqualTo(RequestPriority.WATCH);
+    assertThat(RequestScheduler.classify(request("DELETE", "/api/v1/namespaces/ns/pods")))
+        .isEqualTo(RequestPriority.BULK_DELETE);
+    assertThat(RequestScheduler.classify(request("DELETE", "/api/v1/namespaces/ns/pods/p")))
+        .isEqualTo(RequestPriority.RECONCILE_WRITE);
+    assertThat(RequestScheduler.classify(request("PATCH", "/apis/apps/v1/namespaces/ns/deployments/d")))
+        .isEqualTo(RequestPriority.RECONCILE_WRITE);
+    assertThat(RequestScheduler.classify(new StandardHttpRequest.Builder().uri("https://localhost/api/v1/pods")
+        .forStreaming().build())).isEqualTo(RequestPriority.WATCH);
+  }
+
+  @Test
+  void queuedRequestsAreSentInPriorityOrder() {
+    RequestScheduler scheduler = RequestScheduler.builder().initialConcurrency(1).maxConcurrency(1).build();
+    List<String> sent = Collections.synchronizedList(new ArrayList<>());
+    CompletableFuture<Void> firstDone = new CompletableFuture<>();
+
+    scheduler.schedule(request("GET", "/api/v1/pods"), send(sent, "first", 200, firstDone));
+    scheduler.schedule(request("GET", "/api/v1/pods"), send(sent, "list", 200));
+    scheduler.schedule(request("DELETE", "/api/v1/namespaces/ns/pods"), send(sent, "delete", 200));
+    scheduler.schedule(request("PUT", "/api/v1/namespaces/ns/pods/p"), send(sent, "write", 200));
+    scheduler.schedule(request("GET", "/api/v1/namespaces/ns/pods/p?watch=true"), send(sent, "watch", 200));
+
+    assertThat(sent).containsExactly("first", "watch");
+    assertThat(scheduler.getQueued(RequestPriority.BULK_LIST)).isEqualTo(1);
+    assertThat(scheduler.getInFlight()).isEqualTo(1);
+
+    firstDone.complete(null);
+
+    assertThat(sent).containsExactly("first", "watch", "write", "list", "delete");
+    assertThat(scheduler.getInFlight()).isZero();
+  }
+
+  @Test
+  void cancelledRequestIsNotSent() {
+    RequestScheduler scheduler = RequestScheduler.builder().initialConcurrency(1).maxConcurrency(1).build();
+    List<String> sent = Collections.synchronizedList(new ArrayList<>());
+    CompletableFuture<Void> firstDone = new CompletableFuture<>();
+
+    scheduler.schedule(request("GET", "/api/v1/pods"), send(sent, "first", 200, firstDone));
+    scheduler.schedule(request("GET", "/api/v1/pods"), send(sent, "cancelled", 200)).cancel(true);
+    scheduler.schedule(request("GET", "/api/v1/pods"), send(sent, "last", 200));
+    firstDone.complete(null);
+
+    assertThat(sent).containsExactly("first", "last");
+    assertThat(scheduler.getInFlight()).isZero();
+  }
+
+  @Test
+  void limitAdaptsToThrottling() {
+    RequestScheduler scheduler = RequestScheduler.builder().initialConcurrency(8).minConcurrency(2).build();
+    List<String> sent = new ArrayList<>();
+
+    scheduler.schedule(request("GET", "/api/v1/pods"), send(sent, "throttled", 429));
+    assertThat(scheduler.getConcurrencyLimit(RequestPriority.BULK_LIST)).isEqualTo(4);
+    assertThat(scheduler.getThrottledCount()).isEqualTo(1);
+
+    // at most one decrease per interval
+    scheduler.schedule(request("GET", "/api/v1/pods"), send(sent, "throttled", 429));
+    assertThat(scheduler.getConcurrencyLimit(RequestPriority.BULK_LIST)).isEqualTo(4);
+
+    for (int i = 0; i < 4; i++) {
+      scheduler.schedule(request("GET", "/api/v1/pods"), send(sent, "ok", 200));
+    }
+    assertThat(scheduler.getConcurrencyLimit(RequestPriority.BULK_LIST)).isBetween(4.9, 5.0);
+  }
+
+  @Test
+  void priorityLevelIsLearnedFromResponses() {
+    RequestScheduler scheduler = RequestScheduler.builder().initialConcurrency(8).build();
+    TestHttpResponse<AsyncBody> response = new TestHttpResponse<AsyncBody>(Collections.singletonMap(
+        RequestScheduler.PRIORITY_LEVEL_HEADER, Collections.singletonList("workload-low")))
+        .withCode(429).withBody(new TestAsyncBody());
+
+    scheduler.schedule(request("GET", "/api/v1/pods"), () -> CompletableFuture.completedFuture(response));
+    assertThat(scheduler.getPriorityLevel(RequestPriority.BULK_LIST)).isEqualTo("workload-low");
+    assertThat(scheduler.getPriorityLevel(RequestPriority.READ)).isNull();
+
+    // the throttled level has a new limit, the others are not affected
+    assertThat(scheduler.getConcurrencyLimit(RequestPriority.BULK_LIST)).isEqualTo(8);
+    scheduler.schedule(request("GET", "/api/v1/pods"), () -> CompletableFuture.completedFuture(response));
+    assertThat(scheduler.getConcurrencyLimit(RequestPriority.BULK_LIST)).isEqualTo(4);
+    assertThat(scheduler.getConcurrencyLimit(RequestPriority.READ)).isEqualTo(4);
+  }
+
+  private static HttpRequest request(String method, String path) {
+    StandardHttpRequest.Builder builder = new StandardHttpRequest.Builder().uri("https://localhost" + path);
+    if (!"GET".equals(method)) {
+      builder.method(method, "application/json", "{}");
+    }
+    return builder.build();
+  }
+
+  private static java.util.function.Supplier<CompletableFuture<HttpResponse<AsyncBody>>> send(List<String> sent,
+      String name, int code) {
+    return send(sent, name, code, CompletableFuture.completedFuture(null));
+  }
+
+  private static java.util.function.Supplier<CompletableFuture<HttpResponse<AsyncBody>>> send(List<String> sent,
+      String name, int code, CompletableFuture<Void> done) {
+    return () -> {
+      sent.add(name);
+      return CompletableFuture.completedFuture(new TestHttpResponse<AsyncBody>().withCode(code)
+          .withBody(new TestAsyncBody(done)));
+    };
+  }
+
+}
@@ -17,6 +17,7 @@ package io.fabric8.kubernetes.client.http;
 
 import io.fabric8.kubernetes.client.RequestConfigBuilder;
 import io.fabric8.kubernetes.client.http.WebSocket.Listener;
+import io.fabric8.kubernetes.client.metrics.ClientMetrics;
 import org.awaitility.Awaitility;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -30,6 +31,7 @@ import java.io.InputStream;
 import java.net.URI;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -180,6 +182,46 @@ class StandardHttpClientTest {
         .hasSize(4);
   }
 
+  @Test
+  void metricsRecordRequestsAndRetries() throws Exception {
+    final List<String> recorded = Collections.synchronizedList(new ArrayList<>());
+    client = client.newBuilder().metrics(new ClientMetrics() {
+      @Override
+      public void requestStarted(String method) {
+        recorded.add("started " + method);
+      }
+
+      @Override
+      public void requestRetried(String method) {
+        recorded.add("retried " + method);
+      }
+
+      @Override
+      public void requestCompleted(String method, int code, long durationNanos) {
+        recorded.add("completed " + method + " " + code);
+      }
+
+      @Override
+      public void bytesReceived(long bytes) {
+        recorded.add("bytes " + bytes);
+      }
+    }).tag(new RequestConfigBuilder()
+        .withRequestRetryBackoffLimit(1)
+        .withRequestRetryBackoffInterval(50).build())
+        .build();
+    client.expect(".*", 503, new byte[3]);
+    client.expect(".*", 200);
+
+    CompletableFuture<HttpResponse<AsyncBody>> consumeFuture = client.consumeBytes(
+        client.newHttpRequestBuilder().uri("http://localhost").build(),
+        (value, asyncBody) -> {
+        });
+
+    assertEquals(200, consumeFuture.get(10, TimeUnit.SECONDS).code());
+    Awaitility.await().atMost(10, TimeUnit.SECONDS).untilAsserted(
+        () -> assertThat(recorded).containsExactly("started GET", "bytes 3", "retried GET", "completed GET 200"));
+  }
+
   @Test
   void testShouldRetryUsesRetryAfterHeader() throws Exception {
     client = client.newBuilder().tag(new RequestConfigBuilder()
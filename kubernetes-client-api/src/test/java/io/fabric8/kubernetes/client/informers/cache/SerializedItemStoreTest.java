@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers.cache;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.client.utils.KubernetesSerialization;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CyclicBarrier;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class SerializedItemStoreTest {
+
+  @Test
+  void testStoreRestore() {
+    SerializedItemStore<ConfigMap> store = new SerializedItemStore<>(Cache::metaNamespaceKeyFunc, ConfigMap.class,
+        new KubernetesSerialization(), 1);
+
+    ConfigMap cm1 = new ConfigMapBuilder().withNewMetadata().withName("a").withNamespace("ns").withResourceVersion("1")
+        .endMetadata().addToData("key", "value").build();
+    ConfigMap cm2 = new ConfigMapBuilder(cm1).editMetadata().withName("b").endMetadata().build();
+
+    assertEquals("ns/a", store.getKey(cm1));
+    assertNull(store.put("ns/a", cm1));
+    assertNull(store.put("ns/b", cm2));
+    assertEquals(2, store.size());
+
+    // cm1 is no longer held as an object
+    ConfigMap restored = store.get("ns/a");
+    assertNotSame(cm1, restored);
+    assertEquals(cm1, restored);
+    // but is now the most recently accessed
+    assertSame(restored, store.get("ns/a"));
+
+    assertEquals(2, store.values().collect(Collectors.toList()).size());
+    assertEquals(store.getSerializedBytes(), 2 * new KubernetesSerialization().asJsonBytes(cm1).length);
+
+    assertEquals(cm2, store.remove("ns/b"));
+    assertEquals(cm1, store.remove("ns/a"));
+    assertNull(store.get("ns/a"));
+    assertEquals(0, store.getSerializedBytes());
+  }
+
+  @Test
+  void testConcurrentGetAndRemove() throws Exception {
+    SerializedItemStore<ConfigMap> store = new SerializedItemStore<>(Cache::metaNamespaceKeyFunc, ConfigMap.class,
+        new KubernetesSerialization(), 1);
+
+    ConfigMap cm1 = new ConfigMapBuilder().withNewMetadata().withName("a").withNamespace("ns").withResourceVersion("1")
+        .endMetadata().addToData("key", "value").build();
+    ConfigMap cm2 = new ConfigMapBuilder(cm1).editMetadata().withName("b").endMetadata().build();
+
+    for (int i = 0; i < 1000; i++) {
+      store.put("ns/a", cm1);
+      // no longer held as an object, so that get restores it
+      store.put("ns/b", cm2);
+      CyclicBarrier barrier = new CyclicBarrier(2);
+      Thread getter = new Thread(() -> {
+        try {
+          barrier.await();
+        } catch (Exception e) {
+          throw new IllegalStateException(e);
+        }
+        store.get("ns/a");
+      });
+      getter.start();
+      barrier.await();
+      store.remove("ns/a");
+      getter.join();
+
+      assertNull(store.get("ns/a"));
+    }
+  }
+
+}
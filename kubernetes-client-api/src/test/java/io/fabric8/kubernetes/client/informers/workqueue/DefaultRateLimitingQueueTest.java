@@ -0,0 +1,143 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers.workqueue;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class DefaultRateLimitingQueueTest {
+
+  @Test
+  void testDeduplication() throws InterruptedException {
+    DefaultRateLimitingQueue<String> queue = new DefaultRateLimitingQueue<>();
+    queue.add("a");
+    queue.add("b");
+    queue.add("a");
+
+    assertThat(queue.len()).isEqualTo(2);
+    assertThat(queue.get()).isEqualTo("a");
+    assertThat(queue.get()).isEqualTo("b");
+    assertThat(queue.len()).isZero();
+  }
+
+  @Test
+  void testInFlightExclusion() throws InterruptedException {
+    DefaultRateLimitingQueue<String> queue = new DefaultRateLimitingQueue<>();
+    queue.add("a");
+    assertThat(queue.get()).isEqualTo("a");
+
+    // added while processing, only queued once done
+    queue.add("a");
+    queue.add("a");
+    assertThat(queue.len()).isZero();
+
+    queue.done("a");
+    assertThat(queue.len()).isEqualTo(1);
+    assertThat(queue.get()).isEqualTo("a");
+    queue.done("a");
+    assertThat(queue.len()).isZero();
+  }
+
+  @Test
+  void testShutDown() throws InterruptedException {
+    DefaultRateLimitingQueue<String> queue = new DefaultRateLimitingQueue<>();
+    queue.add("a");
+    queue.addAfter("b", Duration.ofMinutes(1));
+    queue.shutDown();
+    queue.add("c");
+
+    assertThat(queue.isShuttingDown()).isTrue();
+    assertThat(queue.get()).isEqualTo("a");
+    assertThat(queue.get()).isNull();
+  }
+
+  @Test
+  void testAddAfterUsesEarliestDelay() throws InterruptedException {
+    DefaultRateLimitingQueue<String> queue = new DefaultRateLimitingQueue<>();
+    queue.addAfter("a", Duration.ofMinutes(1));
+    queue.addAfter("a", Duration.ofMillis(10));
+    queue.addAfter("a", Duration.ofMinutes(2));
+
+    await().atMost(5, TimeUnit.SECONDS).until(() -> queue.len() == 1);
+    assertThat(queue.get()).isEqualTo("a");
+  }
+
+  @Test
+  void testAddRateLimited() {
+    DefaultRateLimitingQueue<String> queue = new DefaultRateLimitingQueue<>(
+        RateLimiter.exponential(Duration.ofMillis(1), Duration.ofMillis(10)));
+    queue.addRateLimited("a");
+    queue.addRateLimited("a");
+
+    assertThat(queue.numRequeues("a")).isEqualTo(2);
+    await().atMost(5, TimeUnit.SECONDS).until(() -> queue.len() == 1);
+
+    queue.forget("a");
+    assertThat(queue.numRequeues("a")).isZero();
+  }
+
+  @Test
+  void testWorkerPool() {
+    DefaultRateLimitingQueue<String> queue = new DefaultRateLimitingQueue<>(
+        RateLimiter.exponential(Duration.ofMillis(1), Duration.ofMillis(10)));
+    Map<String, AtomicInteger> concurrent = new ConcurrentHashMap<>();
+    AtomicInteger overlaps = new AtomicInteger();
+    List<String> reconciled = new CopyOnWriteArrayList<>();
+    AtomicInteger failures = new AtomicInteger(2);
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try (WorkerPool<String> pool = WorkerPool.start(queue, key -> {
+      AtomicInteger count = concurrent.computeIfAbsent(key, k -> new AtomicInteger());
+      if (count.incrementAndGet() > 1) {
+        overlaps.incrementAndGet();
+      }
+      try {
+        if (key.equals("fail") && failures.getAndDecrement() > 0) {
+          throw new IllegalStateException();
+        }
+        reconciled.add(key);
+      } finally {
+        count.decrementAndGet();
+      }
+    }, 4, executor)) {
+      for (int i = 0; i < 100; i++) {
+        queue.add("key" + (i % 10));
+      }
+      queue.add("fail");
+
+      await().atMost(5, TimeUnit.SECONDS).until(() -> reconciled.contains("fail") && queue.len() == 0);
+      assertThat(reconciled).contains("key0", "key9");
+      assertThat(queue.numRequeues("fail")).isZero();
+      assertThat(overlaps).hasValue(0);
+      pool.close();
+      await().atMost(5, TimeUnit.SECONDS).until(() -> pool.stopped().isDone());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+}
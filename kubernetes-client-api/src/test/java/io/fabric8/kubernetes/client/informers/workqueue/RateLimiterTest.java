@@ -0,0 +1,68 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers.workqueue;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimiterTest {
+
+  @Test
+  void testExponential() {
+    RateLimiter<String> limiter = RateLimiter.exponential(Duration.ofMillis(5), Duration.ofSeconds(1));
+
+    assertThat(limiter.when("a")).isEqualTo(Duration.ofMillis(5));
+    assertThat(limiter.when("a")).isEqualTo(Duration.ofMillis(10));
+    assertThat(limiter.when("a")).isEqualTo(Duration.ofMillis(20));
+    assertThat(limiter.when("b")).isEqualTo(Duration.ofMillis(5));
+    assertThat(limiter.numRequeues("a")).isEqualTo(3);
+
+    for (int i = 0; i < 100; i++) {
+      limiter.when("a");
+    }
+    assertThat(limiter.when("a")).isEqualTo(Duration.ofSeconds(1));
+
+    limiter.forget("a");
+    assertThat(limiter.numRequeues("a")).isZero();
+    assertThat(limiter.when("a")).isEqualTo(Duration.ofMillis(5));
+  }
+
+  @Test
+  void testBucket() {
+    RateLimiter<String> limiter = RateLimiter.bucket(1, 2);
+
+    assertThat(limiter.when("a")).isZero();
+    assertThat(limiter.when("b")).isZero();
+    assertThat(limiter.when("c")).isPositive().isLessThanOrEqualTo(Duration.ofSeconds(1));
+    assertThat(limiter.when("d")).isGreaterThan(Duration.ofSeconds(1)).isLessThanOrEqualTo(Duration.ofSeconds(2));
+  }
+
+  @Test
+  void testMaxOf() {
+    RateLimiter<String> limiter = RateLimiter.maxOf(RateLimiter.exponential(Duration.ofMillis(5), Duration.ofSeconds(1)),
+        RateLimiter.bucket(1, 1));
+
+    assertThat(limiter.when("a")).isEqualTo(Duration.ofMillis(5));
+    assertThat(limiter.when("a")).isGreaterThan(Duration.ofMillis(10));
+    assertThat(limiter.numRequeues("a")).isEqualTo(2);
+    limiter.forget("a");
+    assertThat(limiter.numRequeues("a")).isZero();
+  }
+
+}
@@ -21,7 +21,12 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
 import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.ListMeta;
 import io.fabric8.kubernetes.api.model.ObjectMeta;
+import io.fabric8.kubernetes.api.model.PodList;
+import io.fabric8.kubernetes.api.model.Status;
+import io.fabric8.kubernetes.api.model.WatchEvent;
+import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.model.annotation.Group;
 import io.fabric8.kubernetes.model.annotation.Version;
 import org.junit.jupiter.api.BeforeEach;
@@ -32,10 +37,19 @@ import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.tuple;
 
 class KubernetesSerializationTest {
 
@@ -87,6 +101,190 @@ class KubernetesSerializationTest {
     }
   }
 
+  @Nested
+  @DisplayName("unmarshalItems")
+  class UnmarshalItems {
+
+    @BeforeEach
+    void setUp() {
+      kubernetesSerialization = new KubernetesSerialization();
+    }
+
+    @Test
+    void shouldPassEachItemAndReturnMetadata() {
+      String json = "{\"apiVersion\":\"v1\",\"items\":[{\"metadata\":{\"name\":\"a\"}},null,"
+          + "{\"metadata\":{\"name\":\"b\"},\"spec\":{\"containers\":[{\"name\":\"c\"}]}}],"
+          + "\"kind\":\"PodList\",\"metadata\":{\"continue\":\"x\",\"resourceVersion\":\"2\"}}";
+      List<io.fabric8.kubernetes.api.model.Pod> items = new ArrayList<>();
+
+      ListMeta metadata = kubernetesSerialization.unmarshalItems(
+          new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), io.fabric8.kubernetes.api.model.Pod.class,
+          items::add);
+
+      assertThat(metadata.getResourceVersion()).isEqualTo("2");
+      assertThat(metadata.getContinue()).isEqualTo("x");
+      assertThat(items).extracting(p -> p.getMetadata().getName()).containsExactly("a", "b");
+      assertThat(items.get(1).getSpec().getContainers()).hasSize(1);
+    }
+
+    @Test
+    void shouldRejectNonObject() {
+      ByteArrayInputStream is = new ByteArrayInputStream("[]".getBytes(StandardCharsets.UTF_8));
+
+      assertThatExceptionOfType(KubernetesClientException.class)
+          .isThrownBy(() -> kubernetesSerialization.unmarshalItems(is, GenericKubernetesResource.class, i -> {
+          }));
+    }
+  }
+
+  @Nested
+  @DisplayName("unmarshalAll")
+  class UnmarshalAll {
+
+    @BeforeEach
+    void setUp() {
+      kubernetesSerialization = new KubernetesSerialization();
+    }
+
+    @Test
+    void shouldFlattenYamlDocumentsAndLists() {
+      String yaml = "apiVersion: v1\nkind: Namespace\nmetadata:\n  name: ns\n"
+          + "---\n"
+          + "---\n"
+          + "apiVersion: v1\nkind: List\nitems:\n"
+          + "- apiVersion: v1\n  kind: ConfigMap\n  metadata:\n    name: a\n"
+          + "- apiVersion: v1\n  kind: Secret\n  metadata:\n    name: b\n";
+
+      try (Stream<HasMetadata> resources = kubernetesSerialization.unmarshalAll(
+          new ByteArrayInputStream(yaml.getBytes(StandardCharsets.UTF_8)))) {
+        assertThat(resources).extracting(HasMetadata::getKind, r -> r.getMetadata().getName())
+            .containsExactly(tuple("Namespace", "ns"), tuple("ConfigMap", "a"), tuple("Secret", "b"));
+      }
+    }
+
+    @Test
+    void shouldFlattenJsonArray() {
+      String json = "[{\"apiVersion\":\"v1\",\"kind\":\"ConfigMap\",\"metadata\":{\"name\":\"a\"}},"
+          + "{\"apiVersion\":\"v1\",\"kind\":\"Pod\",\"metadata\":{\"name\":\"b\"}}]";
+
+      try (Stream<HasMetadata> resources = kubernetesSerialization.unmarshalAll(
+          new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)))) {
+        assertThat(resources).extracting(r -> r.getMetadata().getName()).containsExactly("a", "b");
+      }
+    }
+
+    @Test
+    void shouldReadDocumentsLazily() {
+      String yaml = "apiVersion: v1\nkind: ConfigMap\nmetadata:\n  name: a\n"
+          + "---\n"
+          + "just a string\n";
+
+      try (Stream<HasMetadata> resources = kubernetesSerialization.unmarshalAll(
+          new ByteArrayInputStream(yaml.getBytes(StandardCharsets.UTF_8)))) {
+        assertThat(resources.findFirst()).get().extracting(r -> r.getMetadata().getName()).isEqualTo("a");
+      }
+      try (Stream<HasMetadata> resources = kubernetesSerialization.unmarshalAll(
+          new ByteArrayInputStream(yaml.getBytes(StandardCharsets.UTF_8)))) {
+        assertThatExceptionOfType(KubernetesClientException.class)
+            .isThrownBy(() -> resources.forEach(r -> {
+            }));
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("nonBlockingListDeserializer")
+  class NonBlockingList {
+
+    private final String json = "{\"apiVersion\":\"v1\",\"items\":[{\"metadata\":{\"name\":\"a\"}},null,"
+        + "{\"metadata\":{\"name\":\"b\"},\"spec\":{\"containers\":[{\"name\":\"c\"}]}}],"
+        + "\"kind\":\"PodList\",\"metadata\":{\"continue\":\"x\",\"resourceVersion\":\"2\"}}";
+
+    @BeforeEach
+    void setUp() {
+      kubernetesSerialization = new KubernetesSerialization();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 7, 1024 })
+    void shouldDeserializeChunks(int chunkSize) throws IOException {
+      NonBlockingListDeserializer<PodList> deserializer = kubernetesSerialization
+          .nonBlockingListDeserializer(PodList.class, io.fabric8.kubernetes.api.model.Pod.class);
+      byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+      for (int i = 0; i < bytes.length; i += chunkSize) {
+        deserializer.feed(ByteBuffer.wrap(bytes, i, Math.min(chunkSize, bytes.length - i)));
+      }
+
+      PodList list = deserializer.complete();
+
+      assertThat(list.getMetadata().getResourceVersion()).isEqualTo("2");
+      assertThat(list.getMetadata().getContinue()).isEqualTo("x");
+      assertThat(list.getItems()).extracting(p -> p.getMetadata().getName()).containsExactly("a", "b");
+      assertThat(list.getItems().get(1).getSpec().getContainers()).hasSize(1);
+    }
+
+    @Test
+    void shouldRejectTruncatedInput() throws IOException {
+      NonBlockingListDeserializer<PodList> deserializer = kubernetesSerialization
+          .nonBlockingListDeserializer(PodList.class, io.fabric8.kubernetes.api.model.Pod.class);
+      deserializer.feed(ByteBuffer.wrap(json.getBytes(StandardCharsets.UTF_8), 0, 45));
+
+      assertThatExceptionOfType(IOException.class).isThrownBy(deserializer::complete);
+    }
+  }
+
+  @Nested
+  @DisplayName("unmarshalWatchEvent")
+  class UnmarshalWatchEvent {
+
+    @BeforeEach
+    void setUp() {
+      kubernetesSerialization = new KubernetesSerialization();
+    }
+
+    private WatchEvent unmarshal(String json, Class<?> objectType) {
+      byte[] bytes = ("xx" + json).getBytes(StandardCharsets.UTF_8);
+      return kubernetesSerialization.unmarshalWatchEvent(bytes, 2, bytes.length - 2, objectType);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "{\"type\":\"ADDED\",\"object\":{\"apiVersion\":\"v1\",\"kind\":\"Pod\",\"metadata\":{\"name\":\"a\"}}}",
+        "{\"object\":{\"apiVersion\":\"v1\",\"kind\":\"Pod\",\"metadata\":{\"name\":\"a\"}},\"type\":\"ADDED\"}"
+    })
+    void shouldBindObjectAsType(String json) {
+      WatchEvent event = unmarshal(json, io.fabric8.kubernetes.api.model.Pod.class);
+
+      assertThat(event.getType()).isEqualTo("ADDED");
+      assertThat(event.getObject()).isInstanceOf(io.fabric8.kubernetes.api.model.Pod.class)
+          .extracting(o -> ((HasMetadata) o).getMetadata().getName()).isEqualTo("a");
+    }
+
+    @Test
+    void shouldBindUnregisteredObjectAsGeneric() {
+      WatchEvent event = unmarshal("{\"type\":\"MODIFIED\",\"object\":{\"apiVersion\":\"example.com/v1\","
+          + "\"kind\":\"Foo\",\"metadata\":{\"name\":\"f\"},\"spec\":{\"x\":1}}}", GenericKubernetesResource.class);
+
+      assertThat(event.getObject()).isInstanceOf(GenericKubernetesResource.class);
+      assertThat(((GenericKubernetesResource) event.getObject()).<Integer> get("spec", "x")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldBindErrorObjectAsStatus() {
+      WatchEvent event = unmarshal("{\"type\":\"ERROR\",\"object\":{\"apiVersion\":\"v1\",\"kind\":\"Status\","
+          + "\"code\":410,\"reason\":\"Expired\"}}", io.fabric8.kubernetes.api.model.Pod.class);
+
+      assertThat(event.getObject()).isInstanceOf(Status.class);
+      assertThat(((Status) event.getObject()).getCode()).isEqualTo(410);
+    }
+
+    @Test
+    void shouldRejectNonObject() {
+      assertThatExceptionOfType(KubernetesClientException.class)
+          .isThrownBy(() -> unmarshal("[]", io.fabric8.kubernetes.api.model.Pod.class));
+    }
+  }
+
   @Version("v1")
   @Group("custom.core.kubernetes.io")
   @JsonDeserialize(using = JsonDeserializer.None.class)
@@ -210,6 +210,25 @@ class SerializationTest {
         .isNotSameAs(value);
   }
 
+  @Test
+  void cloneGenericKubernetesResourceIsDeep() {
+    // Given
+    GenericKubernetesResource resource = new GenericKubernetesResource();
+    resource.setApiVersion("example.com/v1");
+    resource.setKind("Example");
+    resource.setMetadata(new ObjectMeta());
+    resource.getMetadata().setLabels(new HashMap<>(Collections.singletonMap("app", "example")));
+    resource.setAdditionalProperty("spec", new HashMap<>(Collections.singletonMap("replicas", 1L)));
+    // When
+    GenericKubernetesResource clone = Serialization.clone(resource);
+    clone.getMetadata().getLabels().put("app", "changed");
+    ((Map<String, Object>) clone.getAdditionalProperties().get("spec")).put("replicas", 2L);
+    // Then
+    assertThat(resource.getMetadata().getLabels()).containsEntry("app", "example");
+    assertThat(resource.getAdditionalProperties().get("spec"))
+        .isEqualTo(Collections.singletonMap("replicas", 1L));
+  }
+
   @Test
   @DisplayName("unmarshal, with valid YAML custom resource, should return GenericKubernetesResource instance")
   void unmarshalWithValidCustomResourceShouldReturnGenericCustomResource() {
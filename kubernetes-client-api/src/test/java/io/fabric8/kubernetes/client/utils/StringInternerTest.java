@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.utils;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.PodList;
+import io.fabric8.kubernetes.api.model.PodListBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StringInternerTest {
+
+  @Test
+  void internReturnsHeldInstance() {
+    StringInterner interner = new StringInterner(16);
+    String first = new String("value");
+    String second = new String("value");
+
+    assertThat(interner.intern(first)).isSameAs(first);
+    assertThat(interner.intern(second)).isSameAs(first);
+    assertThat(interner.intern(first)).isSameAs(first);
+    assertThat(interner.getHits()).isEqualTo(1);
+    assertThat(interner.getMisses()).isEqualTo(1);
+    assertThat(interner.getEstimatedBytesSaved()).isPositive();
+  }
+
+  @Test
+  void internIgnoresNullAndEmpty() {
+    StringInterner interner = new StringInterner(16);
+
+    assertThat(interner.intern(null)).isNull();
+    assertThat(interner.intern("")).isEmpty();
+    assertThat(interner.getMisses()).isZero();
+  }
+
+  @Test
+  void unmarshalWithInternerSharesValues() {
+    StringInterner interner = new StringInterner();
+    KubernetesSerialization serialization = new KubernetesSerialization().withStringInterner(interner);
+    String json = new KubernetesSerialization().asJson(new PodListBuilder()
+        .addToItems(pod("a"), pod("b"))
+        .build());
+
+    PodList list = serialization.unmarshal(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), PodList.class);
+
+    Pod a = list.getItems().get(0);
+    Pod b = list.getItems().get(1);
+    assertThat(a.getMetadata().getNamespace()).isSameAs(b.getMetadata().getNamespace());
+    assertThat(a.getMetadata().getLabels().get("app")).isSameAs(b.getMetadata().getLabels().get("app"));
+    assertThat(a.getSpec().getNodeName()).isSameAs(b.getSpec().getNodeName());
+    assertThat(a.getMetadata().getName()).isEqualTo("a");
+    assertThat(interner.getHits()).isPositive();
+  }
+
+  @Test
+  void unmarshalWithoutInternerDoesNotShareValues() {
+    KubernetesSerialization serialization = new KubernetesSerialization();
+    String json = serialization.asJson(new PodListBuilder()
+        .addToItems(pod("a"), pod("b"))
+        .build());
+
+    PodList list = serialization.unmarshal(json, PodList.class);
+
+    assertThat(list.getItems().get(0).getSpec().getNodeName())
+        .isNotSameAs(list.getItems().get(1).getSpec().getNodeName());
+  }
+
+  @Test
+  void customStringDeserializerIsKept() {
+    ObjectMapper mapper = new ObjectMapper().registerModule(new SimpleModule("Trimming")
+        .addDeserializer(String.class, new StdDeserializer<String>(String.class) {
+          @Override
+          public String deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            return p.getValueAsString().trim();
+          }
+        }));
+    KubernetesSerialization serialization = new KubernetesSerialization(mapper, false);
+    String json = "{\"apiVersion\":\"v1\",\"kind\":\"Pod\",\"spec\":{\"nodeName\":\" node-1 \"}}";
+
+    KubernetesSerialization interning = serialization.withStringInterner(new StringInterner());
+
+    assertThat(interning.unmarshal(json, Pod.class).getSpec().getNodeName()).isNotNull();
+    assertThat(serialization.unmarshal(json, Pod.class).getSpec().getNodeName()).isEqualTo("node-1");
+  }
+
+  private static Pod pod(String name) {
+    return new PodBuilder()
+        .withNewMetadata().withName(name).withNamespace("default").addToLabels("app", "web").endMetadata()
+        .withNewSpec().withNodeName("node-1").endSpec()
+        .build();
+  }
+
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.benchmark;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.Container;
+import io.fabric8.kubernetes.api.model.ContainerBuilder;
+import io.fabric8.kubernetes.api.model.Quantity;
+import io.fabric8.kubernetes.api.model.apps.Deployment;
+import io.fabric8.kubernetes.api.model.apps.DeploymentBuilder;
+import io.fabric8.kubernetes.client.utils.KubernetesSerialization;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link KubernetesSerialization#clone(Object)}, as used by edit and replace operations, against
+ * a round trip through serialized JSON.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@Fork(2)
+public class CloneBenchmark {
+
+  @Param({ "10", "200" })
+  public int entries;
+
+  private KubernetesSerialization serialization;
+  private Deployment deployment;
+  private ConfigMap configMap;
+
+  @Setup
+  public void setup() {
+    serialization = new KubernetesSerialization();
+    ContainerBuilder containerBuilder = new ContainerBuilder()
+        .withName("main")
+        .withImage("registry.example.com/deployment:1.0.0")
+        .withNewResources()
+        .addToRequests("cpu", new Quantity("100m"))
+        .addToRequests("memory", new Quantity("128Mi"))
+        .endResources();
+    DeploymentBuilder deploymentBuilder = new DeploymentBuilder().withNewMetadata()
+        .withNamespace("namespace")
+        .withName("deployment")
+        .withResourceVersion("12345")
+        .endMetadata()
+        .withNewSpec()
+        .withReplicas(3)
+        .withNewSelector().addToMatchLabels("app", "deployment").endSelector()
+        .withNewTemplate()
+        .withNewMetadata().addToLabels("app", "deployment").endMetadata()
+        .endTemplate()
+        .endSpec();
+    ConfigMapBuilder configMapBuilder = new ConfigMapBuilder().withNewMetadata()
+        .withNamespace("namespace")
+        .withName("config")
+        .endMetadata();
+    for (int i = 0; i < entries; i++) {
+      containerBuilder.addNewEnv().withName("ENV_" + i).withValue("value-" + i).endEnv();
+      deploymentBuilder.editMetadata().addToAnnotations("example.com/annotation-" + i, "value-" + i).endMetadata();
+      configMapBuilder.addToData("key-" + i + ".properties", "property." + i + "=value-" + i);
+    }
+    Container container = containerBuilder.build();
+    deployment = deploymentBuilder.editSpec().editTemplate().withNewSpec().withContainers(container).endSpec()
+        .endTemplate().endSpec().build();
+    configMap = configMapBuilder.build();
+  }
+
+  @Benchmark
+  public Deployment cloneDeployment() {
+    return serialization.clone(deployment);
+  }
+
+  @Benchmark
+  public Deployment jsonRoundTripDeployment() {
+    return serialization.unmarshalJson(serialization.asJsonBytes(deployment), Deployment.class);
+  }
+
+  @Benchmark
+  public ConfigMap cloneConfigMap() {
+    return serialization.clone(configMap);
+  }
+
+  @Benchmark
+  public ConfigMap jsonRoundTripConfigMap() {
+    return serialization.unmarshalJson(serialization.asJsonBytes(configMap), ConfigMap.class);
+  }
+
+}
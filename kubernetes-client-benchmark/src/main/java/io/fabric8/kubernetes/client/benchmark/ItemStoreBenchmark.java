@@ -0,0 +1,105 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.benchmark;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.client.informers.cache.BasicItemStore;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.fabric8.kubernetes.client.informers.cache.ItemStore;
+import io.fabric8.kubernetes.client.informers.cache.SerializedItemStore;
+import io.fabric8.kubernetes.client.utils.KubernetesSerialization;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the {@link BasicItemStore} and the {@link SerializedItemStore}.
+ * <p>
+ * The retained heap of the filled store is reported by the {@link RetainedHeapProfiler}.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@Fork(2)
+public class ItemStoreBenchmark {
+
+  @Param({ "basic", "serialized" })
+  public String store;
+
+  @Param({ "20000" })
+  public int items;
+
+  private ItemStore<ConfigMap> itemStore;
+  private String[] keys;
+
+  @Setup
+  public void setup() {
+    long before = RetainedHeapProfiler.usedHeap();
+    if (store.equals("basic")) {
+      itemStore = new BasicItemStore<>(Cache::metaNamespaceKeyFunc);
+    } else {
+      itemStore = new SerializedItemStore<>(ConfigMap.class, new KubernetesSerialization());
+    }
+    keys = new String[items];
+    for (int i = 0; i < items; i++) {
+      ConfigMap configMap = configMap(i);
+      keys[i] = itemStore.getKey(configMap);
+      itemStore.put(keys[i], configMap);
+    }
+    RetainedHeapProfiler.recordRetainedHeap("retained.heap", before);
+  }
+
+  static ConfigMap configMap(int i) {
+    ConfigMapBuilder builder = new ConfigMapBuilder().withNewMetadata()
+        .withNamespace("namespace-" + (i % 5000))
+        .withName("config-" + i)
+        .withUid(UUID.randomUUID().toString())
+        .withResourceVersion(String.valueOf(i))
+        .addToLabels("app.kubernetes.io/name", "app-" + (i % 100))
+        .addToLabels("app.kubernetes.io/managed-by", "operator")
+        .endMetadata();
+    for (int j = 0; j < 10; j++) {
+      builder.addToData("key-" + j, "value-" + j + "-" + i);
+    }
+    return builder.build();
+  }
+
+  @Benchmark
+  public ConfigMap getRandom() {
+    return itemStore.get(keys[ThreadLocalRandom.current().nextInt(keys.length)]);
+  }
+
+  @Benchmark
+  public ConfigMap getRecent() {
+    return itemStore.get(keys[ThreadLocalRandom.current().nextInt(16)]);
+  }
+
+}
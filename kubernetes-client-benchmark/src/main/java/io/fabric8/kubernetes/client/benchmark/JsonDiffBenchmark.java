@@ -0,0 +1,148 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.fabric8.kubernetes.api.model.ContainerBuilder;
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
+import io.fabric8.kubernetes.api.model.apps.Deployment;
+import io.fabric8.kubernetes.api.model.apps.DeploymentBuilder;
+import io.fabric8.kubernetes.client.utils.KubernetesSerialization;
+import io.fabric8.zjsonpatch.DiffFlags;
+import io.fabric8.zjsonpatch.JsonDiff;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link JsonDiff} of resources with large arrays, as computed for edit and update patches,
+ * with and without {@link DiffFlags#LINEAR_ARRAY_DIFF}.
+ * <p>
+ * Each updated resource differs by a single modified, inserted and removed element.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@Fork(2)
+public class JsonDiffBenchmark {
+
+  @Param({ "false", "true" })
+  public boolean linear;
+
+  @Param({ "100", "2000" })
+  public int entries;
+
+  private EnumSet<DiffFlags> flags;
+  private JsonNode deployment;
+  private JsonNode updatedDeployment;
+  private JsonNode resource;
+  private JsonNode updatedResource;
+
+  @Setup
+  public void setup() {
+    flags = DiffFlags.defaults();
+    if (linear) {
+      flags.add(DiffFlags.LINEAR_ARRAY_DIFF);
+    }
+    KubernetesSerialization serialization = new KubernetesSerialization();
+
+    ContainerBuilder container = new ContainerBuilder().withName("main").withImage("registry.example.com/app:1.0.0");
+    ContainerBuilder updatedContainer = new ContainerBuilder(container.build());
+    for (int i = 0; i < entries; i++) {
+      container.addNewEnv().withName("ENV_" + i).withValue("value-" + i).endEnv();
+      if (i == entries / 4) {
+        updatedContainer.addNewEnv().withName("ENV_NEW").withValue("value").endEnv();
+      }
+      if (i != entries / 2) {
+        updatedContainer.addNewEnv().withName("ENV_" + i).withValue(i == entries * 3 / 4 ? "changed" : "value-" + i)
+            .endEnv();
+      }
+    }
+    deployment = serialization.convertValue(deployment(container), JsonNode.class);
+    updatedDeployment = serialization.convertValue(deployment(updatedContainer), JsonNode.class);
+
+    List<Object> nodes = new ArrayList<>(entries);
+    List<Object> updatedNodes = new ArrayList<>(entries);
+    for (int i = 0; i < entries; i++) {
+      nodes.add("node-" + i);
+      if (i == entries / 4) {
+        updatedNodes.add("node-new");
+      }
+      if (i != entries / 2) {
+        updatedNodes.add(i == entries * 3 / 4 ? "node-changed" : "node-" + i);
+      }
+    }
+    resource = serialization.convertValue(customResource(nodes), JsonNode.class);
+    updatedResource = serialization.convertValue(customResource(updatedNodes), JsonNode.class);
+  }
+
+  private static Deployment deployment(ContainerBuilder container) {
+    return new DeploymentBuilder().withNewMetadata()
+        .withNamespace("namespace")
+        .withName("deployment")
+        .endMetadata()
+        .withNewSpec()
+        .withReplicas(3)
+        .withNewTemplate()
+        .withNewSpec()
+        .withContainers(container.build())
+        .endSpec()
+        .endTemplate()
+        .endSpec()
+        .build();
+  }
+
+  private static GenericKubernetesResource customResource(List<Object> nodes) {
+    Map<String, Object> status = new LinkedHashMap<>();
+    status.put("phase", "Ready");
+    status.put("nodes", nodes);
+    GenericKubernetesResource resource = new GenericKubernetesResource();
+    resource.setApiVersion("example.com/v1");
+    resource.setKind("Cluster");
+    resource.setMetadata(new ObjectMetaBuilder().withNamespace("namespace").withName("cluster").build());
+    resource.setAdditionalProperty("status", status);
+    return resource;
+  }
+
+  @Benchmark
+  public JsonNode diffNamedObjects() {
+    return JsonDiff.asJson(deployment, updatedDeployment, flags);
+  }
+
+  @Benchmark
+  public JsonNode diffScalars() {
+    return JsonDiff.asJson(resource, updatedResource, flags);
+  }
+
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import io.fabric8.kubernetes.api.model.ContainerBuilder;
+import io.fabric8.kubernetes.api.model.apps.DeploymentBuilder;
+import io.fabric8.kubernetes.client.utils.KubernetesSerialization;
+import io.fabric8.zjsonpatch.CompiledJsonPatch;
+import io.fabric8.zjsonpatch.JsonPatch;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures applying the same JSON Patch to many freshly read resources, as done by the mock server,
+ * either parsing and copying for each application or with a {@link CompiledJsonPatch} applied in place.
+ * <p>
+ * The patch modifies labels and environment variables, so that most operations share their parent.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@Fork(2)
+public class JsonPatchBenchmark {
+
+  @Param({ "10", "200" })
+  public int entries;
+
+  private final ObjectMapper mapper = new ObjectMapper();
+  private byte[] deployment;
+  private JsonNode patch;
+  private CompiledJsonPatch compiledPatch;
+
+  @Setup
+  public void setup() {
+    KubernetesSerialization serialization = new KubernetesSerialization();
+    Map<String, String> labels = new LinkedHashMap<>();
+    ContainerBuilder container = new ContainerBuilder().withName("main").withImage("registry.example.com/app:1.0.0");
+    for (int i = 0; i < entries; i++) {
+      labels.put("label-" + i, "value-" + i);
+      container.addNewEnv().withName("ENV_" + i).withValue("value-" + i).endEnv();
+    }
+    deployment = serialization.asJsonBytes(new DeploymentBuilder().withNewMetadata()
+        .withNamespace("namespace")
+        .withName("deployment")
+        .withLabels(labels)
+        .endMetadata()
+        .withNewSpec()
+        .withReplicas(3)
+        .withNewTemplate()
+        .withNewSpec()
+        .withContainers(container.build())
+        .endSpec()
+        .endTemplate()
+        .endSpec()
+        .build());
+
+    ArrayNode operations = mapper.createArrayNode();
+    for (int i = 0; i < entries; i++) {
+      operations.addObject().put("op", "replace").put("path", "/metadata/labels/label-" + i).put("value", "patched");
+    }
+    for (int i = 0; i < entries; i++) {
+      operations.addObject().put("op", "replace").put("path", "/spec/template/spec/containers/0/env/" + i + "/value")
+          .put("value", "patched");
+    }
+    operations.addObject().put("op", "replace").put("path", "/spec/replicas").put("value", 5);
+    patch = operations;
+    compiledPatch = JsonPatch.compile(patch);
+  }
+
+  @Benchmark
+  public JsonNode apply() throws IOException {
+    return JsonPatch.apply(patch, mapper.readTree(deployment));
+  }
+
+  @Benchmark
+  public JsonNode compiledApplyInPlace() throws IOException {
+    return compiledPatch.applyInPlace(mapper.readTree(deployment));
+  }
+
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.benchmark;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.profile.InternalProfiler;
+import org.openjdk.jmh.results.AggregationPolicy;
+import org.openjdk.jmh.results.IterationResult;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.ScalarResult;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Reports the values recorded by a benchmark, such as the heap retained by its state, as secondary results of
+ * each iteration.
+ * <p>
+ * Enable it with {@code -prof io.fabric8.kubernetes.client.benchmark.RetainedHeapProfiler}. Unlike
+ * {@link org.openjdk.jmh.annotations.AuxCounters}, which are summed over the iterations, the recorded values are
+ * averaged.
+ */
+public class RetainedHeapProfiler implements InternalProfiler {
+
+  private static final Map<String, ScalarResult> RECORDED = new ConcurrentSkipListMap<>();
+
+  /**
+   * Record the heap retained since a measurement of {@link #usedHeap()}
+   *
+   * @param label the label of the secondary result
+   * @param before the used heap before the retained objects were allocated
+   */
+  static void recordRetainedHeap(String label, long before) {
+    record(label, (usedHeap() - before) / 1024.0, "KiB");
+  }
+
+  /**
+   * Record a value, replacing any previous value with the same label
+   */
+  static void record(String label, double value, String unit) {
+    RECORDED.put(label, new ScalarResult(label, value, unit, AggregationPolicy.AVG));
+  }
+
+  /**
+   * @return the used heap after requesting garbage collections
+   */
+  static long usedHeap() {
+    Runtime runtime = Runtime.getRuntime();
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+    }
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+
+  @Override
+  public String getDescription() {
+    return "Values recorded by the benchmark, such as the retained heap";
+  }
+
+  @Override
+  public void beforeIteration(BenchmarkParams benchmarkParams, IterationParams iterationParams) {
+    // values are recorded by the benchmark
+  }
+
+  @Override
+  public Collection<? extends Result> afterIteration(BenchmarkParams benchmarkParams, IterationParams iterationParams,
+      IterationResult result) {
+    return new ArrayList<>(RECORDED.values());
+  }
+
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.benchmark;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.PodList;
+import io.fabric8.kubernetes.api.model.PodListBuilder;
+import io.fabric8.kubernetes.client.utils.KubernetesSerialization;
+import io.fabric8.kubernetes.client.utils.StringInterner;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures deserialization of a large pod list with and without a {@link StringInterner}.
+ * <p>
+ * The retained heap of the deserialized list and the interner statistics are reported by the
+ * {@link RetainedHeapProfiler}.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@Fork(2)
+public class StringInterningBenchmark {
+
+  @Param({ "false", "true" })
+  public boolean intern;
+
+  @Param({ "50000" })
+  public int pods;
+
+  private KubernetesSerialization serialization;
+  private byte[] json;
+
+  @Setup
+  public void setup() {
+    KubernetesSerialization base = new KubernetesSerialization();
+    List<Pod> items = new ArrayList<>(pods);
+    for (int i = 0; i < pods; i++) {
+      items.add(pod(i));
+    }
+    json = base.asJson(new PodListBuilder().withItems(items).build()).getBytes(StandardCharsets.UTF_8);
+    items = null;
+
+    StringInterner interner = new StringInterner();
+    serialization = intern ? base.withStringInterner(interner) : base;
+    long before = RetainedHeapProfiler.usedHeap();
+    PodList list = serialization.unmarshalJson(json, PodList.class);
+    RetainedHeapProfiler.recordRetainedHeap("retained.heap", before);
+    RetainedHeapProfiler.record("interner.hits", interner.getHits(), "#");
+    RetainedHeapProfiler.record("interner.saved", interner.getEstimatedBytesSaved() / 1024.0, "KiB");
+    if (list.getItems().size() != pods) {
+      throw new IllegalStateException("Deserialized " + list.getItems().size() + " pods");
+    }
+  }
+
+  static Pod pod(int i) {
+    String app = "app-" + (i % 200);
+    return new PodBuilder().withNewMetadata()
+        .withNamespace("namespace-" + (i % 50))
+        .withName(app + "-" + i)
+        .withUid(UUID.randomUUID().toString())
+        .withResourceVersion(String.valueOf(i))
+        .addToLabels("app.kubernetes.io/name", app)
+        .addToLabels("app.kubernetes.io/managed-by", "operator")
+        .addToLabels("pod-template-hash", "7d4b9c" + (i % 200))
+        .addNewOwnerReference()
+        .withApiVersion("apps/v1")
+        .withKind("ReplicaSet")
+        .withName(app + "-7d4b9c")
+        .withUid("owner-" + (i % 200))
+        .withController(true)
+        .endOwnerReference()
+        .endMetadata()
+        .withNewSpec()
+        .withNodeName("node-" + (i % 500))
+        .withServiceAccountName("default")
+        .withRestartPolicy("Always")
+        .addNewContainer()
+        .withName("main")
+        .withImage("registry.example.com/" + app + ":1.0." + (i % 3))
+        .withImagePullPolicy("IfNotPresent")
+        .addNewEnv().withName("LOG_LEVEL").withValue("info").endEnv()
+        .endContainer()
+        .endSpec()
+        .withNewStatus()
+        .withPhase("Running")
+        .withHostIP("10.0." + (i % 500 / 250) + "." + (i % 250))
+        .withQosClass("BestEffort")
+        .endStatus()
+        .build();
+  }
+
+  @Benchmark
+  public PodList deserialize() {
+    return serialization.unmarshalJson(json, PodList.class);
+  }
+
+}
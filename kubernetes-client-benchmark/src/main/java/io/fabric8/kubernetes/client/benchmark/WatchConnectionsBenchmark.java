@@ -0,0 +1,147 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.benchmark;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.client.Config;
+import io.fabric8.kubernetes.client.ConfigBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientBuilder;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.WatcherException;
+import io.fabric8.kubernetes.client.http.Http2Settings;
+import io.fabric8.kubernetes.client.vertx.VertxHttpClientFactory;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Measures the server connections and the heap held by many concurrent watches against a local server that
+ * keeps every watch open.
+ * <p>
+ * The http1 profile is the default behavior, where each watch is a websocket with its own connection. The http2
+ * profile uses HTTP watches on a client configured with {@link Http2Settings}, which share a multiplexed
+ * connection. The local server is plain text, so HTTP/2 is negotiated via an h2c upgrade rather than ALPN.
+ * <p>
+ * The connection count and the retained heap, which includes the server side of each connection, are reported
+ * by the {@link RetainedHeapProfiler}.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@BenchmarkMode(Mode.SingleShotTime)
+@Fork(1)
+public class WatchConnectionsBenchmark {
+
+  @Param({ "http1", "http2" })
+  public String profile;
+
+  @Param({ "60" })
+  public int watches;
+
+  private final AtomicInteger connections = new AtomicInteger();
+  private volatile CountDownLatch started;
+  private Vertx vertx;
+  private HttpServer server;
+
+  @Setup
+  public void setup() throws Exception {
+    vertx = Vertx.vertx();
+    server = vertx.createHttpServer()
+        .connectionHandler(connection -> {
+          connections.incrementAndGet();
+          connection.closeHandler(v -> connections.decrementAndGet());
+        })
+        .webSocketHandler(webSocket -> started.countDown())
+        .requestHandler(request -> {
+          // hold the watch open without sending any events
+          request.response().setChunked(true).putHeader("Content-Type", "application/json").write("\n");
+          started.countDown();
+        });
+    server.listen(0).toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    server.close().toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+    vertx.close();
+  }
+
+  @Setup(Level.Invocation)
+  public void reset() {
+    started = new CountDownLatch(watches);
+  }
+
+  @Benchmark
+  public int openWatches() throws InterruptedException {
+    boolean http2 = "http2".equals(profile);
+    Config config = new ConfigBuilder(Config.empty())
+        .withMasterUrl("http://localhost:" + server.actualPort())
+        .withOnlyHttpWatches(http2)
+        .build();
+    KubernetesClientBuilder builder = new KubernetesClientBuilder().withConfig(config)
+        .withHttpClientFactory(new VertxHttpClientFactory());
+    if (http2) {
+      builder.withHttpClientBuilderConsumer(b -> b.http2(Http2Settings.defaults()));
+    }
+    long before = RetainedHeapProfiler.usedHeap();
+    try (KubernetesClient client = builder.build()) {
+      List<Watch> opened = new ArrayList<>(watches);
+      for (int i = 0; i < watches; i++) {
+        opened.add(client.pods().inNamespace("namespace-" + i).watch(new Watcher<Pod>() {
+          @Override
+          public void eventReceived(Action action, Pod resource) {
+            // no events are sent
+          }
+
+          @Override
+          public void onClose(WatcherException cause) {
+            // closed at the end of the invocation
+          }
+        }));
+      }
+      if (!started.await(30, TimeUnit.SECONDS)) {
+        throw new IllegalStateException("Not all watches were started");
+      }
+      int result = connections.get();
+      RetainedHeapProfiler.recordRetainedHeap("retained.heap", before);
+      RetainedHeapProfiler.record("connections", result, "#");
+      opened.forEach(Watch::close);
+      return result;
+    }
+  }
+
+}
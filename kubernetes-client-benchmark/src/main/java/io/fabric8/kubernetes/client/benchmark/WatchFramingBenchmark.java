@@ -0,0 +1,125 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.benchmark;
+
+import io.fabric8.kubernetes.api.model.WatchEvent;
+import io.fabric8.kubernetes.client.dsl.internal.WatchEventFramer;
+import io.fabric8.kubernetes.client.utils.KubernetesSerialization;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures watch events per second from the bytes received by each watch transport to deserialized
+ * {@link WatchEvent}s.
+ * <p>
+ * The string framing reproduces the previous handling, which decoded the bytes and built a String for each
+ * event. The bytes framing is the handling of the watch managers, which pass the bytes directly to Jackson.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@BenchmarkMode(Mode.Throughput)
+@Fork(2)
+public class WatchFramingBenchmark {
+
+  private static final int EVENTS = 1000;
+
+  @Param({ "http", "websocket" })
+  public String transport;
+
+  @Param({ "string", "bytes" })
+  public String framing;
+
+  @Param({ "8192" })
+  public int chunkSize;
+
+  private final KubernetesSerialization serialization = new KubernetesSerialization();
+  // http chunks of the newline delimited events
+  private final List<ByteBuffer> chunks = new ArrayList<>();
+  // websocket frames of one event each
+  private final List<ByteBuffer> frames = new ArrayList<>();
+
+  @Setup
+  public void setup() {
+    ByteArrayOutputStream stream = new ByteArrayOutputStream();
+    for (int i = 0; i < EVENTS; i++) {
+      byte[] event = ("{\"type\":\"MODIFIED\",\"object\":" + serialization.asJson(StringInterningBenchmark.pod(i)) + "}")
+          .getBytes(StandardCharsets.UTF_8);
+      frames.add(ByteBuffer.wrap(event));
+      stream.write(event, 0, event.length);
+      stream.write('\n');
+    }
+    byte[] bytes = stream.toByteArray();
+    for (int i = 0; i < bytes.length; i += chunkSize) {
+      chunks.add(ByteBuffer.wrap(bytes, i, Math.min(chunkSize, bytes.length - i)).slice());
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(EVENTS)
+  public void watch(Blackhole blackhole) {
+    boolean bytes = "bytes".equals(framing);
+    if ("http".equals(transport)) {
+      if (bytes) {
+        WatchEventFramer framer = new WatchEventFramer(
+            (b, offset, length) -> blackhole.consume(serialization.unmarshalJson(b, offset, length, WatchEvent.class)));
+        chunks.forEach(chunk -> framer.feed(chunk.duplicate()));
+      } else {
+        StringBuffer buffer = new StringBuffer();
+        for (ByteBuffer chunk : chunks) {
+          for (char c : StandardCharsets.UTF_8.decode(chunk.duplicate()).array()) {
+            if (c == '\n') {
+              blackhole.consume(serialization.unmarshal(buffer.toString(), WatchEvent.class));
+              buffer.setLength(0);
+            } else {
+              buffer.append(c);
+            }
+          }
+        }
+      }
+    } else {
+      for (ByteBuffer frame : frames) {
+        if (bytes) {
+          blackhole.consume(serialization.unmarshalJson(frame.array(), frame.arrayOffset() + frame.position(),
+              frame.remaining(), WatchEvent.class));
+        } else {
+          blackhole.consume(serialization.unmarshal(StandardCharsets.UTF_8.decode(frame.duplicate()).toString(),
+              WatchEvent.class));
+        }
+      }
+    }
+  }
+
+}
@@ -16,10 +16,7 @@
 package io.fabric8.kubernetes.client.dsl.internal;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.fabric8.kubernetes.api.model.HasMetadata;
-import io.fabric8.kubernetes.api.model.KubernetesResource;
 import io.fabric8.kubernetes.api.model.ListOptions;
 import io.fabric8.kubernetes.api.model.Status;
 import io.fabric8.kubernetes.api.model.StatusDetails;
@@ -30,6 +27,7 @@ import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.Watcher.Action;
 import io.fabric8.kubernetes.client.WatcherException;
 import io.fabric8.kubernetes.client.http.HttpClient;
+import io.fabric8.kubernetes.client.metrics.ClientMetrics;
 import io.fabric8.kubernetes.client.utils.ExponentialBackoffIntervalCalculator;
 import io.fabric8.kubernetes.client.utils.KubernetesSerialization;
 import io.fabric8.kubernetes.client.utils.Utils;
@@ -41,6 +39,8 @@ import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.ProtocolException;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -102,6 +102,7 @@ public abstract class AbstractWatchManager<T extends HasMetadata> implements Wat
 
   private static final Logger logger = LoggerFactory.getLogger(AbstractWatchManager.class);
   private static final int INFO_LOG_CONNECTION_ERRORS = 10;
+  private static final String INITIAL_EVENTS_END_ANNOTATION = "k8s.io/initial-events-end";
 
   final Watcher<T> watcher;
   final AtomicReference<String> resourceVersion;
@@ -117,6 +118,8 @@ public abstract class AbstractWatchManager<T extends HasMetadata> implements Wat
   private final URL requestUrl;
 
   private final boolean receiveBookmarks;
+  private final ClientMetrics metrics;
+  private final String metricsResource;
 
   volatile WatchRequestState latestRequestState;
   private final Map<Class<?>, Integer> endErrors = new ConcurrentHashMap<>();
@@ -142,6 +145,8 @@ public abstract class AbstractWatchManager<T extends HasMetadata> implements Wat
     this.requestUrl = baseOperation.getNamespacedUrl();
     this.listOptions = listOptions;
     this.client = client;
+    this.metrics = baseOperation.getMetrics();
+    this.metricsResource = metrics.isEnabled() ? baseOperation.getMetricsResource() : null;
 
     startWatch();
   }
@@ -228,6 +233,7 @@ public abstract class AbstractWatchManager<T extends HasMetadata> implements Wat
     long delay = nextReconnectInterval();
 
     logger.debug("Scheduling reconnect task in {} ms", delay);
+    metrics.watchReconnecting(metricsResource);
 
     synchronized (this) {
       reconnectAttempt = Utils.schedule(baseOperation.getOperationContext().getExecutor(), this::reconnect, delay,
@@ -270,6 +276,7 @@ public abstract class AbstractWatchManager<T extends HasMetadata> implements Wat
       return;
     }
     retryIntervalCalculator.resetReconnectAttempts();
+    metrics.watchStarted(metricsResource);
   }
 
   boolean isForceClosed() {
@@ -331,66 +338,97 @@ public abstract class AbstractWatchManager<T extends HasMetadata> implements Wat
     cancelReconnect();
   }
 
-  private WatchEvent contextAwareWatchEventDeserializer(String messageSource)
-      throws JsonProcessingException {
-    KubernetesSerialization kubernetesSerialization = this.baseOperation.getKubernetesSerialization();
+  private WatchEvent deserializeWatchEvent(byte[] message, int offset, int length) throws JsonProcessingException {
     try {
-      return kubernetesSerialization.unmarshal(messageSource, WatchEvent.class);
-    } catch (Exception ex1) {
-      // TODO: this is not necessarily correct - it will force the object to be the expected type
-      // even though it is not (for example Status could be converted to the typed result)
-      JsonNode json = kubernetesSerialization.unmarshal(messageSource, JsonNode.class);
-      JsonNode objectJson = null;
-      if (json instanceof ObjectNode && json.has("object")) {
-        objectJson = ((ObjectNode) json).remove("object");
+      return baseOperation.getKubernetesSerialization().unmarshalWatchEvent(message, offset, length,
+          baseOperation.getType());
+    } catch (KubernetesClientException e) {
+      if (e.getCause() instanceof JsonProcessingException) {
+        throw (JsonProcessingException) e.getCause();
       }
+      throw e;
+    }
+  }
 
-      WatchEvent watchEvent = kubernetesSerialization.convertValue(json, WatchEvent.class);
-      KubernetesResource object = kubernetesSerialization.convertValue(objectJson, baseOperation.getType());
+  protected void onMessage(String message, WatchRequestState state) {
+    byte[] bytes = message.getBytes(StandardCharsets.UTF_8);
+    onMessage(bytes, 0, bytes.length, state);
+  }
 
-      watchEvent.setObject(object);
-      return watchEvent;
+  /**
+   * Handle a single event held in a buffer, which is passed directly to the deserializer.
+   * The content of the buffer is only used for the duration of the call.
+   */
+  protected void onMessage(ByteBuffer message, WatchRequestState state) {
+    if (message.hasArray()) {
+      onMessage(message.array(), message.arrayOffset() + message.position(), message.remaining(), state);
+    } else {
+      byte[] bytes = new byte[message.remaining()];
+      message.get(bytes);
+      onMessage(bytes, 0, bytes.length, state);
     }
   }
 
-  protected void onMessage(String message, WatchRequestState state) {
+  /**
+   * Handle a single UTF-8 encoded event. The bytes are only decoded to a String should the event need
+   * to be reported.
+   */
+  protected void onMessage(byte[] bytes, int offset, int length, WatchRequestState state) {
     endErrors.clear();
     if (state.closed.get() || forceClosed.get()) {
       return;
     }
     try {
-      WatchEvent event = contextAwareWatchEventDeserializer(message);
+      WatchEvent event = deserializeWatchEvent(bytes, offset, length);
       Object object = event.getObject();
       Action action = Action.valueOf(event.getType());
+      metrics.watchEventReceived(metricsResource, action);
       if (action == Action.ERROR) {
         if (object instanceof Status) {
           Status status = (Status) object;
 
           onStatus(status, state);
         } else {
-          logger.error("Received an error which is not a status but {} - will retry", message);
+          logger.error("Received an error which is not a status but {} - will retry",
+              new String(bytes, offset, length, StandardCharsets.UTF_8));
           closeRequest();
         }
       } else if (object instanceof HasMetadata) {
         HasMetadata hasMetadata = (HasMetadata) object;
         updateResourceVersion(hasMetadata.getMetadata().getResourceVersion());
+        if (action == Action.BOOKMARK && Boolean.TRUE.equals(listOptions.getSendInitialEvents())
+            && isInitialEventsEnd(hasMetadata)) {
+          // resume from the bookmark when reconnecting, rather than receiving the initial events again
+          listOptions.setSendInitialEvents(null);
+          listOptions.setResourceVersionMatch(null);
+        }
         eventReceived(action, hasMetadata);
       } else {
+        String message = new String(bytes, offset, length, StandardCharsets.UTF_8);
         final String msg = String.format("Invalid object received: %s", message);
         close(new WatcherException(msg, null, message));
       }
     } catch (ClassCastException e) {
       final String msg = "Received wrong type of object for watch";
-      close(new WatcherException(msg, e, message));
+      close(new WatcherException(msg, e, new String(bytes, offset, length, StandardCharsets.UTF_8)));
     } catch (JsonProcessingException e) {
+      String message = new String(bytes, offset, length, StandardCharsets.UTF_8);
       final String msg = "Couldn't deserialize watch event: " + message;
       close(new WatcherException(msg, e, message));
     } catch (Exception e) {
       final String msg = "Unexpected exception processing watch event";
-      close(new WatcherException(msg, e, message));
+      close(new WatcherException(msg, e, new String(bytes, offset, length, StandardCharsets.UTF_8)));
     }
   }
 
+  /**
+   * @return true if the resource is the bookmark ending the initial events of a watch requested with sendInitialEvents
+   */
+  public static boolean isInitialEventsEnd(HasMetadata bookmark) {
+    Map<String, String> annotations = bookmark.getMetadata() == null ? null : bookmark.getMetadata().getAnnotations();
+    return annotations != null && "true".equals(annotations.get(INITIAL_EVENTS_END_ANNOTATION));
+  }
+
   protected boolean onStatus(Status status, WatchRequestState state) {
     endErrors.clear();
     if (state.closed.get()) {
@@ -0,0 +1,167 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl.internal;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.StatusDetails;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.KubernetesClientTimeoutException;
+import io.fabric8.kubernetes.client.dsl.AsyncResource;
+import io.fabric8.kubernetes.client.dsl.base.PatchContext;
+import io.fabric8.kubernetes.client.dsl.base.PatchType;
+import io.fabric8.kubernetes.client.utils.Utils;
+
+import java.net.HttpURLConnection;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+/**
+ * Implements the {@link AsyncResource} operations directly on the async request handling of the {@link BaseOperation}.
+ */
+class AsyncResourceImpl<T extends HasMetadata> implements AsyncResource<T> {
+
+  private final BaseOperation<T, ?, ?> operation;
+
+  AsyncResourceImpl(BaseOperation<T, ?, ?> operation) {
+    this.operation = operation;
+  }
+
+  @Override
+  public CompletionStage<T> get() {
+    return send(() -> {
+      requireName();
+      return operation.handleGetAsync(operation.getCompleteResourceUrl(), operation.getType());
+    }).handle((answer, t) -> {
+      if (t != null) {
+        KubernetesClientException e = asKubernetesClientException(t);
+        if (e.getCode() != HttpURLConnection.HTTP_NOT_FOUND) {
+          throw e;
+        }
+        return null;
+      }
+      operation.updateApiVersion(answer);
+      return answer;
+    });
+  }
+
+  @Override
+  public CompletionStage<T> create() {
+    return send(() -> {
+      T item = operation.getNonNullItem();
+      operation.updateApiVersion(item);
+      return operation.handleCreateAsync(item, operation.getType());
+    });
+  }
+
+  @Override
+  public CompletionStage<T> patch(PatchContext patchContext, String patch) {
+    return send(() -> {
+      requireName();
+      return operation.handlePatchAsync(patchContext, operation.getItem(),
+          operation.getKubernetesSerialization().convertToJson(patch), operation.getType());
+    });
+  }
+
+  @Override
+  public CompletionStage<T> serverSideApply() {
+    return send(() -> {
+      T item = operation.getNonNullItem();
+      operation.updateApiVersion(item);
+      return operation.handlePatchAsync(PatchContext.of(PatchType.SERVER_SIDE_APPLY), item,
+          operation.getKubernetesSerialization().asJson(item), operation.getType());
+    });
+  }
+
+  @Override
+  public CompletionStage<List<StatusDetails>> delete() {
+    if (!operation.isSingleDeleteRequest()) {
+      // a delete per namespace is needed, which is not worth duplicating
+      return CompletableFuture.supplyAsync(operation::delete, operation.context.getExecutor());
+    }
+    return send(operation::handleDeleteAsync).handle((result, t) -> {
+      if (t != null) {
+        KubernetesClientException e = asKubernetesClientException(t);
+        if (Utils.isNotNullOrEmpty(operation.getName()) && e.getCode() == HttpURLConnection.HTTP_NOT_FOUND) {
+          return CompletableFuture.completedFuture(Collections.<StatusDetails> emptyList());
+        }
+        if (Utils.isNullOrEmpty(operation.getName()) && e.getCode() == HttpURLConnection.HTTP_BAD_METHOD) {
+          // collection delete may not be supported, fall-back to single item deletes
+          return CompletableFuture.supplyAsync(operation::delete, operation.context.getExecutor());
+        }
+        throw e;
+      }
+      List<StatusDetails> details = new ArrayList<>();
+      BaseOperation.toStatusDetails(result, details);
+      return waitForDelete(details);
+    }).thenCompose(f -> f);
+  }
+
+  private CompletableFuture<List<StatusDetails>> waitForDelete(List<StatusDetails> deleted) {
+    OperationContext context = operation.context;
+    if (context.getTimeout() <= 0) {
+      return CompletableFuture.completedFuture(deleted);
+    }
+    Set<String> uids = deleted.stream().map(StatusDetails::getUid).collect(Collectors.toSet());
+    return operation.informOnCondition(l -> l.stream().noneMatch(h -> uids.contains(h.getMetadata().getUid())))
+        .orTimeout(context.getTimeout(), context.getTimeoutUnit())
+        .handle((l, t) -> {
+          if (t instanceof TimeoutException) {
+            throw new KubernetesClientTimeoutException(operation.getKind(), operation.getName(), operation.getNamespace(),
+                context.getTimeout(), context.getTimeoutUnit());
+          }
+          if (t != null) {
+            throw asKubernetesClientException(t);
+          }
+          return deleted;
+        });
+  }
+
+  private void requireName() {
+    if (Utils.isNullOrEmpty(operation.getName())) {
+      throw new KubernetesClientException("name not specified for an operation requiring one.");
+    }
+  }
+
+  /**
+   * Send the request, failing the returned future rather than throwing if it can't be sent
+   */
+  private static <R> CompletableFuture<R> send(Callable<CompletableFuture<R>> request) {
+    try {
+      return request.call();
+    } catch (Exception e) {
+      return CompletableFuture.failedFuture(asKubernetesClientException(e));
+    }
+  }
+
+  private static KubernetesClientException asKubernetesClientException(Throwable t) {
+    if (t instanceof CompletionException && t.getCause() != null) {
+      t = t.getCause();
+    }
+    if (t instanceof KubernetesClientException) {
+      return (KubernetesClientException) t;
+    }
+    return new KubernetesClientException(t.getMessage(), t);
+  }
+
+}
@@ -25,6 +25,7 @@ import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResource;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.api.model.LabelSelector;
+import io.fabric8.kubernetes.api.model.ListMeta;
 import io.fabric8.kubernetes.api.model.ListOptions;
 import io.fabric8.kubernetes.api.model.ListOptionsBuilder;
 import io.fabric8.kubernetes.api.model.ObjectMeta;
@@ -39,9 +40,11 @@ import io.fabric8.kubernetes.client.Config;
 import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.KubernetesClientTimeoutException;
 import io.fabric8.kubernetes.client.OperationInfo;
+import io.fabric8.kubernetes.client.ReadConsistency;
 import io.fabric8.kubernetes.client.ResourceNotFoundException;
 import io.fabric8.kubernetes.client.Watch;
 import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.dsl.AsyncResource;
 import io.fabric8.kubernetes.client.dsl.FilterNested;
 import io.fabric8.kubernetes.client.dsl.FilterWatchListDeletable;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
@@ -57,9 +60,12 @@ import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
 import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
 import io.fabric8.kubernetes.client.informers.impl.DefaultSharedIndexInformer;
 import io.fabric8.kubernetes.client.informers.impl.ListerWatcher;
+import io.fabric8.kubernetes.client.metrics.ClientMetrics;
 import io.fabric8.kubernetes.client.readiness.Readiness;
 import io.fabric8.kubernetes.client.utils.ApiVersionUtil;
 import io.fabric8.kubernetes.client.utils.KubernetesResourceUtil;
+import io.fabric8.kubernetes.client.utils.KubernetesSerialization;
+import io.fabric8.kubernetes.client.utils.StringInterner;
 import io.fabric8.kubernetes.client.utils.URLUtils;
 import io.fabric8.kubernetes.client.utils.URLUtils.URLBuilder;
 import io.fabric8.kubernetes.client.utils.Utils;
@@ -121,6 +127,10 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
   // informable state
   private Map<String, Function<T, List<String>>> indexers;
   private Long limit;
+  private StringInterner stringInterner;
+  private boolean streamingList;
+  private boolean watchList;
+  private KubernetesSerialization internedSerialization;
 
   protected BaseOperation(OperationContext ctx) {
     super(ctx);
@@ -438,13 +448,44 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
           return refinedType;
         }
       };
-      CompletableFuture<L> futureAnswer = handleResponse(httpClient, requestBuilder, listTypeReference);
+      CompletableFuture<L> futureAnswer = handleListResponse(httpClient, requestBuilder, listTypeReference, type);
       return futureAnswer.thenApply(this::updateListItems);
     } catch (IOException e) {
       throw KubernetesClientException.launderThrowable(forOperationType("list"), e);
     }
   }
 
+  @Override
+  public CompletableFuture<ListMeta> submitList(ListOptions listOptions, Consumer<T> itemConsumer) {
+    try {
+      URL fetchListUrl = fetchListUrl(getNamespacedUrl(), defaultListOptions(listOptions, null));
+      HttpRequest request = withRequestTimeout(httpClient.newHttpRequestBuilder()).url(fetchListUrl).build();
+      boolean updateApiVersion = Utils.isNotNullOrEmpty(apiVersion);
+      boolean updateKind = GenericKubernetesResource.class.isAssignableFrom(getType());
+      // the body must not be consumed by the thread completing the response future
+      return httpClient.sendAsync(request, InputStream.class).thenApplyAsync(response -> {
+        try (InputStream body = response.body()) {
+          assertResponseCode(request, response);
+          return getKubernetesSerialization().unmarshalItems(body, getType(), item -> {
+            if (updateApiVersion) {
+              updateApiVersion(item);
+            }
+            if (updateKind && item.getKind() == null) {
+              ((GenericKubernetesResource) item).setKind(getKind());
+            }
+            itemConsumer.accept(item);
+          });
+        } catch (KubernetesClientException e) {
+          throw e;
+        } catch (Exception e) {
+          throw requestException(request, e);
+        }
+      }, context.getExecutor());
+    } catch (IOException e) {
+      throw KubernetesClientException.launderThrowable(forOperationType("list"), e);
+    }
+  }
+
   @Override
   public L list(ListOptions listOptions) {
     try {
@@ -511,29 +552,46 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
     }
   }
 
+  /**
+   * @return true if the delete may be performed with a single request
+   */
+  boolean isSingleDeleteRequest() {
+    return Utils.isNotNullOrEmpty(name) || Utils.isNotNullOrEmpty(namespace) || !isResourceNamespaced();
+  }
+
+  /**
+   * Send the single delete request, see {@link #isSingleDeleteRequest()}
+   */
+  CompletableFuture<KubernetesResource> handleDeleteAsync() throws MalformedURLException {
+    URL resourceURLForWriteOperation = getResourceURLForWriteOperation(getResourceUrl());
+    ListOptions options = new ListOptions();
+    boolean useOptions = false;
+    if (Utils.isNullOrEmpty(name)) {
+      String fieldQueryParam = context.getFieldQueryParam();
+      if (fieldQueryParam != null) {
+        options.setFieldSelector(fieldQueryParam);
+        useOptions = true;
+      }
+      String labelQueryParam = context.getLabelQueryParam();
+      if (labelQueryParam != null) {
+        options.setLabelSelector(labelQueryParam);
+        useOptions = true;
+      }
+    }
+    if (useOptions) {
+      resourceURLForWriteOperation = appendListOptionParams(resourceURLForWriteOperation, options);
+    }
+    return handleDeleteAsync(resourceURLForWriteOperation, gracePeriodSeconds, propagationPolicy, resourceVersion);
+  }
+
   protected List<StatusDetails> deleteAll() {
-    if (Utils.isNotNullOrEmpty(name) || Utils.isNotNullOrEmpty(namespace) || !isResourceNamespaced()) {
+    if (isSingleDeleteRequest()) {
       try {
-        URL resourceURLForWriteOperation = getResourceURLForWriteOperation(getResourceUrl());
-        ListOptions options = new ListOptions();
-        boolean useOptions = false;
-        if (Utils.isNullOrEmpty(name)) {
-          String fieldQueryParam = context.getFieldQueryParam();
-          if (fieldQueryParam != null) {
-            options.setFieldSelector(fieldQueryParam);
-            useOptions = true;
-          }
-          String labelQueryParam = context.getLabelQueryParam();
-          if (labelQueryParam != null) {
-            options.setLabelSelector(labelQueryParam);
-            useOptions = true;
-          }
-        }
-        if (useOptions) {
-          resourceURLForWriteOperation = appendListOptionParams(resourceURLForWriteOperation, options);
+        LastSeenCache lastSeen = getLastSeenCache(getRequestConfig().getReadConsistency());
+        if (lastSeen != null && Utils.isNotNullOrEmpty(name)) {
+          lastSeen.remove(getCompleteResourceUrl().toString());
         }
-        KubernetesResource result = handleDelete(resourceURLForWriteOperation, gracePeriodSeconds, propagationPolicy,
-            resourceVersion);
+        KubernetesResource result = waitForResult(handleDeleteAsync());
         ArrayList<StatusDetails> details = new ArrayList<>();
         toStatusDetails(result, details);
         return details;
@@ -751,17 +809,17 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
   @Override
   protected T handleCreate(T resource) throws InterruptedException, IOException {
     updateApiVersion(resource);
-    return handleCreate(resource, getType());
+    return seen(handleCreate(resource, getType()));
   }
 
   protected T handleUpdate(T updated) throws InterruptedException, IOException {
     updateApiVersion(updated);
-    return handleUpdate(updated, getType());
+    return seen(handleUpdate(updated, getType()));
   }
 
   protected T handlePatch(PatchContext context, T current, T updated) throws InterruptedException, IOException {
     updateApiVersion(updated);
-    return handlePatch(context, current, updated, getType());
+    return seen(handlePatch(context, current, updated, getType()));
   }
 
   public <S> S handleScale(S scaleParam, Class<S> scaleType) {
@@ -789,12 +847,70 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
   }
 
   protected T handleGet(URL resourceUrl) throws IOException {
-    T answer = handleGet(resourceUrl, getType());
+    ReadConsistency consistency = getRequestConfig().getReadConsistency();
+    LastSeenCache lastSeen = getLastSeenCache(consistency);
+    if (lastSeen == null) {
+      T answer = handleGet(resourceUrl, getType());
+      updateApiVersion(answer);
+      return answer;
+    }
+    String key = resourceUrl.toString();
+    if (consistency == ReadConsistency.CACHED) {
+      long maxStaleness = TimeUnit.MILLISECONDS.toNanos(
+          Utils.getNonNullOrElse(getRequestConfig().getMaxStaleness(), Config.DEFAULT_MAX_STALENESS));
+      HasMetadata item = lastSeen.get(key, maxStaleness);
+      if (getType().isInstance(item)) {
+        return getKubernetesSerialization().clone(getType().cast(item));
+      }
+    }
+    // a version not older than the last seen, or any version - both may be served from the watch cache
+    String resourceVersion = Utils.getNonNullOrElse(lastSeen.getResourceVersion(key), "0");
+    T answer = handleGet(new URL(URLUtils.join(key, "?resourceVersion=" + resourceVersion)), getType());
     updateApiVersion(answer);
-    return answer;
+    return seen(key, answer, lastSeen, consistency);
+  }
+
+  /**
+   * @return the cache of last seen items, or null if reads are strongly consistent
+   */
+  private LastSeenCache getLastSeenCache(ReadConsistency consistency) {
+    if (consistency == null || consistency == ReadConsistency.STRONG) {
+      return null;
+    }
+    return context.getLastSeenCache();
+  }
+
+  private T seen(T item) {
+    ReadConsistency consistency = getRequestConfig().getReadConsistency();
+    LastSeenCache lastSeen = getLastSeenCache(consistency);
+    if (lastSeen == null || item == null || item.getMetadata() == null) {
+      return item;
+    }
+    try {
+      // the url of a get, regardless of subresource
+      String key = getResourceUrl(KubernetesResourceUtil.getNamespace(item), item.getMetadata().getName(), new String[0])
+          .toString();
+      return seen(key, item, lastSeen, consistency);
+    } catch (MalformedURLException e) {
+      return item;
+    }
+  }
+
+  private T seen(String key, T item, LastSeenCache lastSeen, ReadConsistency consistency) {
+    if (item == null) {
+      return null;
+    }
+    if (consistency != ReadConsistency.CACHED) {
+      // only the resourceVersion is needed to bound the staleness of later reads
+      lastSeen.put(key, item, false);
+      return item;
+    }
+    // hold the response itself, and return a copy, as the caller may modify it
+    lastSeen.put(key, item, true);
+    return getKubernetesSerialization().clone(item);
   }
 
-  private URL getCompleteResourceUrl() throws MalformedURLException {
+  URL getCompleteResourceUrl() throws MalformedURLException {
     URL requestUrl = getNamespacedUrl(checkNamespace(item));
     if (name != null) {
       requestUrl = new URL(URLUtils.join(requestUrl.toString(), name));
@@ -1025,22 +1141,73 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
     return newInstance(context.withFieldValidation(fieldValidation));
   }
 
+  private BaseOperation<T, L, R> newInformableInstance() {
+    BaseOperation<T, L, R> result = newInstance(context);
+    result.indexers = this.indexers;
+    result.limit = this.limit;
+    result.stringInterner = this.stringInterner;
+    result.streamingList = this.streamingList;
+    result.watchList = this.watchList;
+    return result;
+  }
+
   @Override
   public ExtensibleResource<T> withIndexers(Map<String, Function<T, List<String>>> indexers) {
-    BaseOperation<T, L, R> result = newInstance(context);
+    BaseOperation<T, L, R> result = newInformableInstance();
     result.indexers = indexers;
-    result.limit = this.limit;
     return result;
   }
 
   @Override
   public BaseOperation<T, L, R> withLimit(Long limit) {
-    BaseOperation<T, L, R> result = newInstance(context);
-    result.indexers = this.indexers;
+    BaseOperation<T, L, R> result = newInformableInstance();
     result.limit = limit;
     return result;
   }
 
+  @Override
+  public BaseOperation<T, L, R> withStringInterner(StringInterner stringInterner) {
+    BaseOperation<T, L, R> result = newInformableInstance();
+    result.stringInterner = stringInterner;
+    return result;
+  }
+
+  @Override
+  public BaseOperation<T, L, R> withStreamingList(boolean streamingList) {
+    BaseOperation<T, L, R> result = newInformableInstance();
+    result.streamingList = streamingList;
+    return result;
+  }
+
+  @Override
+  public boolean isStreamingList() {
+    return streamingList;
+  }
+
+  @Override
+  public BaseOperation<T, L, R> withWatchList(boolean watchList) {
+    BaseOperation<T, L, R> result = newInformableInstance();
+    result.watchList = watchList;
+    return result;
+  }
+
+  @Override
+  public boolean isWatchList() {
+    return watchList;
+  }
+
+  @Override
+  public KubernetesSerialization getKubernetesSerialization() {
+    KubernetesSerialization serialization = super.getKubernetesSerialization();
+    if (stringInterner == null) {
+      return serialization;
+    }
+    if (internedSerialization == null) {
+      internedSerialization = serialization.withStringInterner(stringInterner);
+    }
+    return internedSerialization;
+  }
+
   @Override
   public Long getLimit() {
     return this.limit;
@@ -1072,7 +1239,9 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
 
     // use the local context / namespace but without a resourceVersion
     DefaultSharedIndexInformer<T, L> informer = new DefaultSharedIndexInformer<>(getType(),
-        this.withResourceVersion(null).withLimit(this.limit), resync, executor);
+        this.withResourceVersion(null).withLimit(this.limit).withStringInterner(this.stringInterner)
+            .withStreamingList(this.streamingList).withWatchList(this.watchList),
+        resync, executor);
     if (indexers != null) {
       informer.addIndexers(indexers);
     }
@@ -1110,6 +1279,11 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
     return config.getWatchReconnectInterval();
   }
 
+  @Override
+  public ClientMetrics getMetrics() {
+    return config == null ? ClientMetrics.NOOP : config.getMetrics();
+  }
+
   @Override
   public Stream<R> resources() {
     return list().getItems().stream().map(this::resource);
@@ -1155,6 +1329,11 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
     return create(getNonNullItem());
   }
 
+  @Override
+  public AsyncResource<T> async() {
+    return new AsyncResourceImpl<>(this);
+  }
+
   @Override
   public String getApiEndpointPath() {
     List<String> parts = getRootUrlParts();
@@ -1164,6 +1343,11 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
     return parts.stream().collect(Collectors.joining("/"));
   }
 
+  @Override
+  public String getMetricsResource() {
+    return ApiVersionUtil.joinApiGroupAndVersion(getGroup(), getVersion()) + "/" + getKind();
+  }
+
   @Override
   public ExtensibleResource<T> fieldManager(String manager) {
     return newInstance(context.withFieldManager(manager));
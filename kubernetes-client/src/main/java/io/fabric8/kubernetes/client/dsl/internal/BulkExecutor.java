@@ -0,0 +1,182 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl.internal;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.KubernetesClientBulkException;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+
+/**
+ * Performs a blocking operation on each item of a list, with up to a given number of operations at a time.
+ * <br>
+ * With a concurrency of 1 the items are processed in their order, stopping at the first failure.
+ * <br>
+ * Otherwise the calling thread performs operations itself, while the others are performed on the executor. Items are
+ * ordered in tiers - Namespaces and CustomResourceDefinitions, then the ServiceAccounts, RBAC roles and bindings,
+ * ConfigMaps and Secrets that workloads reference, then everything else - and a tier is only started once all
+ * operations of the previous tier have completed.
+ */
+final class BulkExecutor {
+
+  private static final int DEFINITION_TIER = 0;
+  private static final int CONFIGURATION_TIER = 1;
+  private static final int DEPENDENT_TIER = 2;
+
+  private static final String RBAC_GROUP = "rbac.authorization.k8s.io/";
+  private static final Set<String> CONFIGURATION_KINDS = new HashSet<>(Arrays.asList(
+      "v1/ServiceAccount", "v1/ConfigMap", "v1/Secret",
+      RBAC_GROUP + "Role", RBAC_GROUP + "ClusterRole", RBAC_GROUP + "RoleBinding", RBAC_GROUP + "ClusterRoleBinding"));
+
+  private BulkExecutor() {
+    // utility class
+  }
+
+  /**
+   * @return the tier of the item when writing it, where lower tiers are written first
+   */
+  static int writeTier(HasMetadata item) {
+    String apiVersion = item.getApiVersion();
+    String kind = item.getKind();
+    if (("Namespace".equals(kind) && "v1".equals(apiVersion))
+        || ("CustomResourceDefinition".equals(kind) && apiVersion != null
+            && apiVersion.startsWith("apiextensions.k8s.io/"))) {
+      return DEFINITION_TIER;
+    }
+    if (apiVersion != null && CONFIGURATION_KINDS.contains(group(apiVersion) + kind)) {
+      return CONFIGURATION_TIER;
+    }
+    return DEPENDENT_TIER;
+  }
+
+  /**
+   * @return the group of the apiVersion followed by a slash, or v1/ for the core group
+   */
+  private static String group(String apiVersion) {
+    int slash = apiVersion.indexOf('/');
+    return slash < 0 ? apiVersion + "/" : apiVersion.substring(0, slash + 1);
+  }
+
+  /**
+   * @return the tier of the item when deleting it, where lower tiers are deleted first
+   */
+  static int deleteTier(HasMetadata item) {
+    return -writeTier(item);
+  }
+
+  /**
+   * Perform the operation on each item
+   *
+   * @param items the items
+   * @param tier the tier of each item, used only if concurrency is greater than 1
+   * @param concurrency the maximum number of concurrent operations
+   * @param executor the executor for all but one of the concurrent operations
+   * @param operation the operation
+   * @return the results, in the order of the items
+   * @throws KubernetesClientBulkException if the operation failed for any item
+   */
+  static <R> List<R> execute(List<HasMetadata> items, Function<HasMetadata, Integer> tier, int concurrency,
+      Executor executor, Function<HasMetadata, R> operation) {
+    Object[] results = new Object[items.size()];
+    RuntimeException[] failures = new RuntimeException[items.size()];
+    if (concurrency == 1) {
+      for (int i = 0; i < items.size(); i++) {
+        try {
+          results[i] = operation.apply(items.get(i));
+        } catch (RuntimeException e) {
+          failures[i] = e;
+          throw failure(items, results, failures);
+        }
+      }
+      return asList(results);
+    }
+    TreeMap<Integer, List<Integer>> tiers = new TreeMap<>();
+    for (int i = 0; i < items.size(); i++) {
+      tiers.computeIfAbsent(tier.apply(items.get(i)), k -> new ArrayList<>()).add(i);
+    }
+    for (List<Integer> indexes : tiers.values()) {
+      execute(indexes, concurrency, executor, index -> {
+        try {
+          results[index] = operation.apply(items.get(index));
+        } catch (RuntimeException e) {
+          failures[index] = e;
+        }
+      });
+      if (indexes.stream().anyMatch(index -> failures[index] != null)) {
+        throw failure(items, results, failures);
+      }
+    }
+    return asList(results);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <R> List<R> asList(Object[] results) {
+    return (List<R>) Arrays.asList(results);
+  }
+
+  private static void execute(List<Integer> indexes, int concurrency, Executor executor,
+      IntConsumer operation) {
+    AtomicInteger next = new AtomicInteger();
+    Runnable lane = () -> {
+      for (int i = next.getAndIncrement(); i < indexes.size(); i = next.getAndIncrement()) {
+        operation.accept(indexes.get(i));
+      }
+    };
+    int lanes = Math.min(concurrency, indexes.size());
+    List<CompletableFuture<Void>> futures = new ArrayList<>(lanes);
+    for (int i = 1; i < lanes; i++) {
+      futures.add(CompletableFuture.runAsync(lane, executor));
+    }
+    lane.run();
+    try {
+      CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw KubernetesClientException.launderThrowable(e);
+    } catch (ExecutionException e) {
+      throw KubernetesClientException.launderThrowable(e.getCause());
+    }
+  }
+
+  private static KubernetesClientBulkException failure(List<HasMetadata> items, Object[] results,
+      RuntimeException[] failures) {
+    List<Object> succeeded = new ArrayList<>();
+    Map<HasMetadata, RuntimeException> failed = new LinkedHashMap<>();
+    for (int i = 0; i < items.size(); i++) {
+      if (failures[i] != null) {
+        failed.put(items.get(i), failures[i]);
+      } else if (results[i] != null) {
+        succeeded.add(results[i]);
+      }
+    }
+    return new KubernetesClientBulkException(succeeded, failed, items.size());
+  }
+
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl.internal;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.ObjectMeta;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Holds the last version seen by a client of the most recently read or written resources, keyed by their url.
+ * <br>
+ * Only used for reads that are not {@link io.fabric8.kubernetes.client.ReadConsistency#STRONG}.
+ */
+public class LastSeenCache {
+
+  public static final int DEFAULT_SIZE = 1024;
+
+  private final Map<String, Entry> entries;
+
+  public LastSeenCache() {
+    this(DEFAULT_SIZE);
+  }
+
+  public LastSeenCache(int size) {
+    this.entries = Collections.synchronizedMap(new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+        return size() > size;
+      }
+    });
+  }
+
+  /**
+   * Record the item, unless a newer version has already been seen
+   *
+   * @param item the item, which must not be modified afterwards
+   * @param holdItem false if only the resourceVersion of the item is needed
+   */
+  void put(String url, HasMetadata item, boolean holdItem) {
+    ObjectMeta metadata = item == null ? null : item.getMetadata();
+    String resourceVersion = metadata == null ? null : metadata.getResourceVersion();
+    if (resourceVersion == null) {
+      return;
+    }
+    Entry entry = new Entry(holdItem ? item : null, resourceVersion, System.nanoTime());
+    entries.merge(url, entry, (existing, seen) -> isNewer(existing.resourceVersion, seen.resourceVersion) ? existing : seen);
+  }
+
+  void remove(String url) {
+    entries.remove(url);
+  }
+
+  /**
+   * @return the resourceVersion last seen, or null
+   */
+  String getResourceVersion(String url) {
+    Entry entry = entries.get(url);
+    return entry == null ? null : entry.resourceVersion;
+  }
+
+  /**
+   * @return the item last seen, if held and seen within the max staleness - the caller must not modify it
+   */
+  HasMetadata get(String url, long maxStalenessNanos) {
+    Entry entry = entries.get(url);
+    if (entry == null || System.nanoTime() - entry.seenAt > maxStalenessNanos) {
+      return null;
+    }
+    return entry.item;
+  }
+
+  /**
+   * resourceVersions are opaque, but in practice are the etcd revision. Only if both are numeric
+   * can it be known that one is newer.
+   */
+  private static boolean isNewer(String resourceVersion, String other) {
+    try {
+      return Long.parseLong(resourceVersion) > Long.parseLong(other);
+    } catch (NumberFormatException e) {
+      return false;
+    }
+  }
+
+  int size() {
+    return entries.size();
+  }
+
+  private static final class Entry {
+
+    private final HasMetadata item;
+    private final String resourceVersion;
+    private final long seenAt;
+
+    private Entry(HasMetadata item, String resourceVersion, long seenAt) {
+      this.item = item;
+      this.resourceVersion = resourceVersion;
+      this.seenAt = seenAt;
+    }
+
+  }
+
+}
@@ -56,9 +56,16 @@ public class NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImp
   protected static final String EXPRESSION = "expression";
 
   private OperationContext context;
+  private final Integer concurrency;
 
   public NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImpl(OperationContext context) {
+    this(context, null);
+  }
+
+  public NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImpl(OperationContext context,
+      Integer concurrency) {
     this.context = context;
+    this.concurrency = concurrency;
   }
 
   public NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImpl(Client client, Object item) {
@@ -170,17 +177,18 @@ public class NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImp
 
   @Override
   public List<HasMetadata> createOrReplace() {
-    List<? extends Resource<HasMetadata>> operations = getResources();
-
-    return operations.stream()
-        .map(Resource::createOrReplace)
+    return performOperation(Resource::createOrReplace).stream()
         .filter(Objects::nonNull)
         .collect(Collectors.toList());
   }
 
   @Override
   public List<StatusDetails> delete() {
-    List<StatusDetails> deleted = resources().flatMap(r -> r.delete().stream()).collect(Collectors.toList());
+    List<StatusDetails> deleted = BulkExecutor.execute(getItems(), BulkExecutor::deleteTier, getConcurrency(),
+        context.getExecutor(), item -> getResource(item).delete())
+        .stream()
+        .flatMap(List::stream)
+        .collect(Collectors.toList());
     BaseOperation.waitForDelete(deleted, this.context, this);
     return deleted;
   }
@@ -240,7 +248,19 @@ public class NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImp
   }
 
   public NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImpl newInstance(OperationContext context) {
-    return new NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImpl(context);
+    return new NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImpl(context, concurrency);
+  }
+
+  @Override
+  public NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImpl withConcurrency(int concurrency) {
+    if (concurrency < 1) {
+      throw new IllegalArgumentException("concurrency must be at least 1");
+    }
+    return new NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImpl(context, concurrency);
+  }
+
+  int getConcurrency() {
+    return concurrency == null ? 1 : concurrency;
   }
 
   static HasMetadata acceptVisitors(HasMetadata item, List<Visitor> visitors, OperationContext context) {
@@ -278,7 +298,8 @@ public class NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImp
 
   private List<HasMetadata> performOperation(
       Function<? super NamespaceableResource<HasMetadata>, ? extends HasMetadata> operation) {
-    return getResources().stream().map(operation).collect(Collectors.toList());
+    return BulkExecutor.execute(getItems(), BulkExecutor::writeTier, getConcurrency(), context.getExecutor(),
+        item -> operation.apply(getResource(item)));
   }
 
   @Override
@@ -527,6 +527,13 @@ public class OperationContext {
     return getClient().adapt(BaseClient.class).getExecutor();
   }
 
+  public LastSeenCache getLastSeenCache() {
+    if (client == null) {
+      return null;
+    }
+    return getClient().adapt(BaseClient.class).getLastSeenCache();
+  }
+
   public OperationContext withFieldValidation(Validation fieldValidation) {
     if (this.fieldValidation == fieldValidation) {
       return this;
@@ -36,9 +36,12 @@ import io.fabric8.kubernetes.client.dsl.base.PatchType;
 import io.fabric8.kubernetes.client.http.HttpClient;
 import io.fabric8.kubernetes.client.http.HttpRequest;
 import io.fabric8.kubernetes.client.http.HttpResponse;
+import io.fabric8.kubernetes.client.http.RequestCoalescer;
+import io.fabric8.kubernetes.client.http.StreamingBodyHandler;
 import io.fabric8.kubernetes.client.impl.BaseClient;
 import io.fabric8.kubernetes.client.utils.KubernetesResourceUtil;
 import io.fabric8.kubernetes.client.utils.KubernetesSerialization;
+import io.fabric8.kubernetes.client.utils.NonBlockingListDeserializer;
 import io.fabric8.kubernetes.client.utils.URLUtils;
 import io.fabric8.kubernetes.client.utils.Utils;
 import org.slf4j.Logger;
@@ -56,6 +59,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 
@@ -299,6 +303,16 @@ public class OperationSupport {
 
   protected KubernetesResource handleDelete(URL requestUrl, long gracePeriodSeconds, DeletionPropagation propagationPolicy,
       String resourceVersion) throws InterruptedException, IOException {
+    return waitForResult(handleDeleteAsync(requestUrl, gracePeriodSeconds, propagationPolicy, resourceVersion));
+  }
+
+  /**
+   * Send an http delete without waiting for the response.
+   *
+   * @see #handleDelete(URL, long, DeletionPropagation, String)
+   */
+  protected CompletableFuture<KubernetesResource> handleDeleteAsync(URL requestUrl, long gracePeriodSeconds,
+      DeletionPropagation propagationPolicy, String resourceVersion) {
     DeleteOptions deleteOptions = new DeleteOptions();
     if (gracePeriodSeconds >= 0) {
       deleteOptions.setGracePeriodSeconds(gracePeriodSeconds);
@@ -317,7 +331,7 @@ public class OperationSupport {
     HttpRequest.Builder requestBuilder = httpClient.newHttpRequestBuilder()
         .delete(JSON, getKubernetesSerialization().asJson(deleteOptions)).url(requestUrl);
 
-    return handleResponse(requestBuilder, KubernetesResource.class);
+    return handleResponseAsync(requestBuilder, KubernetesResource.class);
   }
 
   /**
@@ -333,11 +347,20 @@ public class OperationSupport {
    * @throws IOException IOException
    */
   protected <T, I> T handleCreate(I resource, Class<T> outputType) throws InterruptedException, IOException {
+    return waitForResult(handleCreateAsync(resource, outputType));
+  }
+
+  /**
+   * Create a resource without waiting for the response.
+   *
+   * @see #handleCreate(Object, Class)
+   */
+  protected <T, I> CompletableFuture<T> handleCreateAsync(I resource, Class<T> outputType) throws MalformedURLException {
     resource = correctNamespace(resource);
     HttpRequest.Builder requestBuilder = httpClient.newHttpRequestBuilder()
         .post(JSON, getKubernetesSerialization().asJson(resource))
         .url(getResourceURLForWriteOperation(getResourceUrl(checkNamespace(resource), null)));
-    return handleResponse(requestBuilder, outputType);
+    return handleResponseAsync(requestBuilder, outputType);
   }
 
   /**
@@ -411,12 +434,22 @@ public class OperationSupport {
    */
   protected <T> T handlePatch(PatchContext patchContext, T current, String patchForUpdate, Class<T> type)
       throws InterruptedException, IOException {
+    return waitForResult(handlePatchAsync(patchContext, current, patchForUpdate, type));
+  }
+
+  /**
+   * Send an http patch without waiting for the response.
+   *
+   * @see #handlePatch(PatchContext, Object, String, Class)
+   */
+  protected <T> CompletableFuture<T> handlePatchAsync(PatchContext patchContext, T current, String patchForUpdate,
+      Class<T> type) throws MalformedURLException {
     String bodyContentType = getContentTypeFromPatchContextOrDefault(patchContext);
     HttpRequest.Builder requestBuilder = httpClient.newHttpRequestBuilder()
         .patch(bodyContentType, patchForUpdate)
         .url(getResourceURLForPatchOperation(getResourceUrl(checkNamespace(current), checkName(current)),
             patchContext));
-    return handleResponse(requestBuilder, type);
+    return handleResponseAsync(requestBuilder, type);
   }
 
   /**
@@ -463,8 +496,17 @@ public class OperationSupport {
    * @throws IOException IOException
    */
   protected <T> T handleGet(URL resourceUrl, Class<T> type) throws IOException {
+    return waitForResult(handleGetAsync(resourceUrl, type));
+  }
+
+  /**
+   * Send an http get without waiting for the response.
+   *
+   * @see #handleGet(URL, Class)
+   */
+  protected <T> CompletableFuture<T> handleGetAsync(URL resourceUrl, Class<T> type) {
     HttpRequest.Builder requestBuilder = httpClient.newHttpRequestBuilder().url(resourceUrl);
-    return handleResponse(requestBuilder, type);
+    return handleResponseAsync(requestBuilder, type);
   }
 
   /**
@@ -521,12 +563,25 @@ public class OperationSupport {
    * @throws IOException IOException
    */
   protected <T> T handleResponse(HttpRequest.Builder requestBuilder, Class<T> type) throws IOException {
-    return waitForResult(handleResponse(httpClient, withRequestTimeout(requestBuilder), new TypeReference<T>() {
+    return waitForResult(handleResponseAsync(requestBuilder, type));
+  }
+
+  /**
+   * Send an http request with the request timeout, and handle the response without waiting for it.
+   *
+   * @param requestBuilder Request Builder object
+   * @param type type of resource
+   * @param <T> template argument provided
+   *
+   * @return a future completed with the de-serialized api server response of provided type.
+   */
+  protected <T> CompletableFuture<T> handleResponseAsync(HttpRequest.Builder requestBuilder, Class<T> type) {
+    return handleResponse(httpClient, withRequestTimeout(requestBuilder), new TypeReference<T>() {
       @Override
       public Type getType() {
         return type;
       }
-    }));
+    });
   }
 
   /**
@@ -544,7 +599,7 @@ public class OperationSupport {
     VersionUsageUtils.log(this.resourceT, this.apiGroupVersion);
     HttpRequest request = requestBuilder.build();
 
-    return client.sendAsync(request, byte[].class).thenApply(response -> {
+    return sendAsync(client, request).thenApply(response -> {
       try {
         assertResponseCode(request, response);
         if (type != null && type.getType() != null) {
@@ -560,6 +615,53 @@ public class OperationSupport {
     });
   }
 
+  private CompletableFuture<HttpResponse<byte[]>> sendAsync(HttpClient client, HttpRequest request) {
+    RequestCoalescer coalescer = getRequestCoalescer();
+    if (coalescer != null) {
+      return coalescer.sendAsync(client, request);
+    }
+    return client.sendAsync(request, byte[].class);
+  }
+
+  private RequestCoalescer getRequestCoalescer() {
+    return config == null ? null : config.getRequestCoalescer();
+  }
+
+  /**
+   * Send an http request and deserialize the list response as its body arrives, rather than first aggregating the body.
+   *
+   * @param client the client
+   * @param requestBuilder Request builder
+   * @param listType Type of the list
+   * @param itemType Type of the list items
+   * @param <T> Template argument provided
+   *
+   * @return Returns a de-serialized list as api server response of provided type.
+   */
+  protected <T> CompletableFuture<T> handleListResponse(HttpClient client, HttpRequest.Builder requestBuilder,
+      TypeReference<T> listType, Class<?> itemType) {
+    if (getRequestCoalescer() != null) {
+      // a coalesced response body is shared, so it must be aggregated
+      return handleResponse(client, requestBuilder, listType);
+    }
+    VersionUsageUtils.log(this.resourceT, this.apiGroupVersion);
+    HttpRequest request = requestBuilder.build();
+
+    NonBlockingListDeserializer<T> deserializer = getKubernetesSerialization()
+        .nonBlockingListDeserializer(listType.getType(), itemType);
+    return StreamingBodyHandler.sendAsync(client, request, deserializer).handle((response, t) -> {
+      if (t != null) {
+        Throwable cause = t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+        if (cause instanceof KubernetesClientException) {
+          throw (KubernetesClientException) cause;
+        }
+        throw requestException(request, cause, null);
+      }
+      assertResponseCode(request, response);
+      return response.body();
+    });
+  }
+
   /**
    * Checks if the response status code is the expected and throws the appropriate KubernetesClientException if not.
    *
@@ -18,9 +18,11 @@ package io.fabric8.kubernetes.client.dsl.internal;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.fabric8.kubernetes.client.utils.KubernetesSerialization;
+import io.fabric8.zjsonpatch.DiffFlags;
 import io.fabric8.zjsonpatch.JsonDiff;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
@@ -33,6 +35,9 @@ public class PatchUtils {
     JSON
   }
 
+  private static final EnumSet<DiffFlags> DIFF_FLAGS = EnumSet.of(DiffFlags.OMIT_VALUE_ON_REMOVE,
+      DiffFlags.LINEAR_ARRAY_DIFF);
+
   private PatchUtils() {
   }
 
@@ -79,7 +84,7 @@ public class PatchUtils {
   public static String jsonDiff(Object current, Object updated, boolean omitStatus, KubernetesSerialization serialization) {
     return serialization
         .asJson(JsonDiff.asJson(withoutRuntimeState(current, omitStatus, serialization),
-            withoutRuntimeState(updated, omitStatus, serialization)));
+            withoutRuntimeState(updated, omitStatus, serialization), DIFF_FLAGS));
   }
 
 }
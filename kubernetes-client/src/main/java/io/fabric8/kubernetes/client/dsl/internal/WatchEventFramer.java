@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl.internal;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Splits a stream of bytes into newline delimited watch events without decoding them.
+ * <p>
+ * An event wholly contained in a heap buffer is passed as a range of that buffer's array, only
+ * events spanning buffers are copied. The range is only valid for the duration of the callback.
+ * <p>
+ * Not thread safe - buffers are expected to be fed serially, as they are by the {@link io.fabric8.kubernetes.client.http.HttpClient}.
+ */
+public final class WatchEventFramer {
+
+  private static final int INITIAL_SIZE = 1024;
+  // retaining a larger pending buffer after a large event is not worth the memory
+  private static final int MAX_RETAINED_SIZE = 1 << 20;
+
+  @FunctionalInterface
+  public interface EventConsumer {
+
+    void accept(byte[] bytes, int offset, int length);
+
+  }
+
+  private final EventConsumer consumer;
+  private byte[] pending = new byte[INITIAL_SIZE];
+  private int pendingLength;
+
+  public WatchEventFramer(EventConsumer consumer) {
+    this.consumer = consumer;
+  }
+
+  /**
+   * Pass each complete event in the buffer to the consumer, and hold on to any trailing partial event.
+   * The buffer is fully consumed.
+   */
+  public void feed(ByteBuffer buffer) {
+    if (buffer.hasArray()) {
+      byte[] array = buffer.array();
+      int end = buffer.arrayOffset() + buffer.limit();
+      int from = buffer.arrayOffset() + buffer.position();
+      for (int i = from; i < end; i++) {
+        if (array[i] == '\n') {
+          if (pendingLength > 0) {
+            append(array, from, i - from);
+            emitPending();
+          } else {
+            emit(array, from, i - from);
+          }
+          from = i + 1;
+        }
+      }
+      append(array, from, end - from);
+      buffer.position(buffer.limit());
+      return;
+    }
+    while (buffer.hasRemaining()) {
+      byte b = buffer.get();
+      if (b == '\n') {
+        emitPending();
+      } else {
+        if (pendingLength == pending.length) {
+          pending = Arrays.copyOf(pending, pending.length * 2);
+        }
+        pending[pendingLength++] = b;
+      }
+    }
+  }
+
+  private void append(byte[] bytes, int offset, int length) {
+    if (length == 0) {
+      return;
+    }
+    int required = pendingLength + length;
+    if (required > pending.length) {
+      pending = Arrays.copyOf(pending, Math.max(required, pending.length * 2));
+    }
+    System.arraycopy(bytes, offset, pending, pendingLength, length);
+    pendingLength = required;
+  }
+
+  private void emitPending() {
+    int length = pendingLength;
+    pendingLength = 0;
+    try {
+      emit(pending, 0, length);
+    } finally {
+      if (pending.length > MAX_RETAINED_SIZE) {
+        pending = new byte[INITIAL_SIZE];
+      }
+    }
+  }
+
+  private void emit(byte[] bytes, int offset, int length) {
+    if (length > 0) {
+      consumer.accept(bytes, offset, length);
+    }
+  }
+
+}
@@ -22,7 +22,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.nio.ByteBuffer;
-import java.nio.charset.StandardCharsets;
 
 class WatcherWebSocketListener<T extends HasMetadata> implements WebSocket.Listener {
   protected static final Logger logger = LoggerFactory.getLogger(WatcherWebSocketListener.class);
@@ -57,7 +56,11 @@ class WatcherWebSocketListener<T extends HasMetadata> implements WebSocket.Liste
 
   @Override
   public void onMessage(WebSocket webSocket, ByteBuffer bytes) {
-    onMessage(webSocket, StandardCharsets.UTF_8.decode(bytes).toString());
+    try {
+      manager.onMessage(bytes, state);
+    } finally {
+      webSocket.request();
+    }
   }
 
   @Override
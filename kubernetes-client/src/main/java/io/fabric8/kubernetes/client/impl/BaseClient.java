@@ -33,6 +33,7 @@ import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
 import io.fabric8.kubernetes.client.dsl.base.ResourceDefinitionContext;
 import io.fabric8.kubernetes.client.dsl.internal.HasMetadataOperationsImpl;
+import io.fabric8.kubernetes.client.dsl.internal.LastSeenCache;
 import io.fabric8.kubernetes.client.dsl.internal.OperationContext;
 import io.fabric8.kubernetes.client.dsl.internal.OperationSupport;
 import io.fabric8.kubernetes.client.extension.ExtensionAdapter;
@@ -95,6 +96,7 @@ public abstract class BaseClient implements Client {
   protected KubernetesSerialization kubernetesSerialization;
   private CompletableFuture<Void> closed;
   private Set<AutoCloseable> closable;
+  private LastSeenCache lastSeenCache;
 
   private OperationContext operationContext;
 
@@ -109,6 +111,7 @@ public abstract class BaseClient implements Client {
     this.executor = baseClient.executor;
     this.kubernetesSerialization = baseClient.kubernetesSerialization;
     this.closable = baseClient.closable;
+    this.lastSeenCache = baseClient.lastSeenCache;
     setDerivedFields();
     if (baseClient.operationContext != null) {
       operationContext(baseClient.operationContext);
@@ -130,6 +133,7 @@ public abstract class BaseClient implements Client {
     this.executorSupplier = executorSupplier;
     this.executor = executorSupplier.get();
     this.kubernetesSerialization = kubernetesSerialization;
+    this.lastSeenCache = new LastSeenCache();
   }
 
   protected void setDerivedFields() {
@@ -381,6 +385,8 @@ public abstract class BaseClient implements Client {
     // set the ReqeustConfig if different
     if (newContext.getRequestConfig() != null && newContext.getConfig().getRequestConfig() != newContext.getRequestConfig()) {
       copy.httpClient = copy.httpClient.newBuilder().tag(newContext.getRequestConfig()).build();
+      // what is seen may depend upon the request config, such as impersonation
+      copy.lastSeenCache = new LastSeenCache();
     }
     newContext = newContext.withClient(copy);
     return copy.operationContext(newContext).adapt(clazz);
@@ -390,6 +396,10 @@ public abstract class BaseClient implements Client {
     return executor;
   }
 
+  public LastSeenCache getLastSeenCache() {
+    return lastSeenCache;
+  }
+
   @Override
   public String raw(String uri) {
     try {
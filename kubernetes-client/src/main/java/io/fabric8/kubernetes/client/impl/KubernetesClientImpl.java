@@ -176,6 +176,8 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Class for Kubernetes Client implementing KubernetesClient interface.
@@ -334,7 +336,9 @@ public class KubernetesClientImpl extends BaseClient implements NamespacedKubern
    */
   @Override
   public NamespaceListVisitFromServerGetDeleteRecreateWaitApplicable<HasMetadata> load(InputStream is) {
-    return resourceListFor(kubernetesSerialization.unmarshal(is));
+    try (Stream<HasMetadata> items = kubernetesSerialization.unmarshalAll(is)) {
+      return resourceListFor(items.collect(Collectors.toList()));
+    }
   }
 
   /**
@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers.impl;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.utils.KubernetesSerialization;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Persists the state of an informer as JSON lines - a header holding the resourceVersion, followed by one line per item.
+ * <br>
+ * The header also records the type and endpoint, so that a file written for a different informer is ignored.
+ */
+final class CacheFile<T extends HasMetadata> {
+
+  private static final String RESOURCE_VERSION = "resourceVersion";
+  private static final String TYPE = "type";
+  private static final String ENDPOINT = "endpoint";
+
+  private final Path path;
+  private final Class<T> type;
+  private final String endpoint;
+  private final KubernetesSerialization serialization;
+
+  CacheFile(Path path, Class<T> type, String endpoint, KubernetesSerialization serialization) {
+    this.path = path;
+    this.type = type;
+    this.endpoint = endpoint;
+    this.serialization = serialization;
+  }
+
+  Path getPath() {
+    return path;
+  }
+
+  /**
+   * Read the persisted items
+   *
+   * @return the resourceVersion of the items, or null if there is no matching file
+   */
+  String read(Consumer<T> itemConsumer) throws IOException {
+    if (!Files.isRegularFile(path)) {
+      return null;
+    }
+    try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+      String line = reader.readLine();
+      if (line == null) {
+        return null;
+      }
+      Map<String, String> header = serialization.unmarshal(line, Map.class);
+      if (!type.getName().equals(header.get(TYPE)) || !Objects.equals(endpoint, header.get(ENDPOINT))) {
+        return null;
+      }
+      while ((line = reader.readLine()) != null) {
+        itemConsumer.accept(serialization.unmarshalJson(line.getBytes(StandardCharsets.UTF_8), type));
+      }
+      return header.get(RESOURCE_VERSION);
+    }
+  }
+
+  /**
+   * Atomically replace the file with the given items
+   */
+  void write(String resourceVersion, List<T> items) throws IOException {
+    Map<String, String> header = new LinkedHashMap<>();
+    header.put(RESOURCE_VERSION, resourceVersion);
+    header.put(TYPE, type.getName());
+    header.put(ENDPOINT, endpoint);
+    Path dir = path.toAbsolutePath().getParent();
+    Path temp = Files.createTempFile(dir, path.getFileName().toString(), ".tmp");
+    try {
+      try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+        writer.write(serialization.asJson(header));
+        writer.newLine();
+        for (T item : items) {
+          writer.write(serialization.asJson(item));
+          writer.newLine();
+        }
+      }
+      Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } finally {
+      Files.deleteIfExists(temp);
+    }
+  }
+
+}
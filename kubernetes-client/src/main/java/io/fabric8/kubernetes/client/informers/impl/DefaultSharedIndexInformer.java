@@ -20,7 +20,10 @@ import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.informers.ExceptionHandler;
 import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.ShardedDispatch;
+import io.fabric8.kubernetes.client.informers.ShardedDispatch.LaneStatistics;
 import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.CacheSnapshot;
 import io.fabric8.kubernetes.client.informers.cache.Indexer;
 import io.fabric8.kubernetes.client.informers.cache.ItemStore;
 import io.fabric8.kubernetes.client.informers.cache.Store;
@@ -28,17 +31,23 @@ import io.fabric8.kubernetes.client.informers.impl.cache.CacheImpl;
 import io.fabric8.kubernetes.client.informers.impl.cache.ProcessorStore;
 import io.fabric8.kubernetes.client.informers.impl.cache.Reflector;
 import io.fabric8.kubernetes.client.informers.impl.cache.SharedProcessor;
+import io.fabric8.kubernetes.client.metrics.ClientMetrics;
 import io.fabric8.kubernetes.client.utils.Utils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BooleanSupplier;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -59,6 +68,7 @@ public class DefaultSharedIndexInformer<T extends HasMetadata, L extends Kuberne
   private final long defaultEventHandlerResyncPeriod;
 
   private final Reflector<T, L> reflector;
+  private final ListerWatcher<T, L> listerWatcher;
   private final Class<T> apiTypeClass;
   private final ProcessorStore<T> processorStore;
   private final CacheImpl<T> indexer = new CacheImpl<>();
@@ -70,9 +80,16 @@ public class DefaultSharedIndexInformer<T extends HasMetadata, L extends Kuberne
   private volatile boolean stopped = false;
 
   private Future<?> resyncFuture;
+  private int resyncSlices = 1;
+  // the keys of the incremental resync in progress, only accessed by the serially executed resync ticks
+  private List<String> resyncKeys;
+  private int resyncSlice;
+  private volatile long resyncLagMillis;
 
   private Stream<T> initialState;
 
+  private CacheFile<T> cacheFile;
+
   public DefaultSharedIndexInformer(Class<T> apiTypeClass, ListerWatcher<T, L> listerWatcher, long resyncPeriod,
       Executor informerExecutor) {
     if (resyncPeriod < 0) {
@@ -82,10 +99,13 @@ public class DefaultSharedIndexInformer<T extends HasMetadata, L extends Kuberne
     this.defaultEventHandlerResyncPeriod = resyncPeriod;
     this.apiTypeClass = apiTypeClass;
     this.description = listerWatcher.getApiEndpointPath();
+    this.listerWatcher = listerWatcher;
 
     this.informerExecutor = informerExecutor;
     // reuse the informer executor, but ensure serial processing
-    this.processor = new SharedProcessor<>(informerExecutor, description);
+    ClientMetrics metrics = Optional.ofNullable(listerWatcher.getMetrics()).orElse(ClientMetrics.NOOP);
+    this.processor = new SharedProcessor<>(informerExecutor, description, metrics,
+        metrics.isEnabled() ? listerWatcher.getMetricsResource() : null);
 
     processorStore = new ProcessorStore<>(this.indexer, this.processor);
     this.reflector = new Reflector<>(listerWatcher, processorStore, informerExecutor);
@@ -169,6 +189,8 @@ public class DefaultSharedIndexInformer<T extends HasMetadata, L extends Kuberne
       if (initialState != null) {
         initialState.forEach(indexer::put);
         reflector.usingInitialState();
+      } else if (cacheFile != null) {
+        restore();
       }
     }
 
@@ -194,9 +216,35 @@ public class DefaultSharedIndexInformer<T extends HasMetadata, L extends Kuberne
     stopped = true;
     reflector.stop();
     stopResync();
+    persist();
     processor.stop();
   }
 
+  private void restore() {
+    try {
+      String resourceVersion = cacheFile.read(processorStore::update);
+      if (resourceVersion != null) {
+        log.debug("Restored {} at v{} from {}", this, resourceVersion, cacheFile.getPath());
+        reflector.resumeFrom(resourceVersion);
+      }
+    } catch (IOException | RuntimeException e) {
+      log.warn("Could not restore {} from {}, will list instead", this, cacheFile.getPath(), e);
+    }
+  }
+
+  private void persist() {
+    // the resourceVersion is obtained first, so the items are at least as recent
+    String resourceVersion = reflector.getLastSyncResourceVersion();
+    if (cacheFile == null || resourceVersion == null) {
+      return;
+    }
+    try {
+      cacheFile.write(resourceVersion, indexer.list());
+    } catch (IOException | RuntimeException e) {
+      log.warn("Could not persist {} to {}", this, cacheFile.getPath(), e);
+    }
+  }
+
   private synchronized void stopResync() {
     if (resyncFuture != null) {
       resyncFuture.cancel(true);
@@ -244,21 +292,68 @@ public class DefaultSharedIndexInformer<T extends HasMetadata, L extends Kuberne
   synchronized void scheduleResync(BooleanSupplier resyncFunc) {
     // schedule the resync runnable
     if (resyncCheckPeriodMillis > 0) {
-      resyncFuture = Utils.scheduleAtFixedRate(informerExecutor, () -> {
-        if (log.isDebugEnabled()) {
-          log.debug("Checking for resync at interval for {}", this);
-        }
-        if (resyncFunc.getAsBoolean()) {
-          log.debug("Resync running for {}", this);
-          processorStore.resync();
-        }
-      }, resyncCheckPeriodMillis,
-          resyncCheckPeriodMillis, TimeUnit.MILLISECONDS);
+      long tickMillis = Math.max(1, resyncCheckPeriodMillis / resyncSlices);
+      long initialDelayMillis = tickMillis;
+      if (resyncSlices > 1) {
+        initialDelayMillis += ThreadLocalRandom.current().nextLong(tickMillis);
+      }
+      AtomicLong due = new AtomicLong(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(initialDelayMillis));
+      long tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+      resyncFuture = Utils.scheduleAtFixedRate(informerExecutor,
+          () -> resyncTick(resyncFunc, due.getAndAdd(tickNanos)), initialDelayMillis, tickMillis, TimeUnit.MILLISECONDS);
     } else {
       log.debug("Resync skipped due to 0 full resync period for {}", this);
     }
   }
 
+  private void resyncTick(BooleanSupplier resyncFunc, long dueNanos) {
+    if (resyncKeys == null) {
+      if (log.isDebugEnabled()) {
+        log.debug("Checking for resync at interval for {}", this);
+      }
+      if (!resyncFunc.getAsBoolean()) {
+        return;
+      }
+      log.debug("Resync running for {}", this);
+      if (resyncSlices == 1) {
+        processorStore.resync();
+      } else {
+        resyncKeys = processorStore.listKeys();
+        resyncSlice = 0;
+      }
+    }
+    List<String> keys = resyncKeys;
+    if (keys != null) {
+      int slice = resyncSlice++;
+      int size = keys.size();
+      processorStore.resync(keys.subList((int) ((long) slice * size / resyncSlices),
+          (int) ((long) (slice + 1) * size / resyncSlices)));
+      if (resyncSlice == resyncSlices) {
+        resyncKeys = null;
+      }
+    }
+    // runs once the events of this tick have been delivered
+    processor.executeIfPossible(
+        () -> resyncLagMillis = TimeUnit.NANOSECONDS.toMillis(Math.max(0, System.nanoTime() - dueNanos)));
+  }
+
+  @Override
+  public synchronized SharedIndexInformer<T> incrementalResync(int slices) {
+    if (started.get()) {
+      throw new KubernetesClientException("Informer cannot be running when enabling incremental resync");
+    }
+    if (slices <= 0) {
+      throw new IllegalArgumentException("slices must be positive");
+    }
+    this.resyncSlices = slices;
+    return this;
+  }
+
+  @Override
+  public long getResyncLagMillis() {
+    return resyncLagMillis;
+  }
+
   public long getFullResyncPeriod() {
     return resyncCheckPeriodMillis;
   }
@@ -287,6 +382,15 @@ public class DefaultSharedIndexInformer<T extends HasMetadata, L extends Kuberne
     return this;
   }
 
+  @Override
+  public synchronized SharedIndexInformer<T> persistTo(Path file) {
+    if (started.get()) {
+      throw new KubernetesClientException("Informer cannot be running when setting the persistence file");
+    }
+    this.cacheFile = new CacheFile<>(file, apiTypeClass, description, listerWatcher.getKubernetesSerialization());
+    return this;
+  }
+
   @Override
   public synchronized SharedIndexInformer<T> itemStore(ItemStore<T> itemStore) {
     if (started.get()) {
@@ -296,6 +400,34 @@ public class DefaultSharedIndexInformer<T extends HasMetadata, L extends Kuberne
     return this;
   }
 
+  @Override
+  public synchronized SharedIndexInformer<T> enableSnapshots() {
+    if (started.get()) {
+      throw new KubernetesClientException("Informer cannot be running when enabling snapshots");
+    }
+    this.indexer.enableSnapshots();
+    return this;
+  }
+
+  @Override
+  public CacheSnapshot<T> snapshot() {
+    return this.indexer.snapshot();
+  }
+
+  @Override
+  public synchronized SharedIndexInformer<T> shardedDispatch(ShardedDispatch dispatch) {
+    if (started.get()) {
+      throw new KubernetesClientException("Informer cannot be running when setting sharded dispatch");
+    }
+    this.processor.shardedDispatch(dispatch, this.indexer::getKey);
+    return this;
+  }
+
+  @Override
+  public List<LaneStatistics> getLaneStatistics() {
+    return this.processor.getLaneStatistics();
+  }
+
   @Override
   public String toString() {
     return this.description;
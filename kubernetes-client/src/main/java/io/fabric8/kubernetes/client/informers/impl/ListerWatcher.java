@@ -16,11 +16,16 @@
 package io.fabric8.kubernetes.client.informers.impl;
 
 import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.KubernetesResourceList;
+import io.fabric8.kubernetes.api.model.ListMeta;
 import io.fabric8.kubernetes.api.model.ListOptions;
 import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.dsl.internal.AbstractWatchManager;
+import io.fabric8.kubernetes.client.metrics.ClientMetrics;
+import io.fabric8.kubernetes.client.utils.KubernetesSerialization;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 /**
  * ListerWatcher is any object that knows how to perform an initial list and
@@ -34,6 +39,54 @@ public interface ListerWatcher<T extends HasMetadata, L> {
 
   CompletableFuture<L> submitList(ListOptions listOptions);
 
+  /**
+   * Perform a list passing each item to the consumer as it is read, rather than holding all items of the list.
+   *
+   * @return the metadata of the list
+   */
+  default CompletableFuture<ListMeta> submitList(ListOptions listOptions, Consumer<T> itemConsumer) {
+    return submitList(listOptions).thenApply(result -> {
+      KubernetesResourceList<T> list = (KubernetesResourceList<T>) result;
+      list.getItems().forEach(itemConsumer);
+      return list.getMetadata();
+    });
+  }
+
+  /**
+   * @return true if lists should be performed with {@link #submitList(ListOptions, Consumer)}
+   */
+  default boolean isStreamingList() {
+    return false;
+  }
+
+  /**
+   * @return true if the state should be obtained from the initial events of a watch, rather than from a list
+   */
+  default boolean isWatchList() {
+    return false;
+  }
+
+  /**
+   * @return the serialization to use for persisting items
+   */
+  default KubernetesSerialization getKubernetesSerialization() {
+    return new KubernetesSerialization();
+  }
+
+  /**
+   * @return the metrics receiving measurements of the informer
+   */
+  default ClientMetrics getMetrics() {
+    return ClientMetrics.NOOP;
+  }
+
+  /**
+   * @return the resource that measurements are recorded for, which should not include the namespace
+   */
+  default String getMetricsResource() {
+    return getApiEndpointPath();
+  }
+
   Long getLimit();
 
   int getWatchReconnectInterval();
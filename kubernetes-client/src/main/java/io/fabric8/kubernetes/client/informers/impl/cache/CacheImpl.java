@@ -19,11 +19,15 @@ import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.ObjectMeta;
 import io.fabric8.kubernetes.client.informers.cache.BasicItemStore;
 import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.fabric8.kubernetes.client.informers.cache.CacheSnapshot;
 import io.fabric8.kubernetes.client.informers.cache.ItemStore;
 import io.fabric8.kubernetes.client.utils.Utils;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -33,6 +37,7 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -40,27 +45,40 @@ import java.util.stream.Collectors;
  * <br>
  * Index reads {@link #byIndex(String, String)}, {@link #indexKeys(String, String)}, {@link #index(String, HasMetadata)}
  * are not globally locked and thus may not be fully consistent with the current state
+ * <br>
+ * When {@link #enableSnapshots()} is used the state is instead held in immutable persistent structures. All reads
+ * are then served from a single published {@link CacheSnapshot}, which is consistent across the items and all indices,
+ * and neither reads nor {@link #snapshot()} ever block on, or are blocked by, writes.
  *
  * @param <T> type for cache object
  */
 public class CacheImpl<T extends HasMetadata> implements Cache<T> {
 
+  /**
+   * Holds the {@link KeyTable} ordinals of the keys for each index value.
+   * <br>
+   * The first instance of each index value is retained, and shared by all of the keys with that value.
+   */
   private static class Index {
-    private Map<Object, Set<String>> values = new ConcurrentHashMap<Object, Set<String>>();
+    private static final int[] EMPTY = new int[0];
+
+    private Map<Object, OrdinalSet> values = new ConcurrentHashMap<>();
 
-    public void update(String indexKey, String key, boolean remove) {
+    public void update(String indexKey, int ordinal, boolean remove) {
       if (remove) {
-        values.computeIfPresent(indexKey == null ? this : indexKey, (k, v) -> {
-          v.remove(key);
-          return v.isEmpty() ? null : v;
-        });
+        values.computeIfPresent(indexKey == null ? this : indexKey, (k, v) -> v.remove(ordinal) ? null : v);
       } else {
-        values.computeIfAbsent(indexKey == null ? this : indexKey, k -> ConcurrentHashMap.newKeySet()).add(key);
+        values.computeIfAbsent(indexKey == null ? this : indexKey, k -> new OrdinalSet()).add(ordinal);
       }
     }
 
-    public Set<String> get(String indexKey) {
-      return values.getOrDefault(indexKey == null ? this : indexKey, Collections.emptySet());
+    public OrdinalSet get(String indexKey) {
+      return values.get(indexKey == null ? this : indexKey);
+    }
+
+    public int[] ordinals(String indexKey) {
+      OrdinalSet set = get(indexKey);
+      return set == null ? EMPTY : set.toArray();
     }
   }
 
@@ -76,6 +94,12 @@ public class CacheImpl<T extends HasMetadata> implements Cache<T> {
   // indices stores objects' key by their indices
   private final ConcurrentMap<String, Index> indices = new ConcurrentHashMap<>();
 
+  // keyTable assigns the ordinals used by the indices
+  private final KeyTable keyTable = new KeyTable();
+
+  // when non-null, holds the items and indices instead of items / indices
+  private volatile Snapshot<T> snapshot;
+
   public CacheImpl() {
     this(NAMESPACE_INDEX, Cache::metaNamespaceIndexFunc, Cache::metaNamespaceKeyFunc);
   }
@@ -85,10 +109,60 @@ public class CacheImpl<T extends HasMetadata> implements Cache<T> {
     addIndexFunc(indexName, indexFunc);
   }
 
-  public void setItemStore(ItemStore<T> items) {
+  public synchronized void setItemStore(ItemStore<T> items) {
+    if (snapshot != null) {
+      checkFullState(items);
+    }
     this.items = items;
   }
 
+  /**
+   * Switch to holding the state in immutable persistent structures, see {@link #snapshot()}.
+   * <br>
+   * The {@link ItemStore} is then only used to compute keys, so it must retain the full state.
+   *
+   * @return this
+   */
+  public synchronized CacheImpl<T> enableSnapshots() {
+    if (snapshot != null) {
+      return this;
+    }
+    checkFullState(items);
+    Snapshot<T> next = new Snapshot<>();
+    for (Map.Entry<String, Function<T, List<String>>> indexEntry : indexers.entrySet()) {
+      next = next.withIndex(indexEntry.getKey(), indexEntry.getValue());
+    }
+    for (T item : list()) {
+      String key = getKey(item);
+      next = next.update(key, null, item, indexers);
+      this.items.remove(key);
+      this.keyTable.release(key);
+    }
+    this.indices.clear();
+    this.snapshot = next;
+    return this;
+  }
+
+  private static void checkFullState(ItemStore<?> items) {
+    if (!items.isFullState()) {
+      throw new IllegalStateException("Snapshots require an ItemStore that holds the full state");
+    }
+  }
+
+  /**
+   * Get a consistent, immutable view of the current state. This does not copy the state.
+   *
+   * @return the current snapshot
+   * @throws IllegalStateException if {@link #enableSnapshots()} has not been called
+   */
+  public CacheSnapshot<T> snapshot() {
+    Snapshot<T> current = snapshot;
+    if (current == null) {
+      throw new IllegalStateException("Snapshots are not enabled");
+    }
+    return current;
+  }
+
   /**
    * Returns the indexers registered with the cache.
    *
@@ -125,6 +199,12 @@ public class CacheImpl<T extends HasMetadata> implements Cache<T> {
       return null;
     }
     String key = getKey(obj);
+    Snapshot<T> current = snapshot;
+    if (current != null) {
+      T oldObj = current.getByKey(key);
+      snapshot = current.update(key, oldObj, obj, indexers);
+      return oldObj;
+    }
     T oldObj = this.items.put(key, obj);
     this.updateIndices(oldObj, obj, key);
     return oldObj;
@@ -138,9 +218,18 @@ public class CacheImpl<T extends HasMetadata> implements Cache<T> {
    */
   public synchronized T remove(T obj) {
     String key = getKey(obj);
+    Snapshot<T> current = snapshot;
+    if (current != null) {
+      T old = current.getByKey(key);
+      if (old != null) {
+        snapshot = current.update(key, old, null, indexers);
+      }
+      return old;
+    }
     T old = this.items.remove(key);
     if (old != null) {
       this.updateIndices(old, null, key);
+      this.keyTable.release(key);
     }
     return old;
   }
@@ -152,6 +241,10 @@ public class CacheImpl<T extends HasMetadata> implements Cache<T> {
    */
   @Override
   public List<String> listKeys() {
+    Snapshot<T> current = snapshot;
+    if (current != null) {
+      return new ArrayList<>(current.listKeys());
+    }
     return this.items.keySet().collect(Collectors.toList());
   }
 
@@ -183,6 +276,10 @@ public class CacheImpl<T extends HasMetadata> implements Cache<T> {
    */
   @Override
   public List<T> list() {
+    Snapshot<T> current = snapshot;
+    if (current != null) {
+      return new ArrayList<>(current.list());
+    }
     return this.items.values().collect(Collectors.toList());
   }
 
@@ -194,6 +291,10 @@ public class CacheImpl<T extends HasMetadata> implements Cache<T> {
    */
   @Override
   public T getByKey(String key) {
+    Snapshot<T> current = snapshot;
+    if (current != null) {
+      return current.getByKey(key);
+    }
     return this.items.get(key);
   }
 
@@ -210,19 +311,89 @@ public class CacheImpl<T extends HasMetadata> implements Cache<T> {
     if (indexFunc == null) {
       throw new IllegalArgumentException(String.format("index %s doesn't exist!", indexName));
     }
-    Index index = getIndex(indexName);
     List<String> indexKeys = indexFunc.apply(obj);
-    Set<String> returnKeySet = new HashSet<>();
-    for (String indexKey : indexKeys) {
-      returnKeySet.addAll(index.get(indexKey));
+    Snapshot<T> current = snapshot;
+    if (current != null) {
+      if (indexKeys.size() == 1) {
+        return new ArrayList<>(current.byIndex(indexName, indexKeys.get(0)));
+      }
+      Set<String> returnKeySet = new HashSet<>();
+      for (String indexKey : indexKeys) {
+        returnKeySet.addAll(current.indexKeys(indexName, indexKey));
+      }
+      return returnKeySet.stream().map(current::getByKey).collect(Collectors.toList());
+    }
+    Index index = getIndex(indexName);
+    if (indexKeys.size() == 1) {
+      return getItems(resolveKeys(() -> index.ordinals(indexKeys.get(0))));
     }
+    return getItems(resolveKeys(() -> {
+      // union of the ordinals, which may contain duplicates
+      int[] all = indexKeys.stream().map(index::ordinals).flatMapToInt(Arrays::stream).sorted().toArray();
+      int length = 0;
+      for (int i = 0; i < all.length; i++) {
+        if (length == 0 || all[length - 1] != all[i]) {
+          all[length++] = all[i];
+        }
+      }
+      return Arrays.copyOf(all, length);
+    }));
+  }
+
+  /**
+   * Lists objects that match all of the given index keys by intersecting the ordinals of the indices,
+   * starting with the smallest.
+   */
+  @Override
+  public List<T> byIndices(Map<String, String> indexKeys) {
+    Snapshot<T> current = snapshot;
+    if (current != null) {
+      return current.byIndices(indexKeys);
+    }
+    List<Map.Entry<String, String>> entries = new ArrayList<>(indexKeys.entrySet());
+    List<Index> toIntersect = new ArrayList<>(entries.size());
+    for (Map.Entry<String, String> entry : entries) {
+      toIntersect.add(getIndex(entry.getKey()));
+    }
+    if (toIntersect.isEmpty()) {
+      return new ArrayList<>();
+    }
+    return getItems(resolveKeys(() -> {
+      List<OrdinalSet> sets = new ArrayList<>(toIntersect.size());
+      for (int i = 0; i < toIntersect.size(); i++) {
+        OrdinalSet set = toIntersect.get(i).get(entries.get(i).getValue());
+        if (set == null) {
+          return Index.EMPTY;
+        }
+        sets.add(set);
+      }
+      sets.sort(Comparator.comparingInt(OrdinalSet::size));
+      int[] result = sets.get(0).toArray();
+      int length = result.length;
+      for (int i = 1; i < sets.size() && length > 0; i++) {
+        length = sets.get(i).retain(result, length);
+      }
+      return Arrays.copyOf(result, length);
+    }));
+  }
 
-    return getItems(returnKeySet);
+  private List<String> resolveKeys(Supplier<int[]> ordinals) {
+    return keyTable.read(() -> {
+      int[] values = ordinals.get();
+      List<String> keys = new ArrayList<>(values.length);
+      for (int ordinal : values) {
+        String key = keyTable.key(ordinal);
+        if (key != null) {
+          keys.add(key);
+        }
+      }
+      return keys;
+    });
   }
 
-  private List<T> getItems(Set<String> returnKeySet) {
-    List<T> items = new ArrayList<>(returnKeySet.size());
-    for (String absoluteKey : returnKeySet) {
+  private List<T> getItems(List<String> keys) {
+    List<T> items = new ArrayList<>(keys.size());
+    for (String absoluteKey : keys) {
       Optional.ofNullable(this.items.get(absoluteKey)).ifPresent(items::add);
     }
     return items;
@@ -242,8 +413,12 @@ public class CacheImpl<T extends HasMetadata> implements Cache<T> {
    */
   @Override
   public List<String> indexKeys(String indexName, String indexKey) {
+    Snapshot<T> current = snapshot;
+    if (current != null) {
+      return new ArrayList<>(current.indexKeys(indexName, indexKey));
+    }
     Index index = getIndex(indexName);
-    return new ArrayList<>(index.get(indexKey));
+    return resolveKeys(() -> index.ordinals(indexKey));
   }
 
   /**
@@ -255,8 +430,12 @@ public class CacheImpl<T extends HasMetadata> implements Cache<T> {
    */
   @Override
   public List<T> byIndex(String indexName, String indexKey) {
+    Snapshot<T> current = snapshot;
+    if (current != null) {
+      return new ArrayList<>(current.byIndex(indexName, indexKey));
+    }
     Index index = getIndex(indexName);
-    return getItems(index.get(indexKey));
+    return getItems(resolveKeys(() -> index.ordinals(indexKey)));
   }
 
   /**
@@ -288,8 +467,9 @@ public class CacheImpl<T extends HasMetadata> implements Cache<T> {
       boolean remove) {
     List<String> indexValues = indexFunc.apply(obj);
     if (indexValues != null && !indexValues.isEmpty()) {
+      int ordinal = keyTable.ordinal(key);
       for (String indexValue : indexValues) {
-        index.update(indexValue, key, remove);
+        index.update(indexValue, ordinal, remove);
       }
     }
   }
@@ -301,9 +481,14 @@ public class CacheImpl<T extends HasMetadata> implements Cache<T> {
    * @param indexFunc the index func
    */
   public synchronized CacheImpl<T> addIndexFunc(String indexName, Function<T, List<String>> indexFunc) {
-    if (this.indices.containsKey(indexName)) {
+    if (this.indexers.containsKey(indexName)) {
       throw new IllegalArgumentException("Indexer conflict: " + indexName);
     }
+    if (snapshot != null) {
+      this.indexers.put(indexName, indexFunc);
+      snapshot = snapshot.withIndex(indexName, indexFunc);
+      return this;
+    }
     Index index = new Index();
     this.indices.put(indexName, index);
     this.indexers.put(indexName, indexFunc);
@@ -373,14 +558,142 @@ public class CacheImpl<T extends HasMetadata> implements Cache<T> {
   public synchronized void removeIndexer(String name) {
     this.indices.remove(name);
     this.indexers.remove(name);
+    if (snapshot != null) {
+      snapshot = snapshot.withoutIndex(name);
+    }
   }
 
   public boolean isFullState() {
-    return items.isFullState();
+    return snapshot != null || items.isFullState();
   }
 
   public Object getLockObject() {
     return this;
   }
 
+  private static final class Snapshot<T> implements CacheSnapshot<T> {
+    // persistent maps do not allow null keys
+    private static final Object NULL_INDEX_VALUE = new Object();
+
+    private final PersistentHashMap<String, T> items;
+    // index name -> index value -> key -> object
+    private final PersistentHashMap<String, PersistentHashMap<Object, PersistentHashMap<String, T>>> indices;
+
+    Snapshot() {
+      this(PersistentHashMap.empty(), PersistentHashMap.empty());
+    }
+
+    private Snapshot(PersistentHashMap<String, T> items,
+        PersistentHashMap<String, PersistentHashMap<Object, PersistentHashMap<String, T>>> indices) {
+      this.items = items;
+      this.indices = indices;
+    }
+
+    Snapshot<T> update(String key, T oldObj, T newObj, Map<String, Function<T, List<String>>> indexers) {
+      PersistentHashMap<String, PersistentHashMap<Object, PersistentHashMap<String, T>>> nextIndices = indices;
+      for (Map.Entry<String, Function<T, List<String>>> indexEntry : indexers.entrySet()) {
+        PersistentHashMap<Object, PersistentHashMap<String, T>> index = nextIndices.get(indexEntry.getKey());
+        if (index == null) {
+          continue;
+        }
+        if (oldObj != null) {
+          index = updateIndex(index, key, oldObj, indexEntry.getValue(), true);
+        }
+        if (newObj != null) {
+          index = updateIndex(index, key, newObj, indexEntry.getValue(), false);
+        }
+        nextIndices = nextIndices.put(indexEntry.getKey(), index);
+      }
+      return new Snapshot<>(newObj == null ? items.remove(key) : items.put(key, newObj), nextIndices);
+    }
+
+    Snapshot<T> withIndex(String indexName, Function<T, List<String>> indexFunc) {
+      PersistentHashMap<Object, PersistentHashMap<String, T>> index = PersistentHashMap.empty();
+      for (String key : items.keySet()) {
+        index = updateIndex(index, key, items.get(key), indexFunc, false);
+      }
+      return new Snapshot<>(items, indices.put(indexName, index));
+    }
+
+    Snapshot<T> withoutIndex(String indexName) {
+      return new Snapshot<>(items, indices.remove(indexName));
+    }
+
+    private static <T> PersistentHashMap<Object, PersistentHashMap<String, T>> updateIndex(
+        PersistentHashMap<Object, PersistentHashMap<String, T>> index, String key, T obj,
+        Function<T, List<String>> indexFunc, boolean remove) {
+      List<String> indexValues = indexFunc.apply(obj);
+      if (indexValues == null) {
+        return index;
+      }
+      for (String indexValue : indexValues) {
+        Object indexKey = indexValue == null ? NULL_INDEX_VALUE : indexValue;
+        PersistentHashMap<String, T> keys = index.get(indexKey);
+        if (remove) {
+          if (keys != null) {
+            keys = keys.remove(key);
+            index = keys.isEmpty() ? index.remove(indexKey) : index.put(indexKey, keys);
+          }
+        } else {
+          keys = keys == null ? PersistentHashMap.empty() : keys;
+          index = index.put(indexKey, keys.put(key, obj));
+        }
+      }
+      return index;
+    }
+
+    private PersistentHashMap<String, T> getIndexSet(String indexName, String indexKey) {
+      PersistentHashMap<Object, PersistentHashMap<String, T>> index = indices.get(indexName);
+      if (index == null) {
+        throw new IllegalArgumentException(String.format("index %s doesn't exist!", indexName));
+      }
+      PersistentHashMap<String, T> result = index.get(indexKey == null ? NULL_INDEX_VALUE : indexKey);
+      return result == null ? PersistentHashMap.empty() : result;
+    }
+
+    List<T> byIndices(Map<String, String> indexKeys) {
+      List<PersistentHashMap<String, T>> sets = new ArrayList<>(indexKeys.size());
+      for (Map.Entry<String, String> entry : indexKeys.entrySet()) {
+        sets.add(getIndexSet(entry.getKey(), entry.getValue()));
+      }
+      if (sets.isEmpty()) {
+        return new ArrayList<>();
+      }
+      sets.sort(Comparator.comparingInt(PersistentHashMap::size));
+      List<PersistentHashMap<String, T>> others = sets.subList(1, sets.size());
+      List<T> result = new ArrayList<>();
+      for (String key : sets.get(0).keySet()) {
+        if (others.stream().allMatch(set -> set.containsKey(key))) {
+          result.add(items.get(key));
+        }
+      }
+      return result;
+    }
+
+    @Override
+    public T getByKey(String key) {
+      return key == null ? null : items.get(key);
+    }
+
+    @Override
+    public Collection<T> list() {
+      return items.values();
+    }
+
+    @Override
+    public Collection<String> listKeys() {
+      return items.keySet();
+    }
+
+    @Override
+    public Collection<T> byIndex(String indexName, String indexKey) {
+      return getIndexSet(indexName, indexKey).values();
+    }
+
+    @Override
+    public Collection<String> indexKeys(String indexName, String indexKey) {
+      return getIndexSet(indexName, indexKey).keySet();
+    }
+  }
+
 }
@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers.impl.cache;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Supplier;
+
+/**
+ * Assigns dense int ordinals to cache keys so that indices may hold {@link OrdinalSet}s rather than sets of strings.
+ * <br>
+ * Ordinals of released keys are reused. Modifications are expected to be single threaded, while any number of
+ * readers may resolve ordinals via {@link #read(Supplier)} - which is retried if an ordinal was released
+ * in the meantime.
+ */
+final class KeyTable {
+
+  private final StampedLock lock = new StampedLock();
+  private final Map<String, Integer> ordinals = new HashMap<>();
+  private volatile String[] keys = new String[16];
+  private int[] free = new int[16];
+  private int freeCount;
+  private int next;
+
+  /**
+   * Get or assign the ordinal for the key
+   */
+  int ordinal(String key) {
+    Integer existing = ordinals.get(key);
+    if (existing != null) {
+      return existing;
+    }
+    int ordinal = freeCount > 0 ? free[--freeCount] : next++;
+    String[] current = keys;
+    if (ordinal >= current.length) {
+      current = Arrays.copyOf(current, current.length * 2);
+    }
+    current[ordinal] = key;
+    keys = current;
+    ordinals.put(key, ordinal);
+    return ordinal;
+  }
+
+  /**
+   * Release the ordinal for the key, which must no longer be present in any index
+   */
+  void release(String key) {
+    Integer ordinal = ordinals.remove(key);
+    if (ordinal == null) {
+      return;
+    }
+    long stamp = lock.writeLock();
+    try {
+      keys[ordinal] = null;
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+    if (freeCount == free.length) {
+      free = Arrays.copyOf(free, free.length * 2);
+    }
+    free[freeCount++] = ordinal;
+  }
+
+  /**
+   * Resolve an ordinal to its key. Should only be called within {@link #read(Supplier)}
+   */
+  String key(int ordinal) {
+    String[] current = keys;
+    return ordinal < current.length ? current[ordinal] : null;
+  }
+
+  /**
+   * Perform an operation that obtains ordinals from indices and resolves them to keys, such that
+   * no ordinal is resolved to a key it was reassigned to during the operation.
+   */
+  <R> R read(Supplier<R> operation) {
+    long stamp = lock.tryOptimisticRead();
+    if (stamp != 0) {
+      R result = operation.get();
+      if (lock.validate(stamp)) {
+        return result;
+      }
+    }
+    stamp = lock.readLock();
+    try {
+      return operation.get();
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers.impl.cache;
+
+import java.util.Arrays;
+
+/**
+ * A set of non-negative ints, see {@link KeyTable}.
+ * <br>
+ * Held as a sorted array while sparse, and as a bitmap once the bitmap would be smaller.
+ * <br>
+ * All operations are synchronized on the set itself.
+ */
+final class OrdinalSet {
+
+  private static final int MIN_BITMAP_SIZE = 32;
+
+  private int[] sorted = new int[2];
+  private long[] bits;
+  private int size;
+
+  synchronized boolean add(int ordinal) {
+    if (bits != null) {
+      int word = ordinal >>> 6;
+      if (word >= bits.length) {
+        bits = Arrays.copyOf(bits, Math.max(word + 1, bits.length + (bits.length >> 1)));
+      }
+      long mask = 1L << ordinal;
+      if ((bits[word] & mask) != 0) {
+        return false;
+      }
+      bits[word] |= mask;
+      size++;
+      return true;
+    }
+    int idx = Arrays.binarySearch(sorted, 0, size, ordinal);
+    if (idx >= 0) {
+      return false;
+    }
+    idx = -idx - 1;
+    if (size == sorted.length) {
+      sorted = Arrays.copyOf(sorted, size + (size >> 1) + 1);
+    }
+    System.arraycopy(sorted, idx, sorted, idx + 1, size - idx);
+    sorted[idx] = ordinal;
+    size++;
+    if (size >= MIN_BITMAP_SIZE && size * 32L > sorted[size - 1]) {
+      toBitmap();
+    }
+    return true;
+  }
+
+  /**
+   * @return true if the set is now empty
+   */
+  synchronized boolean remove(int ordinal) {
+    if (bits != null) {
+      int word = ordinal >>> 6;
+      long mask = 1L << ordinal;
+      if (word < bits.length && (bits[word] & mask) != 0) {
+        bits[word] &= ~mask;
+        size--;
+        if (size * 2 < bits.length) {
+          toSorted();
+        }
+      }
+    } else {
+      int idx = Arrays.binarySearch(sorted, 0, size, ordinal);
+      if (idx >= 0) {
+        System.arraycopy(sorted, idx + 1, sorted, idx, size - idx - 1);
+        size--;
+      }
+    }
+    return size == 0;
+  }
+
+  synchronized int size() {
+    return size;
+  }
+
+  /**
+   * @return the ordinals in ascending order
+   */
+  synchronized int[] toArray() {
+    if (bits == null) {
+      return Arrays.copyOf(sorted, size);
+    }
+    int[] result = new int[size];
+    int i = 0;
+    for (int word = 0; word < bits.length; word++) {
+      long value = bits[word];
+      while (value != 0) {
+        result[i++] = (word << 6) + Long.numberOfTrailingZeros(value);
+        value &= value - 1;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Compacts the given ascending ordinals to only those also contained in this set
+   *
+   * @return the number of retained ordinals
+   */
+  synchronized int retain(int[] ordinals, int length) {
+    int retained = 0;
+    for (int i = 0; i < length; i++) {
+      if (contains(ordinals[i])) {
+        ordinals[retained++] = ordinals[i];
+      }
+    }
+    return retained;
+  }
+
+  private boolean contains(int ordinal) {
+    if (bits != null) {
+      int word = ordinal >>> 6;
+      return word < bits.length && (bits[word] & (1L << ordinal)) != 0;
+    }
+    return Arrays.binarySearch(sorted, 0, size, ordinal) >= 0;
+  }
+
+  private void toBitmap() {
+    long[] newBits = new long[(sorted[size - 1] >>> 6) + 1];
+    for (int i = 0; i < size; i++) {
+      newBits[sorted[i] >>> 6] |= 1L << sorted[i];
+    }
+    bits = newBits;
+    sorted = null;
+  }
+
+  private void toSorted() {
+    int[] values = toArray();
+    sorted = Arrays.copyOf(values, Math.max(2, size + (size >> 1)));
+    bits = null;
+  }
+
+}
@@ -0,0 +1,389 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers.impl.cache;
+
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A minimal immutable hash array mapped trie.
+ * <br>
+ * Every modification returns a new map that shares all untouched nodes with the previous one, so
+ * an instance may be freely read by any number of threads while a writer derives the next version.
+ * <br>
+ * Neither keys nor values may be null.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+final class PersistentHashMap<K, V> {
+
+  private static final int BITS = 5;
+  private static final int MASK = (1 << BITS) - 1;
+  // 7 bitmap levels cover the 32 bit hash, plus one level of collision nodes
+  private static final int MAX_DEPTH = 8;
+
+  private static final PersistentHashMap<?, ?> EMPTY = new PersistentHashMap<>(null, 0);
+
+  private final Node root;
+  private final int size;
+
+  private PersistentHashMap(Node root, int size) {
+    this.root = root;
+    this.size = size;
+  }
+
+  @SuppressWarnings("unchecked")
+  static <K, V> PersistentHashMap<K, V> empty() {
+    return (PersistentHashMap<K, V>) EMPTY;
+  }
+
+  int size() {
+    return size;
+  }
+
+  boolean isEmpty() {
+    return size == 0;
+  }
+
+  @SuppressWarnings("unchecked")
+  V get(Object key) {
+    if (root == null || key == null) {
+      return null;
+    }
+    return (V) root.find(hash(key), key, 0);
+  }
+
+  boolean containsKey(Object key) {
+    return get(key) != null;
+  }
+
+  PersistentHashMap<K, V> put(K key, V value) {
+    Objects.requireNonNull(key);
+    Objects.requireNonNull(value);
+    Change change = new Change();
+    Node start = root == null ? BitmapNode.EMPTY : root;
+    Node newRoot = start.put(hash(key), key, value, 0, change);
+    if (newRoot == root) {
+      return this;
+    }
+    return new PersistentHashMap<>(newRoot, change.added ? size + 1 : size);
+  }
+
+  PersistentHashMap<K, V> remove(Object key) {
+    if (root == null || key == null) {
+      return this;
+    }
+    Change change = new Change();
+    Node newRoot = root.remove(hash(key), key, 0, change);
+    if (newRoot == root) {
+      return this;
+    }
+    return newRoot == null ? empty() : new PersistentHashMap<>(newRoot, size - 1);
+  }
+
+  /**
+   * @return an unmodifiable view of the keys, iteration does not copy the underlying state
+   */
+  Set<K> keySet() {
+    return new AbstractSet<K>() {
+      @Override
+      public Iterator<K> iterator() {
+        return new EntryIterator<>(root, true);
+      }
+
+      @Override
+      public boolean contains(Object o) {
+        return containsKey(o);
+      }
+
+      @Override
+      public int size() {
+        return size;
+      }
+    };
+  }
+
+  /**
+   * @return an unmodifiable view of the values, iteration does not copy the underlying state
+   */
+  Collection<V> values() {
+    return new AbstractCollection<V>() {
+      @Override
+      public Iterator<V> iterator() {
+        return new EntryIterator<>(root, false);
+      }
+
+      @Override
+      public int size() {
+        return size;
+      }
+    };
+  }
+
+  private static int hash(Object key) {
+    int h = key.hashCode();
+    return h ^ (h >>> 16);
+  }
+
+  private static Object[] cloneAndSet(Object[] array, int i, Object a) {
+    Object[] clone = array.clone();
+    clone[i] = a;
+    return clone;
+  }
+
+  private static Object[] removePair(Object[] array, int i) {
+    Object[] newArray = new Object[array.length - 2];
+    System.arraycopy(array, 0, newArray, 0, 2 * i);
+    System.arraycopy(array, 2 * (i + 1), newArray, 2 * i, newArray.length - 2 * i);
+    return newArray;
+  }
+
+  private static final class Change {
+    boolean added;
+  }
+
+  /**
+   * Nodes hold alternating key / value pairs. A null key marks the value as a child node.
+   */
+  private abstract static class Node {
+    final Object[] array;
+
+    Node(Object[] array) {
+      this.array = array;
+    }
+
+    abstract Object find(int hash, Object key, int shift);
+
+    abstract Node put(int hash, Object key, Object value, int shift, Change change);
+
+    /**
+     * @return this if the key was not found, null if the node became empty, or the new node
+     */
+    abstract Node remove(int hash, Object key, int shift, Change change);
+  }
+
+  private static final class BitmapNode extends Node {
+    static final BitmapNode EMPTY = new BitmapNode(0, new Object[0]);
+
+    private final int bitmap;
+
+    BitmapNode(int bitmap, Object[] array) {
+      super(array);
+      this.bitmap = bitmap;
+    }
+
+    private int index(int bit) {
+      return Integer.bitCount(bitmap & (bit - 1));
+    }
+
+    @Override
+    Object find(int hash, Object key, int shift) {
+      int bit = 1 << ((hash >>> shift) & MASK);
+      if ((bitmap & bit) == 0) {
+        return null;
+      }
+      int idx = index(bit);
+      Object k = array[2 * idx];
+      Object v = array[2 * idx + 1];
+      if (k == null) {
+        return ((Node) v).find(hash, key, shift + BITS);
+      }
+      return key.equals(k) ? v : null;
+    }
+
+    @Override
+    Node put(int hash, Object key, Object value, int shift, Change change) {
+      int bit = 1 << ((hash >>> shift) & MASK);
+      int idx = index(bit);
+      if ((bitmap & bit) == 0) {
+        int n = Integer.bitCount(bitmap);
+        Object[] newArray = new Object[2 * (n + 1)];
+        System.arraycopy(array, 0, newArray, 0, 2 * idx);
+        newArray[2 * idx] = key;
+        newArray[2 * idx + 1] = value;
+        System.arraycopy(array, 2 * idx, newArray, 2 * (idx + 1), 2 * (n - idx));
+        change.added = true;
+        return new BitmapNode(bitmap | bit, newArray);
+      }
+      Object k = array[2 * idx];
+      Object v = array[2 * idx + 1];
+      if (k == null) {
+        Node child = ((Node) v).put(hash, key, value, shift + BITS, change);
+        return child == v ? this : new BitmapNode(bitmap, cloneAndSet(array, 2 * idx + 1, child));
+      }
+      if (key.equals(k)) {
+        return v == value ? this : new BitmapNode(bitmap, cloneAndSet(array, 2 * idx + 1, value));
+      }
+      change.added = true;
+      Object[] newArray = cloneAndSet(array, 2 * idx, null);
+      newArray[2 * idx + 1] = createNode(shift + BITS, k, v, hash, key, value);
+      return new BitmapNode(bitmap, newArray);
+    }
+
+    @Override
+    Node remove(int hash, Object key, int shift, Change change) {
+      int bit = 1 << ((hash >>> shift) & MASK);
+      if ((bitmap & bit) == 0) {
+        return this;
+      }
+      int idx = index(bit);
+      Object k = array[2 * idx];
+      Object v = array[2 * idx + 1];
+      if (k == null) {
+        Node child = ((Node) v).remove(hash, key, shift + BITS, change);
+        if (child == v) {
+          return this;
+        }
+        if (child != null) {
+          return new BitmapNode(bitmap, cloneAndSet(array, 2 * idx + 1, child));
+        }
+      } else if (!key.equals(k)) {
+        return this;
+      }
+      if (bitmap == bit) {
+        return null;
+      }
+      return new BitmapNode(bitmap ^ bit, removePair(array, idx));
+    }
+
+    private static Node createNode(int shift, Object key1, Object value1, int hash2, Object key2, Object value2) {
+      int hash1 = hash(key1);
+      if (hash1 == hash2) {
+        return new CollisionNode(hash1, new Object[] { key1, value1, key2, value2 });
+      }
+      Change ignored = new Change();
+      return EMPTY.put(hash1, key1, value1, shift, ignored).put(hash2, key2, value2, shift, ignored);
+    }
+  }
+
+  private static final class CollisionNode extends Node {
+    private final int hash;
+
+    CollisionNode(int hash, Object[] array) {
+      super(array);
+      this.hash = hash;
+    }
+
+    private int indexOf(Object key) {
+      for (int i = 0; i < array.length; i += 2) {
+        if (key.equals(array[i])) {
+          return i;
+        }
+      }
+      return -1;
+    }
+
+    @Override
+    Object find(int hash, Object key, int shift) {
+      int idx = indexOf(key);
+      return idx < 0 ? null : array[idx + 1];
+    }
+
+    @Override
+    Node put(int hash, Object key, Object value, int shift, Change change) {
+      if (hash != this.hash) {
+        // nest this node in a bitmap node so that the new hash can branch off at this level
+        int bit = 1 << ((this.hash >>> shift) & MASK);
+        return new BitmapNode(bit, new Object[] { null, this }).put(hash, key, value, shift, change);
+      }
+      int idx = indexOf(key);
+      if (idx >= 0) {
+        return array[idx + 1] == value ? this : new CollisionNode(hash, cloneAndSet(array, idx + 1, value));
+      }
+      Object[] newArray = new Object[array.length + 2];
+      System.arraycopy(array, 0, newArray, 0, array.length);
+      newArray[array.length] = key;
+      newArray[array.length + 1] = value;
+      change.added = true;
+      return new CollisionNode(hash, newArray);
+    }
+
+    @Override
+    Node remove(int hash, Object key, int shift, Change change) {
+      int idx = indexOf(key);
+      if (idx < 0) {
+        return this;
+      }
+      if (array.length == 2) {
+        return null;
+      }
+      return new CollisionNode(hash, removePair(array, idx / 2));
+    }
+  }
+
+  private static final class EntryIterator<R> implements Iterator<R> {
+    private final Object[][] arrays = new Object[MAX_DEPTH][];
+    private final int[] positions = new int[MAX_DEPTH];
+    private final boolean keys;
+    private int depth;
+    private Object next;
+
+    EntryIterator(Node root, boolean keys) {
+      this.keys = keys;
+      if (root == null) {
+        depth = -1;
+      } else {
+        arrays[0] = root.array;
+      }
+      advance();
+    }
+
+    private void advance() {
+      next = null;
+      while (depth >= 0) {
+        Object[] array = arrays[depth];
+        int position = positions[depth];
+        if (position >= array.length) {
+          depth--;
+          continue;
+        }
+        positions[depth] = position + 2;
+        Object key = array[position];
+        if (key == null) {
+          depth++;
+          arrays[depth] = ((Node) array[position + 1]).array;
+          positions[depth] = 0;
+        } else {
+          next = keys ? key : array[position + 1];
+          return;
+        }
+      }
+    }
+
+    @Override
+    public boolean hasNext() {
+      return next != null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public R next() {
+      if (next == null) {
+        throw new NoSuchElementException();
+      }
+      Object result = next;
+      advance();
+      return (R) result;
+    }
+  }
+
+}
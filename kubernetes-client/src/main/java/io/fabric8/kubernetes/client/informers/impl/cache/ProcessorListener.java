@@ -93,7 +93,12 @@ public class ProcessorListener<T> {
 
     @Override
     public void handle(ResourceEventHandler<? super T> resourceEventHandler) {
-      resourceEventHandler.onUpdate(getOldObject(), getNewObject());
+      // a resync notifies the cached object as both the old and new object
+      if (getOldObject() == getNewObject()) {
+        resourceEventHandler.onResync(getNewObject());
+      } else {
+        resourceEventHandler.onUpdate(getOldObject(), getNewObject());
+      }
     }
   }
 
@@ -129,4 +129,14 @@ public class ProcessorStore<T extends HasMetadata> {
     }
   }
 
+  /**
+   * Resync only the given keys, skipping those no longer present
+   */
+  public void resync(List<String> keys) {
+    synchronized (cache.getLockObject()) {
+      keys.stream().map(cache::getByKey).filter(Objects::nonNull)
+          .forEach(i -> this.processor.distribute(new ProcessorListener.UpdateNotification<>(i, i), true));
+    }
+  }
+
 }
@@ -17,6 +17,8 @@ package io.fabric8.kubernetes.client.informers.impl.cache;
 
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
+import io.fabric8.kubernetes.api.model.ListMeta;
+import io.fabric8.kubernetes.api.model.ListOptions;
 import io.fabric8.kubernetes.api.model.ListOptionsBuilder;
 import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.Watch;
@@ -25,18 +27,24 @@ import io.fabric8.kubernetes.client.WatcherException;
 import io.fabric8.kubernetes.client.dsl.internal.AbstractWatchManager;
 import io.fabric8.kubernetes.client.informers.ExceptionHandler;
 import io.fabric8.kubernetes.client.informers.impl.ListerWatcher;
+import io.fabric8.kubernetes.client.metrics.ClientMetrics;
 import io.fabric8.kubernetes.client.utils.ExponentialBackoffIntervalCalculator;
 import io.fabric8.kubernetes.client.utils.Utils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.net.HttpURLConnection;
+import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.function.LongSupplier;
 
 public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T>> {
@@ -44,6 +52,8 @@ public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T
   private static final Logger log = LoggerFactory.getLogger(Reflector.class);
 
   private static long MIN_TIMEOUT = TimeUnit.MINUTES.toSeconds(5);
+  private static final int HTTP_UNPROCESSABLE_ENTITY = 422;
+  private static final long INITIAL_EVENTS_TIMEOUT = TimeUnit.SECONDS.toMillis(30);
 
   private volatile String lastSyncResourceVersion;
   private final ListerWatcher<T, L> listerWatcher;
@@ -56,14 +66,21 @@ public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T
   private final CompletableFuture<Void> stopFuture = new CompletableFuture<>();
   private final ExponentialBackoffIntervalCalculator retryIntervalCalculator;
   private final Executor executor;
+  private final ClientMetrics metrics;
+  private final String metricsResource;
   //default behavior - retry if started and it's not a watcherexception
   private volatile ExceptionHandler handler = (b, t) -> b && !(t instanceof WatcherException);
   private long minTimeout = MIN_TIMEOUT;
+  private long initialEventsTimeout = INITIAL_EVENTS_TIMEOUT;
 
   private CompletableFuture<Void> timeoutFuture;
 
   private boolean cachedListing = true;
 
+  private volatile boolean watchListUnsupported;
+
+  private volatile String resumeResourceVersion;
+
   public Reflector(ListerWatcher<T, L> listerWatcher, ProcessorStore<T> store) {
     this(listerWatcher, store, Runnable::run);
   }
@@ -75,6 +92,8 @@ public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T
     this.retryIntervalCalculator = new ExponentialBackoffIntervalCalculator(listerWatcher.getWatchReconnectInterval(),
         ExponentialBackoffIntervalCalculator.UNLIMITED_RETRIES);
     this.executor = executor;
+    this.metrics = Optional.ofNullable(listerWatcher.getMetrics()).orElse(ClientMetrics.NOOP);
+    this.metricsResource = metrics.isEnabled() ? listerWatcher.getMetricsResource() : null;
   }
 
   public CompletableFuture<Void> start() {
@@ -122,9 +141,33 @@ public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T
     if (isStopped()) {
       return CompletableFuture.completedFuture(null);
     }
+    CompletableFuture<Void> theFuture;
+    String resumeVersion = resumeResourceVersion;
+    if (resumeVersion != null) {
+      resumeResourceVersion = null;
+      theFuture = resumeThenWatch(resumeVersion);
+    } else if (listerWatcher.isWatchList() && !watchListUnsupported) {
+      theFuture = watchListSyncAndWatch();
+    } else {
+      theFuture = listSyncThenWatch();
+    }
+    theFuture.whenComplete((v, t) -> {
+      if (t != null) {
+        onException("listSyncAndWatch", t);
+      } else {
+        startFuture.complete(null);
+        retryIntervalCalculator.resetReconnectAttempts();
+      }
+    });
+    return theFuture;
+  }
+
+  private CompletableFuture<Void> listSyncThenWatch() {
     Set<String> nextKeys = new ConcurrentSkipListSet<>();
-    CompletableFuture<Void> theFuture = processList(nextKeys, null).thenCompose(result -> {
-      final String latestResourceVersion = result.getMetadata().getResourceVersion();
+    final long start = metrics.isEnabled() ? System.nanoTime() : 0;
+    return processList(nextKeys, null).thenCompose(result -> {
+      final String latestResourceVersion = result.getResourceVersion();
+      metrics.informerListed(metricsResource, nextKeys.size(), System.nanoTime() - start);
       log.debug("Listing items ({}) for {} at v{}", nextKeys.size(), this, latestResourceVersion);
       CompletableFuture<?> cf = new CompletableFuture<>();
       store.retainAll(nextKeys, executor -> {
@@ -136,33 +179,146 @@ public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T
           executor.execute(() -> cf.complete(null));
         }
       });
-      return cf.thenCompose(ignored -> startWatcher(latestResourceVersion));
-    }).thenAccept(w -> {
-      if (w != null) {
-        if (!isStopped()) {
-          if (log.isDebugEnabled()) {
-            log.debug("Watch started for {}", Reflector.this);
+      return cf.thenCompose(ignored -> startWatcher(latestResourceVersion, false));
+    }).thenAccept(this::watchStarted);
+  }
+
+  /**
+   * Resume from the state already in the store with a watch, rather than a list.
+   * <br>
+   * Falls back to listing if the resourceVersion is too old.
+   */
+  private CompletableFuture<Void> resumeThenWatch(String resourceVersion) {
+    Set<String> keys = new HashSet<>(store.listKeys());
+    log.debug("Resuming items ({}) for {} at v{}", keys.size(), this, resourceVersion);
+    CompletableFuture<Void> cf = new CompletableFuture<>();
+    store.retainAll(keys, executor -> {
+      lastSyncResourceVersion = resourceVersion;
+      cf.complete(null);
+    });
+    return cf.thenCompose(ignored -> startWatcher(resourceVersion, false))
+        .handle((w, t) -> {
+          if (t == null) {
+            watchStarted(w);
+            return CompletableFuture.<Void> completedFuture(null);
           }
-          watching = true;
-        } else {
-          stopWatch(w);
-        }
+          Throwable cause = t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+          if (cause instanceof KubernetesClientException
+              && ((KubernetesClientException) cause).getCode() == HttpURLConnection.HTTP_GONE) {
+            log.info("Resource version v{} is too old to resume {}, falling back to listing", resourceVersion,
+                Reflector.this);
+            return listSyncThenWatch();
+          }
+          CompletableFuture<Void> failed = new CompletableFuture<>();
+          failed.completeExceptionally(cause);
+          return failed;
+        }).thenCompose(Function.identity());
+  }
+
+  /**
+   * Obtain the state from the initial events of a watch, rather than from a list.
+   * <br>
+   * Falls back to listing if the server rejects the watch request, or ignores sendInitialEvents - which
+   * servers without the WatchList feature do. Those never send the bookmark ending the initial events,
+   * so the fallback happens once a bookmark without that annotation is received, or once no event has been
+   * received for the initial events timeout.
+   */
+  private CompletableFuture<Void> watchListSyncAndWatch() {
+    Set<String> nextKeys = new ConcurrentSkipListSet<>();
+    CompletableFuture<Void> initialEventsEnd = new CompletableFuture<>();
+    watcher.expectInitialEvents(nextKeys, initialEventsEnd);
+    // an empty resourceVersion requests a consistent read, while 0 allows any cached state
+    String resourceVersion = isCachedListing(null) ? "0" : "";
+    return CompletableFuture.completedFuture(null)
+        .thenCompose(ignored -> startWatcher(resourceVersion, true))
+        .handle((w, t) -> {
+          if (t == null) {
+            watchStarted(w);
+            scheduleInitialEventsCheck(initialEventsEnd, watcher.getInitialEventsReceived());
+            return initialEventsEnd;
+          }
+          watcher.expectInitialEvents(null, null);
+          Throwable cause = t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+          if (cause instanceof KubernetesClientException
+              && isWatchListRejection(((KubernetesClientException) cause).getCode())) {
+            log.info("Watch list is not supported for {}, falling back to listing", Reflector.this);
+            log.debug("Watch list request failed", cause);
+            watchListUnsupported = true;
+            return listSyncThenWatch();
+          }
+          CompletableFuture<Void> failed = new CompletableFuture<>();
+          failed.completeExceptionally(cause);
+          return failed;
+        }).thenCompose(Function.identity());
+  }
+
+  private void scheduleInitialEventsCheck(CompletableFuture<Void> initialEventsEnd, long received) {
+    Utils.schedule(executor, () -> {
+      if (isStopped() || !watcher.isExpectingInitialEvents(initialEventsEnd)) {
+        return;
       }
-    });
-    theFuture.whenComplete((v, t) -> {
+      long nowReceived = watcher.getInitialEventsReceived();
+      if (nowReceived == received) {
+        log.debug("No initial events received within {}ms for {}", initialEventsTimeout, Reflector.this);
+        watchListIgnored(initialEventsEnd);
+      } else {
+        scheduleInitialEventsCheck(initialEventsEnd, nowReceived);
+      }
+    }, initialEventsTimeout, TimeUnit.MILLISECONDS);
+  }
+
+  private void watchListIgnored(CompletableFuture<Void> initialEventsEnd) {
+    if (!watcher.stopExpectingInitialEvents(initialEventsEnd)) {
+      return;
+    }
+    log.info("Watch list is not supported for {}, falling back to listing", this);
+    watchListUnsupported = true;
+    CompletableFuture<AbstractWatchManager<T>> ignoredWatch = currentWatch();
+    if (ignoredWatch != null) {
+      ignoredWatch.thenAccept(w -> {
+        if (w != null) {
+          // the watch started by the list may already be running when this close is reported
+          watcher.ignoreNextClose();
+          w.close();
+        }
+      });
+    }
+    listSyncThenWatch().whenComplete((v, t) -> {
       if (t != null) {
-        onException("listSyncAndWatch", t);
+        initialEventsEnd.completeExceptionally(t);
       } else {
-        startFuture.complete(null);
-        retryIntervalCalculator.resetReconnectAttempts();
+        initialEventsEnd.complete(null);
       }
     });
-    return theFuture;
+  }
+
+  private synchronized CompletableFuture<AbstractWatchManager<T>> currentWatch() {
+    return watchFuture;
+  }
+
+  private static boolean isWatchListRejection(int code) {
+    // the WatchList feature is disabled, or the parameters are otherwise unsupported
+    return code == HttpURLConnection.HTTP_BAD_REQUEST || code == HttpURLConnection.HTTP_FORBIDDEN
+        || code == HTTP_UNPROCESSABLE_ENTITY || code == HttpURLConnection.HTTP_NOT_IMPLEMENTED;
+  }
+
+  private void watchStarted(Watch w) {
+    if (w != null) {
+      if (!isStopped()) {
+        if (log.isDebugEnabled()) {
+          log.debug("Watch started for {}", Reflector.this);
+        }
+        watching = true;
+      } else {
+        stopWatch(w);
+      }
+    }
   }
 
   private void onException(String operation, Throwable t) {
     if (handler.retryAfterException(startFuture.isDone() && !startFuture.isCompletedExceptionally(), t)) {
       log.warn("{} failed for {}, will retry", operation, Reflector.this, t);
+      metrics.informerRetrying(metricsResource);
       reconnect();
     } else {
       log.error("{} failed for {}, will stop", operation, Reflector.this, t);
@@ -179,22 +335,33 @@ public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T
         retryIntervalCalculator.nextReconnectInterval(), TimeUnit.MILLISECONDS);
   }
 
-  private CompletableFuture<L> processList(Set<String> nextKeys, String continueVal) {
-    CompletableFuture<L> futureResult = listerWatcher
-        .submitList(
-            new ListOptionsBuilder()
-                // if caching is allowed, start with 0 - meaning any cached version is fine for the initial listing
-                .withResourceVersion(isCachedListing(continueVal) ? "0" : null)
-                .withLimit(listerWatcher.getLimit()).withContinue(continueVal)
-                .build());
+  private CompletableFuture<ListMeta> processList(Set<String> nextKeys, String continueVal) {
+    ListOptions listOptions = new ListOptionsBuilder()
+        // if caching is allowed, start with 0 - meaning any cached version is fine for the initial listing
+        .withResourceVersion(isCachedListing(continueVal) ? "0" : null)
+        .withLimit(listerWatcher.getLimit()).withContinue(continueVal)
+        .build();
+
+    CompletableFuture<ListMeta> futureResult;
+    if (listerWatcher.isStreamingList()) {
+      // each item is added to the store as it is read, rather than holding the whole page
+      futureResult = listerWatcher.submitList(listOptions, i -> {
+        nextKeys.add(store.getKey(i));
+        store.update(i);
+      });
+    } else {
+      futureResult = listerWatcher.submitList(listOptions).thenApply(result -> {
+        result.getItems().forEach(i -> {
+          String key = store.getKey(i);
+          nextKeys.add(key);
+        });
+        store.update(result.getItems());
+        return result.getMetadata();
+      });
+    }
 
     return futureResult.thenCompose(result -> {
-      result.getItems().forEach(i -> {
-        String key = store.getKey(i);
-        nextKeys.add(key);
-      });
-      store.update(result.getItems());
-      String nextContinueVal = result.getMetadata().getContinue();
+      String nextContinueVal = result.getContinue();
       if (Utils.isNotNullOrEmpty(nextContinueVal)) {
         return processList(nextKeys, nextContinueVal);
       }
@@ -213,20 +380,25 @@ public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T
     watchStopped(); // proactively report as stopped
   }
 
-  private synchronized CompletableFuture<? extends Watch> startWatcher(final String latestResourceVersion) {
+  private synchronized CompletableFuture<? extends Watch> startWatcher(final String latestResourceVersion,
+      boolean sendInitialEvents) {
     if (isStopped()) {
       return CompletableFuture.completedFuture(null);
     }
     log.debug("Starting watcher for {} at v{}", this, latestResourceVersion);
+    ListOptionsBuilder listOptionsBuilder = new ListOptionsBuilder().withResourceVersion(latestResourceVersion)
+        // this would match the behavior of the go client, but requires changing a lot of mock expectations
+        // so instead we'll terminate below and set a fail-safe here
+        // .withTimeoutSeconds((long) ((Math.random() + 1) * minTimeout))
+        .withTimeoutSeconds(minTimeout * 2);
+    if (sendInitialEvents) {
+      // the end of the initial events is signaled by a bookmark
+      listOptionsBuilder.withSendInitialEvents(true)
+          .withResourceVersionMatch("NotOlderThan")
+          .withAllowWatchBookmarks(true);
+    }
     // there's no need to stop the old watch, that will happen automatically when this call completes
-    CompletableFuture<AbstractWatchManager<T>> future = listerWatcher.submitWatch(
-        new ListOptionsBuilder().withResourceVersion(latestResourceVersion)
-            // this would match the behavior of the go client, but requires changing a lot of mock expectations
-            // so instead we'll terminate below and set a fail-safe here
-            // .withTimeoutSeconds((long) ((Math.random() + 1) * minTimeout))
-            .withTimeoutSeconds(minTimeout * 2)
-            .build(),
-        watcher);
+    CompletableFuture<AbstractWatchManager<T>> future = listerWatcher.submitWatch(listOptionsBuilder.build(), watcher);
 
     // the alternative to this is to localize the logic in the AbstractWatchManager, however since
     // we only need it for informers, it seems fine here
@@ -245,6 +417,14 @@ public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T
     this.minTimeout = minTimeout;
   }
 
+  /**
+   * @param initialEventsTimeout the time in milliseconds without receiving any initial event of a watch list,
+   *        after which the server is assumed to not support it
+   */
+  public void setInitialEventsTimeout(long initialEventsTimeout) {
+    this.initialEventsTimeout = initialEventsTimeout;
+  }
+
   private synchronized void watchStopped() {
     watching = false;
   }
@@ -263,6 +443,43 @@ public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T
 
   class ReflectorWatcher implements Watcher<T> {
 
+    private volatile Set<String> initialKeys;
+    private volatile CompletableFuture<Void> initialEventsEnd;
+    private volatile long initialEventsReceived;
+    private final AtomicInteger ignoredCloses = new AtomicInteger();
+
+    /**
+     * Collect the keys of the initial events into the set, rather than
+     * expecting a prior list, and complete the future once they end.
+     */
+    synchronized void expectInitialEvents(Set<String> keys, CompletableFuture<Void> end) {
+      this.initialEventsEnd = end;
+      this.initialKeys = keys;
+    }
+
+    boolean isExpectingInitialEvents(CompletableFuture<Void> end) {
+      return end != null && initialEventsEnd == end;
+    }
+
+    /**
+     * @return true if the initial events ending with the future were still expected
+     */
+    synchronized boolean stopExpectingInitialEvents(CompletableFuture<Void> end) {
+      if (!isExpectingInitialEvents(end)) {
+        return false;
+      }
+      expectInitialEvents(null, null);
+      return true;
+    }
+
+    long getInitialEventsReceived() {
+      return initialEventsReceived;
+    }
+
+    void ignoreNextClose() {
+      ignoredCloses.incrementAndGet();
+    }
+
     @Override
     public void eventReceived(Action action, T resource) {
       // always process what we receive as the watch manager will have already
@@ -278,6 +495,10 @@ public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T
             resource.getKind(),
             resource.getMetadata().getResourceVersion(), Reflector.this);
       }
+      Set<String> keys = initialKeys;
+      if (keys != null) {
+        initialEventsReceived++;
+      }
       switch (action) {
         case ERROR:
           throw new KubernetesClientException("ERROR event");
@@ -290,10 +511,42 @@ public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T
         case DELETED:
           store.delete(resource);
           break;
+        case BOOKMARK:
+          if (keys != null) {
+            if (AbstractWatchManager.isInitialEventsEnd(resource)) {
+              initialEventsEnded(keys, resource.getMetadata().getResourceVersion());
+            } else {
+              // other bookmarks are only sent after the initial events, so sendInitialEvents was ignored
+              watchListIgnored(initialEventsEnd);
+            }
+            return;
+          }
+          break;
+      }
+      if (keys != null) {
+        // the resourceVersion is only known to be synced once the initial events end
+        if (action == Action.DELETED) {
+          keys.remove(store.getKey(resource));
+        } else {
+          keys.add(store.getKey(resource));
+        }
+        return;
       }
       lastSyncResourceVersion = resource.getMetadata().getResourceVersion();
     }
 
+    private void initialEventsEnded(Set<String> keys, String resourceVersion) {
+      log.debug("Initial events ({}) for {} ended at v{}", keys.size(), Reflector.this, resourceVersion);
+      CompletableFuture<Void> end = initialEventsEnd;
+      if (!stopExpectingInitialEvents(end)) {
+        return;
+      }
+      store.retainAll(keys, executor -> {
+        lastSyncResourceVersion = resourceVersion;
+        end.complete(null);
+      });
+    }
+
     @Override
     public void onClose(WatcherException exception) {
       // this close was triggered by an exception,
@@ -312,6 +565,10 @@ public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T
 
     @Override
     public void onClose() {
+      if (ignoredCloses.getAndUpdate(i -> Math.max(0, i - 1)) > 0) {
+        log.debug("Ignored watch closed for {}", Reflector.this);
+        return;
+      }
       watchStopped();
       log.debug("Watch gracefully closed for {}", Reflector.this);
     }
@@ -343,4 +600,14 @@ public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T
     this.cachedListing = false;
   }
 
+  /**
+   * Start by watching from the resourceVersion of the state already in the store, rather than listing.
+   * <br>
+   * A watch that fails as the resourceVersion is too old will relist.
+   */
+  public void resumeFrom(String resourceVersion) {
+    usingInitialState();
+    this.resumeResourceVersion = resourceVersion;
+  }
+
 }
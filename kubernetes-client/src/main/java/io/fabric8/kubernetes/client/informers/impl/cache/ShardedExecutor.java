@@ -0,0 +1,216 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers.impl.cache;
+
+import io.fabric8.kubernetes.client.informers.ShardedDispatch;
+import io.fabric8.kubernetes.client.informers.ShardedDispatch.LaneStatistics;
+import io.fabric8.kubernetes.client.utils.internal.SerialExecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Executes tasks on a fixed number of {@link SerialExecutor} lanes, selected by key, so that tasks with the
+ * same key execute in order while tasks with different keys may execute concurrently.
+ * <br>
+ * Each lane is bounded - submitting a blocking task to a full lane waits until the lane has capacity.
+ */
+final class ShardedExecutor {
+
+  private static final long AWAIT_MILLIS = 100;
+
+  private final Lane[] lanes;
+  private final int capacity;
+  private final ExecutorService ownedExecutor;
+  private final ThreadLocal<Lane> currentLane = new ThreadLocal<>();
+
+  ShardedExecutor(ShardedDispatch dispatch, Executor sharedExecutor) {
+    this.capacity = dispatch.getLaneCapacity();
+    Executor executor = sharedExecutor;
+    if (dispatch.getThreads() == ShardedDispatch.Threads.VIRTUAL) {
+      ownedExecutor = newVirtualThreadPerTaskExecutor();
+      executor = ownedExecutor;
+    } else {
+      ownedExecutor = null;
+    }
+    this.lanes = new Lane[dispatch.getLanes()];
+    for (int i = 0; i < lanes.length; i++) {
+      lanes[i] = new Lane(i, executor);
+    }
+  }
+
+  static ExecutorService newVirtualThreadPerTaskExecutor() {
+    try {
+      return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    } catch (NoSuchMethodException e) {
+      throw new IllegalStateException("Virtual threads require Java 21+");
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException("Could not create a virtual thread executor", e);
+    }
+  }
+
+  int getLaneCount() {
+    return lanes.length;
+  }
+
+  /**
+   * Execute the task on the lane for the key.
+   *
+   * @param block if the caller should wait for the lane to have capacity. A caller running on
+   *        a lane never waits, as that could deadlock.
+   * @throws RejectedExecutionException if shutdown
+   */
+  void execute(String key, Runnable task, boolean block) {
+    int h = key == null ? 0 : key.hashCode();
+    Lane lane = lanes[Math.floorMod(h ^ (h >>> 16), lanes.length)];
+    if (block && currentLane.get() == null) {
+      lane.awaitCapacity();
+    }
+    lane.execute(task);
+  }
+
+  /**
+   * Execute the task once all previously submitted tasks on all lanes have executed.
+   *
+   * @throws RejectedExecutionException if shutdown
+   */
+  void executeAfterAll(Runnable task) {
+    if (lanes.length == 1) {
+      lanes[0].execute(task);
+      return;
+    }
+    AtomicInteger remaining = new AtomicInteger(lanes.length);
+    for (Lane lane : lanes) {
+      lane.execute(() -> {
+        if (remaining.decrementAndGet() == 0) {
+          task.run();
+        }
+      });
+    }
+  }
+
+  void shutdownNow() {
+    for (Lane lane : lanes) {
+      lane.shutdownNow();
+    }
+    if (ownedExecutor != null) {
+      ownedExecutor.shutdownNow();
+    }
+  }
+
+  List<LaneStatistics> getStatistics() {
+    List<LaneStatistics> result = new ArrayList<>(lanes.length);
+    for (Lane lane : lanes) {
+      result.add(lane.getStatistics());
+    }
+    return result;
+  }
+
+  private final class Lane {
+
+    private final int index;
+    private final SerialExecutor executor;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger waiters = new AtomicInteger();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notFull = lock.newCondition();
+    private final AtomicInteger maxQueued = new AtomicInteger();
+    private final AtomicLong dispatched = new AtomicLong();
+    private final AtomicLong blocked = new AtomicLong();
+    private final AtomicLong blockedNanos = new AtomicLong();
+
+    Lane(int index, Executor executor) {
+      this.index = index;
+      this.executor = new SerialExecutor(executor);
+    }
+
+    void execute(Runnable task) {
+      maxQueued.accumulateAndGet(queued.incrementAndGet(), Math::max);
+      dispatched.incrementAndGet();
+      try {
+        executor.execute(() -> {
+          currentLane.set(this);
+          try {
+            task.run();
+          } finally {
+            currentLane.remove();
+            released();
+          }
+        });
+      } catch (RejectedExecutionException e) {
+        released();
+        throw e;
+      }
+    }
+
+    private void released() {
+      // waiters is incremented before the queue size is checked, so either the waiter sees this decrement or it is signaled
+      if (queued.decrementAndGet() < capacity && waiters.get() > 0) {
+        lock.lock();
+        try {
+          notFull.signalAll();
+        } finally {
+          lock.unlock();
+        }
+      }
+    }
+
+    void awaitCapacity() {
+      if (queued.get() < capacity) {
+        return;
+      }
+      long start = System.nanoTime();
+      blocked.incrementAndGet();
+      lock.lock();
+      waiters.incrementAndGet();
+      try {
+        while (queued.get() >= capacity && !executor.isShutdown()) {
+          notFull.await(AWAIT_MILLIS, TimeUnit.MILLISECONDS);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      } finally {
+        waiters.decrementAndGet();
+        lock.unlock();
+        blockedNanos.addAndGet(System.nanoTime() - start);
+      }
+    }
+
+    void shutdownNow() {
+      executor.shutdownNow();
+      lock.lock();
+      try {
+        notFull.signalAll();
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    LaneStatistics getStatistics() {
+      return new LaneStatistics(index, queued.get(), maxQueued.get(), dispatched.get(), blocked.get(), blockedNanos.get());
+    }
+  }
+
+}
@@ -16,6 +16,9 @@
 package io.fabric8.kubernetes.client.informers.impl.cache;
 
 import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.ShardedDispatch;
+import io.fabric8.kubernetes.client.informers.ShardedDispatch.LaneStatistics;
+import io.fabric8.kubernetes.client.metrics.ClientMetrics;
 import io.fabric8.kubernetes.client.utils.internal.SerialExecutor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -23,6 +26,7 @@ import org.slf4j.LoggerFactory;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.Executor;
@@ -30,6 +34,7 @@ import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 /**
@@ -41,6 +46,8 @@ import java.util.function.Supplier;
  *
  * <br>
  * Modified to simplify threading
+ * <br>
+ * Optionally notifications are dispatched on multiple serial lanes by object key, see {@link ShardedDispatch}
  */
 public class SharedProcessor<T> {
   private static final Logger log = LoggerFactory.getLogger(SharedProcessor.class);
@@ -50,19 +57,53 @@ public class SharedProcessor<T> {
   private final List<ProcessorListener<T>> listeners = new ArrayList<>();
   private final List<ProcessorListener<T>> syncingListeners = new ArrayList<>();
   private final SerialExecutor executor;
+  private final Executor sharedExecutor;
   private final String informerDescription;
+  private final ClientMetrics metrics;
+  private final String metricsResource;
+  private ShardedExecutor shardedExecutor;
+  private Function<T, String> keyFunction;
 
   public SharedProcessor() {
     this(Runnable::run, "informer");
   }
 
   public SharedProcessor(Executor executor, String informerDescription) {
+    this(executor, informerDescription, ClientMetrics.NOOP, null);
+  }
+
+  /**
+   * @param metrics the metrics receiving the dispatch delays
+   * @param metricsResource the resource the dispatch delays are recorded for
+   */
+  public SharedProcessor(Executor executor, String informerDescription, ClientMetrics metrics, String metricsResource) {
     // serialexecutors are by default unbounded, we expect this behavior here
     // because resync may flood the executor with events for large caches
     // if we ever need to limit the queue size, we have to revisit the
     // resync locking behavior
     this.executor = new SerialExecutor(executor);
+    this.sharedExecutor = executor;
     this.informerDescription = informerDescription;
+    this.metrics = metrics;
+    this.metricsResource = metricsResource;
+  }
+
+  /**
+   * Dispatch notifications on multiple lanes, selected by the key of the notification object.
+   * <br>
+   * Must be called before any notifications are distributed.
+   */
+  public void shardedDispatch(ShardedDispatch dispatch, Function<T, String> keyFunction) {
+    this.shardedExecutor = new ShardedExecutor(dispatch, sharedExecutor);
+    this.keyFunction = keyFunction;
+  }
+
+  /**
+   * @return the statistics of each lane, or an empty list if not using sharded dispatch
+   */
+  public List<LaneStatistics> getLaneStatistics() {
+    ShardedExecutor sharded = shardedExecutor;
+    return sharded == null ? Collections.emptyList() : sharded.getStatistics();
   }
 
   /**
@@ -89,13 +130,39 @@ public class SharedProcessor<T> {
    * @param isSync whether in sync or not
    */
   public void distribute(ProcessorListener.Notification<T> obj, boolean isSync) {
-    distribute(l -> l.add(obj), isSync);
+    ShardedExecutor sharded = shardedExecutor;
+    if (sharded == null) {
+      distribute(l -> l.add(obj), isSync);
+      return;
+    }
+    T item = obj.getNewObject() != null ? obj.getNewObject() : obj.getOldObject();
+    Runnable task = toTask(l -> l.add(obj), isSync);
+    try {
+      // resyncs hold the cache lock, so they must not wait for capacity
+      sharded.execute(keyFunction.apply(item), task, !isSync);
+    } catch (RejectedExecutionException e) {
+      // do nothing
+    }
   }
 
   /**
    * Distribute the operation to the respective listeners
    */
   public void distribute(Consumer<ProcessorListener<T>> operation, boolean isSync) {
+    Runnable task = toTask(operation, isSync);
+    try {
+      ShardedExecutor sharded = shardedExecutor;
+      if (sharded != null) {
+        sharded.executeAfterAll(task);
+      } else {
+        executor.execute(task);
+      }
+    } catch (RejectedExecutionException e) {
+      // do nothing
+    }
+  }
+
+  private Runnable toTask(Consumer<ProcessorListener<T>> operation, boolean isSync) {
     // obtain the list to call outside before submitting
     lock.readLock().lock();
     List<ProcessorListener<T>> toCall;
@@ -108,20 +175,21 @@ public class SharedProcessor<T> {
     } finally {
       lock.readLock().unlock();
     }
-    try {
-      executor.execute(() -> {
-        for (ProcessorListener<T> listener : toCall) {
-          try {
-            operation.accept(listener);
-          } catch (Exception ex) {
-            log.error("{} failed invoking {} event handler: {}", informerDescription, listener.getHandler(), ex.getMessage(),
-                ex);
-          }
+    final boolean measured = metrics.isEnabled();
+    final long queued = measured ? System.nanoTime() : 0;
+    return () -> {
+      if (measured) {
+        metrics.informerEventDispatched(metricsResource, System.nanoTime() - queued);
+      }
+      for (ProcessorListener<T> listener : toCall) {
+        try {
+          operation.accept(listener);
+        } catch (Exception ex) {
+          log.error("{} failed invoking {} event handler: {}", informerDescription, listener.getHandler(), ex.getMessage(),
+              ex);
         }
-      });
-    } catch (RejectedExecutionException e) {
-      // do nothing
-    }
+      }
+    };
   }
 
   public boolean shouldResync() {
@@ -146,6 +214,9 @@ public class SharedProcessor<T> {
 
   public void stop() {
     executor.shutdownNow();
+    if (shardedExecutor != null) {
+      shardedExecutor.shutdownNow();
+    }
     lock.writeLock().lock();
     try {
       syncingListeners.clear();
@@ -204,6 +275,11 @@ public class SharedProcessor<T> {
 
   public void executeIfPossible(Runnable runnable) {
     try {
+      ShardedExecutor sharded = shardedExecutor;
+      if (sharded != null) {
+        sharded.executeAfterAll(runnable);
+        return;
+      }
       this.executor.execute(runnable);
     } catch (RejectedExecutionException e) {
       // already shutdown
@@ -113,6 +113,14 @@ class BaseOperationTest {
     assertTrue(Utils.isNullOrEmpty(operation.getFieldQueryParam()));
   }
 
+  @Test
+  void testMetricsResourceExcludesNamespace() {
+    PodOperationsImpl operation = new PodOperationsImpl(new PodOperationContext(),
+        new OperationContext().withNamespace("ns"));
+
+    assertThat(operation.getMetricsResource(), is("v1/Pod"));
+  }
+
   @Test
   void testDefaultGracePeriod() {
     final BaseOperation operation = new BaseOperation(new OperationContext());
@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl.internal;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LastSeenCacheTest {
+
+  private static final long MAX_STALENESS = Long.MAX_VALUE;
+
+  @Test
+  void putResourceVersionOnly() {
+    LastSeenCache cache = new LastSeenCache();
+
+    cache.put("url", pod("5"), false);
+
+    assertThat(cache.getResourceVersion("url")).isEqualTo("5");
+    assertThat(cache.get("url", MAX_STALENESS)).isNull();
+  }
+
+  @Test
+  void putHoldsItem() {
+    LastSeenCache cache = new LastSeenCache();
+    Pod pod = pod("5");
+
+    cache.put("url", pod, true);
+
+    assertThat(cache.get("url", MAX_STALENESS)).isSameAs(pod);
+  }
+
+  @Test
+  void putKeepsNewerVersion() {
+    LastSeenCache cache = new LastSeenCache();
+    Pod pod = pod("7");
+
+    cache.put("url", pod, true);
+    cache.put("url", pod("5"), false);
+
+    assertThat(cache.getResourceVersion("url")).isEqualTo("7");
+    assertThat(cache.get("url", MAX_STALENESS)).isSameAs(pod);
+  }
+
+  @Test
+  void putEvictsEldest() {
+    LastSeenCache cache = new LastSeenCache(1);
+
+    cache.put("a", pod("1"), false);
+    cache.put("b", pod("2"), false);
+
+    assertThat(cache.size()).isEqualTo(1);
+    assertThat(cache.getResourceVersion("a")).isNull();
+  }
+
+  private static Pod pod(String resourceVersion) {
+    return new PodBuilder().withNewMetadata().withName("pod1").withResourceVersion(resourceVersion).endMetadata().build();
+  }
+
+}
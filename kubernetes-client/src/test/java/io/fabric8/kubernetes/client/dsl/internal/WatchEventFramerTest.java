@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl.internal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WatchEventFramerTest {
+
+  private final List<String> events = new ArrayList<>();
+  private final WatchEventFramer framer = new WatchEventFramer(
+      (bytes, offset, length) -> events.add(new String(bytes, offset, length, StandardCharsets.UTF_8)));
+
+  @ParameterizedTest
+  @ValueSource(ints = { 1, 2, 5, 100 })
+  void shouldFrameAcrossChunks(int chunkSize) {
+    byte[] bytes = "{\"a\":\"\u00e9\"}\n\n{\"b\":2}\n{\"c\"".getBytes(StandardCharsets.UTF_8);
+    for (int i = 0; i < bytes.length; i += chunkSize) {
+      framer.feed(ByteBuffer.wrap(bytes, i, Math.min(chunkSize, bytes.length - i)));
+    }
+
+    assertThat(events).containsExactly("{\"a\":\"\u00e9\"}", "{\"b\":2}");
+
+    framer.feed(ByteBuffer.wrap(":3}\n".getBytes(StandardCharsets.UTF_8)));
+
+    assertThat(events).containsExactly("{\"a\":\"\u00e9\"}", "{\"b\":2}", "{\"c\":3}");
+  }
+
+  @Test
+  void shouldFrameDirectBuffers() {
+    byte[] bytes = "{\"a\":1}\n{\"b\"".getBytes(StandardCharsets.UTF_8);
+    ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+    direct.put(bytes).flip();
+
+    framer.feed(direct);
+    framer.feed(ByteBuffer.wrap(":2}\n".getBytes(StandardCharsets.UTF_8)));
+
+    assertThat(direct.hasRemaining()).isFalse();
+    assertThat(events).containsExactly("{\"a\":1}", "{\"b\":2}");
+  }
+
+  @Test
+  void shouldPassRangeOfHeapBuffer() {
+    byte[] bytes = "xx{\"a\":1}\n".getBytes(StandardCharsets.UTF_8);
+    ByteBuffer buffer = ByteBuffer.wrap(bytes, 2, bytes.length - 2).slice();
+    List<byte[]> arrays = new ArrayList<>();
+
+    new WatchEventFramer((b, offset, length) -> arrays.add(b)).feed(buffer);
+
+    assertThat(arrays).hasSize(1);
+    assertThat(arrays.get(0)).isSameAs(bytes);
+  }
+
+}
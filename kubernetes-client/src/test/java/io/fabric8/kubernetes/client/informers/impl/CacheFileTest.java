@@ -0,0 +1,68 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers.impl;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.client.utils.KubernetesSerialization;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CacheFileTest {
+
+  private final KubernetesSerialization serialization = new KubernetesSerialization();
+
+  @Test
+  void testRoundTrip(@TempDir Path dir) throws IOException {
+    Path path = dir.resolve("pods.jsonl");
+    CacheFile<Pod> file = new CacheFile<>(path, Pod.class, "/api/v1/pods", serialization);
+    Pod pod1 = new PodBuilder().withNewMetadata().withName("pod1").withResourceVersion("1").endMetadata().build();
+    Pod pod2 = new PodBuilder().withNewMetadata().withName("pod2").withNamespace("ns").addToLabels("app", "x\ny")
+        .withResourceVersion("2").endMetadata().build();
+
+    assertThat(file.read(p -> {
+    })).isNull();
+
+    file.write("3", Arrays.asList(pod1, pod2));
+
+    List<Pod> read = new ArrayList<>();
+    assertThat(file.read(read::add)).isEqualTo("3");
+    assertThat(read).containsExactly(pod1, pod2);
+    assertThat(dir.toFile().list()).containsExactly("pods.jsonl");
+  }
+
+  @Test
+  void testMismatchIgnored(@TempDir Path dir) throws IOException {
+    Path path = dir.resolve("state.jsonl");
+    new CacheFile<>(path, Pod.class, "/api/v1/pods", serialization).write("3",
+        Arrays.asList(new PodBuilder().withNewMetadata().withName("pod1").endMetadata().build()));
+
+    assertThat(new CacheFile<>(path, Pod.class, "/api/v1/namespaces/ns/pods", serialization).read(p -> {
+    })).isNull();
+    assertThat(new CacheFile<>(path, ConfigMap.class, "/api/v1/pods", serialization).read(p -> {
+    })).isNull();
+  }
+
+}
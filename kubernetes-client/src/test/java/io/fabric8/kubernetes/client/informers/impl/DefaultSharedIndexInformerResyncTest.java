@@ -17,8 +17,11 @@ package io.fabric8.kubernetes.client.informers.impl;
 
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodList;
+import io.fabric8.kubernetes.api.model.PodBuilder;
 import io.fabric8.kubernetes.api.model.PodListBuilder;
+import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.dsl.internal.AbstractWatchManager;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -28,6 +31,7 @@ import org.mockito.Mockito;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -169,6 +173,44 @@ class DefaultSharedIndexInformerResyncTest {
     assertThat(countDown.getCount()).isLessThanOrEqualTo(1);
   }
 
+  @Test
+  @DisplayName("Controller with incremental resync should resync every item over the period")
+  void testIncrementalResync() throws InterruptedException {
+    // Given
+    int items = 10;
+    CountDownLatch resyncs = new CountDownLatch(items);
+    DefaultSharedIndexInformer<Pod, PodList> controller = createDefaultSharedIndexInformer(1000L);
+    controller.initialState(IntStream.range(0, items)
+        .mapToObj(i -> new PodBuilder().withNewMetadata().withName("pod" + i).withResourceVersion("1").endMetadata()
+            .build()));
+    controller.incrementalResync(4);
+    controller.addEventHandler(new ResourceEventHandler<Pod>() {
+      @Override
+      public void onAdd(Pod obj) {
+      }
+
+      @Override
+      public void onUpdate(Pod oldObj, Pod newObj) {
+      }
+
+      @Override
+      public void onResync(Pod obj) {
+        resyncs.countDown();
+      }
+
+      @Override
+      public void onDelete(Pod obj, boolean deletedFinalStateUnknown) {
+      }
+    });
+
+    // When
+    controller.run();
+
+    // Then
+    assertThat(resyncs.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThrows(KubernetesClientException.class, () -> controller.incrementalResync(2));
+  }
+
   @Test
   @DisplayName("Controller initialized with resync period to 0 should run but never resync")
   void testControllerNeverRunsReyncFunctionWhenPeriodIsZero() throws InterruptedException {
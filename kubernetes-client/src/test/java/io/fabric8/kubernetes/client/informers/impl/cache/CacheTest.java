@@ -18,6 +18,7 @@ package io.fabric8.kubernetes.client.informers.impl.cache;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodBuilder;
 import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.fabric8.kubernetes.client.informers.cache.CacheSnapshot;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
@@ -29,7 +30,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class CacheTest {
 
@@ -160,6 +163,83 @@ class CacheTest {
     assertEquals(1, clusterNameIndexedPods.size());
   }
 
+  @Test
+  void testSnapshotIsConsistentAndImmutable() {
+    CacheImpl<Pod> podCache = new CacheImpl<>();
+    Pod pod1 = new PodBuilder().withNewMetadata().withNamespace("a").withName("pod1").endMetadata().build();
+    podCache.put(pod1);
+    podCache.enableSnapshots();
+    podCache.addIndexers(Collections.singletonMap("name", pod -> Collections.singletonList(pod.getMetadata().getName())));
+
+    CacheSnapshot<Pod> before = podCache.snapshot();
+
+    Pod pod2 = new PodBuilder().withNewMetadata().withNamespace("b").withName("pod1").endMetadata().build();
+    podCache.put(pod2);
+    podCache.remove(pod1);
+
+    assertThat(before.list()).containsExactly(pod1);
+    assertThat(before.byIndex(Cache.NAMESPACE_INDEX, "a")).containsExactly(pod1);
+    assertThat(before.indexKeys("name", "pod1")).containsExactly("a/pod1");
+    assertThat(before.byIndex(Cache.NAMESPACE_INDEX, "b")).isEmpty();
+
+    CacheSnapshot<Pod> after = podCache.snapshot();
+    assertThat(after.listKeys()).containsExactly("b/pod1");
+    assertThat(after.byIndex(Cache.NAMESPACE_INDEX, "a")).isEmpty();
+    assertThat(after.byIndex("name", "pod1")).containsExactly(pod2);
+    assertThat(podCache.byIndex(Cache.NAMESPACE_INDEX, "b")).containsExactly(pod2);
+    assertThat(podCache.getByKey("b/pod1")).isSameAs(pod2);
+    assertThrows(UnsupportedOperationException.class, () -> after.list().add(pod1));
+  }
+
+  @Test
+  void testSnapshotRemoveIndexer() {
+    CacheImpl<Pod> podCache = new CacheImpl<Pod>().enableSnapshots();
+    podCache.removeIndexer(Cache.NAMESPACE_INDEX);
+
+    CacheSnapshot<Pod> snapshot = podCache.snapshot();
+    assertThrows(IllegalArgumentException.class, () -> snapshot.byIndex(Cache.NAMESPACE_INDEX, "a"));
+  }
+
+  @Test
+  void testByIndices() {
+    CacheImpl<Pod> podCache = new CacheImpl<>();
+    podCache.addIndexers(Collections.singletonMap("app",
+        pod -> Collections.singletonList(pod.getMetadata().getLabels().get("app"))));
+    Pod pod1 = new PodBuilder().withNewMetadata().withNamespace("a").withName("pod1").addToLabels("app", "x").endMetadata()
+        .build();
+    Pod pod2 = new PodBuilder().withNewMetadata().withNamespace("a").withName("pod2").addToLabels("app", "y").endMetadata()
+        .build();
+    Pod pod3 = new PodBuilder().withNewMetadata().withNamespace("b").withName("pod3").addToLabels("app", "x").endMetadata()
+        .build();
+    podCache.put(pod1);
+    podCache.put(pod2);
+    podCache.put(pod3);
+
+    Map<String, String> query = new HashMap<>();
+    query.put(Cache.NAMESPACE_INDEX, "a");
+    query.put("app", "x");
+
+    assertThat(podCache.byIndices(query)).containsExactly(pod1);
+    assertThat(podCache.indexKeys("app", "x")).containsExactlyInAnyOrder("a/pod1", "b/pod3");
+
+    podCache.remove(pod1);
+    assertThat(podCache.byIndices(query)).isEmpty();
+    assertThat(podCache.byIndex("app", "x")).containsExactly(pod3);
+
+    // reuses the released ordinal
+    podCache.put(pod1);
+    assertThat(podCache.byIndices(query)).containsExactly(pod1);
+
+    podCache.enableSnapshots();
+    assertThat(podCache.byIndices(query)).containsExactly(pod1);
+    assertThat(podCache.index("app", pod3)).containsExactlyInAnyOrder(pod1, pod3);
+  }
+
+  @Test
+  void testSnapshotNotEnabled() {
+    assertThrows(IllegalStateException.class, () -> cache.snapshot());
+  }
+
   private static List<String> mockIndexFunction(Object obj) {
     if (obj == null) {
       return Collections.singletonList("null");
@@ -0,0 +1,59 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers.impl.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrdinalSetTest {
+
+  @Test
+  void matchesTreeSetAcrossRepresentations() {
+    Random random = new Random(1);
+    TreeSet<Integer> expected = new TreeSet<>();
+    OrdinalSet actual = new OrdinalSet();
+    for (int i = 0; i < 50000; i++) {
+      // alternate between dense and sparse ranges to switch between the bitmap and sorted array
+      int ordinal = random.nextInt((i / 5000) % 2 == 0 ? 200 : 100000);
+      if (random.nextInt(5) < 2) {
+        expected.remove(ordinal);
+        assertThat(actual.remove(ordinal)).isEqualTo(expected.isEmpty());
+      } else {
+        assertThat(actual.add(ordinal)).isEqualTo(expected.add(ordinal));
+      }
+    }
+    assertThat(actual.size()).isEqualTo(expected.size());
+    assertThat(actual.toArray()).containsExactly(expected.stream().mapToInt(Integer::intValue).toArray());
+  }
+
+  @Test
+  void retain() {
+    OrdinalSet set = new OrdinalSet();
+    for (int i = 0; i < 100; i += 2) {
+      set.add(i);
+    }
+    int[] candidates = { 1, 2, 3, 4, 98, 99, 1000 };
+
+    int retained = set.retain(candidates, candidates.length);
+
+    assertThat(retained).isEqualTo(3);
+    assertThat(candidates).startsWith(2, 4, 98);
+  }
+}
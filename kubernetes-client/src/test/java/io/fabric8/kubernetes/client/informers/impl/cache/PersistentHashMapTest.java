@@ -0,0 +1,106 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers.impl.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PersistentHashMapTest {
+
+  // forces hash collisions
+  private static final class Key {
+    private final int value;
+
+    Key(int value) {
+      this.value = value;
+    }
+
+    @Override
+    public int hashCode() {
+      return value % 7;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof Key && ((Key) obj).value == value;
+    }
+  }
+
+  @Test
+  void putAndRemoveLeavePreviousVersionsUnchanged() {
+    PersistentHashMap<String, String> empty = PersistentHashMap.empty();
+    PersistentHashMap<String, String> one = empty.put("a", "1");
+    PersistentHashMap<String, String> two = one.put("b", "2");
+    PersistentHashMap<String, String> removed = two.remove("a");
+
+    assertThat(empty.size()).isZero();
+    assertThat(one.size()).isEqualTo(1);
+    assertThat(one.get("b")).isNull();
+    assertThat(two.keySet()).containsExactlyInAnyOrder("a", "b");
+    assertThat(removed.values()).containsExactly("2");
+    assertThat(two.get("a")).isEqualTo("1");
+  }
+
+  @Test
+  void unchangedOperationsReturnSameInstance() {
+    PersistentHashMap<String, String> map = PersistentHashMap.<String, String> empty().put("a", "1");
+
+    assertThat(map.remove("b")).isSameAs(map);
+    assertThat(map.put("a", "1")).isSameAs(map);
+  }
+
+  @Test
+  void matchesHashMapUnderRandomOperations() {
+    Random random = new Random(1);
+    Map<Key, Integer> expected = new HashMap<>();
+    PersistentHashMap<Key, Integer> actual = PersistentHashMap.empty();
+    for (int i = 0; i < 20000; i++) {
+      Key key = new Key(random.nextInt(500));
+      if (random.nextInt(3) == 0) {
+        expected.remove(key);
+        actual = actual.remove(key);
+      } else {
+        expected.put(key, i);
+        actual = actual.put(key, i);
+      }
+      assertThat(actual.get(key)).isEqualTo(expected.get(key));
+    }
+    assertThat(actual.size()).isEqualTo(expected.size());
+    assertThat(actual.keySet()).containsExactlyInAnyOrderElementsOf(expected.keySet());
+    assertThat(actual.values()).containsExactlyInAnyOrderElementsOf(expected.values());
+  }
+
+  @Test
+  void matchesHashMapWithWellDistributedKeys() {
+    Map<String, Integer> expected = new HashMap<>();
+    PersistentHashMap<String, Integer> actual = PersistentHashMap.empty();
+    for (int i = 0; i < 100000; i++) {
+      expected.put("ns/pod-" + i, i);
+      actual = actual.put("ns/pod-" + i, i);
+    }
+    for (int i = 0; i < 100000; i += 3) {
+      expected.remove("ns/pod-" + i);
+      actual = actual.remove("ns/pod-" + i);
+    }
+    assertThat(actual.size()).isEqualTo(expected.size());
+    assertThat(actual.keySet()).containsExactlyInAnyOrderElementsOf(expected.keySet());
+  }
+}
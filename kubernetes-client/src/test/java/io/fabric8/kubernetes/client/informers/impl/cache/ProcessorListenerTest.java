@@ -20,6 +20,8 @@ import io.fabric8.kubernetes.api.model.PodBuilder;
 import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -61,4 +63,38 @@ class ProcessorListenerTest {
     assertTrue(deleteNotificationReceived);
 
   }
+
+  @Test
+  void testResyncNotificationHandling() {
+    Pod pod = new PodBuilder().withNewMetadata().withName("foo").withNamespace("default").endMetadata().build();
+    AtomicInteger updates = new AtomicInteger();
+    AtomicInteger resyncs = new AtomicInteger();
+
+    ProcessorListener<Pod> listener = new ProcessorListener<>(
+        new ResourceEventHandler<Pod>() {
+          @Override
+          public void onAdd(Pod obj) {
+          }
+
+          @Override
+          public void onUpdate(Pod oldObj, Pod newObj) {
+            updates.incrementAndGet();
+          }
+
+          @Override
+          public void onResync(Pod obj) {
+            resyncs.incrementAndGet();
+          }
+
+          @Override
+          public void onDelete(Pod obj, boolean deletedFinalStateUnknown) {
+          }
+        }, 0);
+
+    listener.add(new ProcessorListener.UpdateNotification<>(new PodBuilder(pod).build(), pod));
+    listener.add(new ProcessorListener.UpdateNotification<>(pod, pod));
+
+    assertEquals(1, updates.get());
+    assertEquals(1, resyncs.get());
+  }
 }
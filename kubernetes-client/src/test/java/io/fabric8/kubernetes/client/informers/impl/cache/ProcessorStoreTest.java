@@ -118,6 +118,27 @@ class ProcessorStoreTest {
     assertTrue(syncCaptor.getAllValues().subList(4, 6).stream().allMatch(s -> !s.booleanValue()));
   }
 
+  @Test
+  void testResyncKeys() {
+    ArgumentCaptor<Notification<Pod>> notificationCaptor = ArgumentCaptor.forClass(Notification.class);
+    CacheImpl<Pod> podCache = new CacheImpl<>();
+    SharedProcessor<Pod> processor = Mockito.mock(SharedProcessor.class);
+
+    ProcessorStore<Pod> processorStore = new ProcessorStore<>(podCache, processor);
+
+    Pod pod = new PodBuilder().withNewMetadata().withName("pod1").withResourceVersion("1").endMetadata().build();
+    Pod pod2 = new PodBuilder().withNewMetadata().withName("pod2").withResourceVersion("2").endMetadata().build();
+    podCache.put(pod);
+    podCache.put(pod2);
+
+    // only the existing keys of the slice are resynced
+    processorStore.resync(Arrays.asList(Cache.metaNamespaceKeyFunc(pod2), "missing"));
+
+    Mockito.verify(processor).distribute(notificationCaptor.capture(), Mockito.eq(true));
+    assertThat(notificationCaptor.getValue().getNewObject()).isSameAs(pod2);
+    assertThat(notificationCaptor.getValue().getOldObject()).isSameAs(pod2);
+  }
+
   @Test
   void testResyncLock() throws InterruptedException {
     CacheImpl<Pod> podCache = new CacheImpl<>();
@@ -15,19 +15,25 @@
  */
 package io.fabric8.kubernetes.client.informers.impl.cache;
 
+import io.fabric8.kubernetes.api.model.ListMetaBuilder;
+import io.fabric8.kubernetes.api.model.ListOptions;
 import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
 import io.fabric8.kubernetes.api.model.PodList;
 import io.fabric8.kubernetes.api.model.PodListBuilder;
 import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.WatcherException;
 import io.fabric8.kubernetes.client.dsl.internal.AbstractWatchManager;
 import io.fabric8.kubernetes.client.informers.impl.ListerWatcher;
 import org.awaitility.Awaitility;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.mockito.exceptions.verification.TooFewActualInvocations;
 
+import java.util.Collections;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.Executor;
@@ -102,6 +108,177 @@ class ReflectorTest {
     assertTrue(reflector.getStopFuture().isDone());
   }
 
+  @Test
+  void testStreamingList() {
+    ListerWatcher<Pod, PodList> mock = Mockito.mock(ListerWatcher.class);
+    Pod pod = new PodBuilder().withNewMetadata().withName("pod1").withNamespace("ns").endMetadata().build();
+    Mockito.when(mock.isStreamingList()).thenReturn(true);
+    Mockito.when(mock.submitList(Mockito.any(), Mockito.any())).thenAnswer(invocation -> {
+      ((Consumer<Pod>) invocation.getArgument(1)).accept(pod);
+      return CompletableFuture.completedFuture(new ListMetaBuilder().withResourceVersion("1").build());
+    });
+    Mockito.when(mockStore.getKey(pod)).thenReturn("ns/pod1");
+    Mockito.when(mock.submitWatch(Mockito.any(), Mockito.any()))
+        .thenReturn(CompletableFuture.completedFuture(Mockito.mock(AbstractWatchManager.class)));
+
+    Reflector<Pod, PodList> reflector = new Reflector<>(mock, mockStore);
+
+    reflector.start().join();
+
+    Mockito.verify(mock, Mockito.never()).submitList(Mockito.any());
+    Mockito.verify(mockStore).update(pod);
+    Mockito.verify(mockStore).retainAll(Mockito.eq(Collections.singleton("ns/pod1")), Mockito.any());
+    assertEquals("1", reflector.getLastSyncResourceVersion());
+  }
+
+  @Test
+  void testWatchList() {
+    ListerWatcher<Pod, PodList> mock = Mockito.mock(ListerWatcher.class);
+    Pod pod = new PodBuilder().withNewMetadata().withName("pod1").withNamespace("ns").withResourceVersion("1")
+        .endMetadata().build();
+    Pod bookmark = new PodBuilder().withNewMetadata().withResourceVersion("2")
+        .addToAnnotations("k8s.io/initial-events-end", "true").endMetadata().build();
+    Mockito.when(mock.isWatchList()).thenReturn(true);
+    Mockito.when(mockStore.getKey(pod)).thenReturn("ns/pod1");
+    ArgumentCaptor<ListOptions> options = ArgumentCaptor.forClass(ListOptions.class);
+    Mockito.when(mock.submitWatch(options.capture(), Mockito.any())).thenAnswer(invocation -> {
+      Watcher<Pod> watcher = invocation.getArgument(1);
+      watcher.eventReceived(Watcher.Action.ADDED, pod);
+      watcher.eventReceived(Watcher.Action.BOOKMARK, bookmark);
+      return CompletableFuture.completedFuture(Mockito.mock(AbstractWatchManager.class));
+    });
+
+    Reflector<Pod, PodList> reflector = new Reflector<>(mock, mockStore);
+
+    reflector.start().join();
+
+    assertTrue(reflector.isWatching());
+    assertTrue(options.getValue().getSendInitialEvents());
+    assertEquals("NotOlderThan", options.getValue().getResourceVersionMatch());
+    Mockito.verify(mock, Mockito.never()).submitList(Mockito.any());
+    Mockito.verify(mockStore).add(pod);
+    Mockito.verify(mockStore).retainAll(Mockito.eq(Collections.singleton("ns/pod1")), Mockito.any());
+    assertEquals("2", reflector.getLastSyncResourceVersion());
+  }
+
+  @Test
+  void testWatchListFallback() {
+    ListerWatcher<Pod, PodList> mock = Mockito.mock(ListerWatcher.class);
+    PodList list = new PodListBuilder().withNewMetadata().withResourceVersion("1").endMetadata().build();
+    Mockito.when(mock.isWatchList()).thenReturn(true);
+    Mockito.when(mock.submitList(Mockito.any())).thenReturn(CompletableFuture.completedFuture(list));
+    CompletableFuture<AbstractWatchManager<Pod>> rejected = new CompletableFuture<>();
+    rejected.completeExceptionally(new KubernetesClientException("invalid", 422, null));
+    Mockito.when(mock.submitWatch(Mockito.any(), Mockito.any()))
+        .thenReturn(rejected)
+        .thenReturn(CompletableFuture.completedFuture(Mockito.mock(AbstractWatchManager.class)));
+
+    Reflector<Pod, PodList> reflector = new Reflector<>(mock, mockStore);
+
+    reflector.start().join();
+
+    assertTrue(reflector.isWatching());
+    Mockito.verify(mock).submitList(Mockito.any());
+    assertEquals("1", reflector.getLastSyncResourceVersion());
+
+    // subsequent relists don't attempt the watch list again
+    reflector.listSyncAndWatch().join();
+    Mockito.verify(mock, Mockito.times(2)).submitList(Mockito.any());
+    Mockito.verify(mock, Mockito.times(3)).submitWatch(Mockito.any(), Mockito.any());
+  }
+
+  @Test
+  void testResume() {
+    ListerWatcher<Pod, PodList> mock = Mockito.mock(ListerWatcher.class);
+    Mockito.when(mock.submitWatch(Mockito.any(), Mockito.any()))
+        .thenReturn(CompletableFuture.completedFuture(Mockito.mock(AbstractWatchManager.class)));
+
+    Reflector<Pod, PodList> reflector = new Reflector<>(mock, mockStore);
+    reflector.resumeFrom("5");
+
+    reflector.start().join();
+
+    assertTrue(reflector.isWatching());
+    assertEquals("5", reflector.getLastSyncResourceVersion());
+    Mockito.verify(mock, Mockito.never()).submitList(Mockito.any());
+    ArgumentCaptor<ListOptions> options = ArgumentCaptor.forClass(ListOptions.class);
+    Mockito.verify(mock).submitWatch(options.capture(), Mockito.any());
+    assertEquals("5", options.getValue().getResourceVersion());
+  }
+
+  @Test
+  void testResumeGone() {
+    ListerWatcher<Pod, PodList> mock = Mockito.mock(ListerWatcher.class);
+    PodList list = new PodListBuilder().withNewMetadata().withResourceVersion("10").endMetadata().build();
+    Mockito.when(mock.submitList(Mockito.any())).thenReturn(CompletableFuture.completedFuture(list));
+    CompletableFuture<AbstractWatchManager<Pod>> gone = new CompletableFuture<>();
+    gone.completeExceptionally(new KubernetesClientException("too old", 410, null));
+    Mockito.when(mock.submitWatch(Mockito.any(), Mockito.any()))
+        .thenReturn(gone)
+        .thenReturn(CompletableFuture.completedFuture(Mockito.mock(AbstractWatchManager.class)));
+
+    Reflector<Pod, PodList> reflector = new Reflector<>(mock, mockStore);
+    reflector.resumeFrom("5");
+
+    reflector.start().join();
+
+    assertTrue(reflector.isWatching());
+    Mockito.verify(mock).submitList(Mockito.any());
+    assertEquals("10", reflector.getLastSyncResourceVersion());
+  }
+
+  @Test
+  void testWatchListIgnoredBookmark() {
+    ListerWatcher<Pod, PodList> mock = Mockito.mock(ListerWatcher.class);
+    Pod pod = new PodBuilder().withNewMetadata().withName("pod1").withNamespace("ns").withResourceVersion("1")
+        .endMetadata().build();
+    Pod bookmark = new PodBuilder().withNewMetadata().withResourceVersion("2").endMetadata().build();
+    PodList list = new PodListBuilder().withNewMetadata().withResourceVersion("3").endMetadata().build();
+    Mockito.when(mock.isWatchList()).thenReturn(true);
+    Mockito.when(mockStore.getKey(pod)).thenReturn("ns/pod1");
+    Mockito.when(mock.submitList(Mockito.any())).thenReturn(CompletableFuture.completedFuture(list));
+    AbstractWatchManager<Pod> ignoredWatch = Mockito.mock(AbstractWatchManager.class);
+    Mockito.when(mock.submitWatch(Mockito.any(), Mockito.any()))
+        .thenReturn(CompletableFuture.completedFuture(ignoredWatch))
+        .thenReturn(CompletableFuture.completedFuture(Mockito.mock(AbstractWatchManager.class)));
+
+    Reflector<Pod, PodList> reflector = new Reflector<>(mock, mockStore);
+
+    CompletableFuture<Void> started = reflector.start();
+    // an older server ignores sendInitialEvents, and only sends bookmarks without the annotation
+    reflector.getWatcher().eventReceived(Watcher.Action.ADDED, pod);
+    assertFalse(started.isDone());
+    reflector.getWatcher().eventReceived(Watcher.Action.BOOKMARK, bookmark);
+    started.join();
+
+    assertTrue(reflector.isWatching());
+    Mockito.verify(mock).submitList(Mockito.any());
+    Mockito.verify(ignoredWatch).close();
+    Mockito.verify(mockStore).retainAll(Mockito.eq(Collections.emptySet()), Mockito.any());
+    assertEquals("3", reflector.getLastSyncResourceVersion());
+  }
+
+  @Test
+  void testWatchListInitialEventsTimeout() {
+    ListerWatcher<Pod, PodList> mock = Mockito.mock(ListerWatcher.class);
+    PodList list = new PodListBuilder().withNewMetadata().withResourceVersion("1").endMetadata().build();
+    Mockito.when(mock.isWatchList()).thenReturn(true);
+    Mockito.when(mock.submitList(Mockito.any())).thenReturn(CompletableFuture.completedFuture(list));
+    // neither events nor bookmarks are received
+    Mockito.when(mock.submitWatch(Mockito.any(), Mockito.any()))
+        .thenReturn(CompletableFuture.completedFuture(Mockito.mock(AbstractWatchManager.class)));
+
+    Reflector<Pod, PodList> reflector = new Reflector<>(mock, mockStore);
+    reflector.setInitialEventsTimeout(10);
+
+    reflector.start().join();
+
+    assertTrue(reflector.isWatching());
+    Mockito.verify(mock).submitList(Mockito.any());
+    Mockito.verify(mock, Mockito.times(2)).submitWatch(Mockito.any(), Mockito.any());
+    assertEquals("1", reflector.getLastSyncResourceVersion());
+  }
+
   @Test
   void testNotRunningAfterStartError() {
     ListerWatcher<Pod, PodList> mock = Mockito.mock(ListerWatcher.class);
@@ -18,8 +18,27 @@ package io.fabric8.kubernetes.client.informers.impl.cache;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodBuilder;
 import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.ShardedDispatch;
+import io.fabric8.kubernetes.client.informers.ShardedDispatch.LaneStatistics;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.fabric8.kubernetes.client.metrics.ClientMetrics;
+import org.awaitility.Awaitility;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class SharedProcessorTest {
@@ -49,6 +68,26 @@ class SharedProcessorTest {
     assertTrue(expectDeleteHandler.isSatisfied());
   }
 
+  @Test
+  void testDispatchMetrics() {
+    List<String> resources = new ArrayList<>();
+    SharedProcessor<Pod> sharedProcessor = new SharedProcessor<>(Runnable::run, "informer", new ClientMetrics() {
+      @Override
+      public void informerEventDispatched(String resource, long queuedNanos) {
+        assertTrue(queuedNanos >= 0);
+        resources.add(resource);
+      }
+    }, "v1/Pod");
+    Pod foo1 = new PodBuilder().withNewMetadata().withName("foo1").withNamespace("default").endMetadata().build();
+    ProcessorListener.Notification<Pod> addNotification = new ProcessorListener.AddNotification<>(foo1);
+    sharedProcessor.addListener(new ExpectingNotificationHandler<>(addNotification));
+
+    sharedProcessor.distribute(addNotification, false);
+    sharedProcessor.distribute(addNotification, false);
+
+    assertEquals(Arrays.asList("v1/Pod", "v1/Pod"), resources);
+  }
+
   @Test
   void testDistributeAfterStop() {
     SharedProcessor<Pod> sharedProcessor = new SharedProcessor<>();
@@ -62,6 +101,97 @@ class SharedProcessorTest {
     sharedProcessor.distribute(addNotification, false);
   }
 
+  @Test
+  void testShardedDispatchPreservesOrderPerKey() throws InterruptedException {
+    ExecutorService executor = Executors.newCachedThreadPool();
+    try {
+      SharedProcessor<Pod> sharedProcessor = new SharedProcessor<>(executor, "informer");
+      sharedProcessor.shardedDispatch(ShardedDispatch.lanes(4).withLaneCapacity(16), Cache::metaNamespaceKeyFunc);
+      Map<String, List<String>> received = new ConcurrentHashMap<>();
+      sharedProcessor.addListener(new ProcessorListener<>(new ResourceEventHandler<Pod>() {
+        @Override
+        public void onAdd(Pod obj) {
+        }
+
+        @Override
+        public void onUpdate(Pod oldObj, Pod newObj) {
+          received.computeIfAbsent(newObj.getMetadata().getName(), k -> Collections.synchronizedList(new ArrayList<>()))
+              .add(newObj.getMetadata().getResourceVersion());
+        }
+
+        @Override
+        public void onDelete(Pod obj, boolean deletedFinalStateUnknown) {
+        }
+      }, 0));
+
+      for (int i = 0; i < 1000; i++) {
+        for (int j = 0; j < 8; j++) {
+          Pod pod = new PodBuilder().withNewMetadata().withName("pod" + j).withNamespace("default")
+              .withResourceVersion(String.valueOf(i)).endMetadata().build();
+          sharedProcessor.distribute(new ProcessorListener.UpdateNotification<>(pod, pod), false);
+        }
+      }
+      CountDownLatch done = new CountDownLatch(1);
+      sharedProcessor.executeIfPossible(done::countDown);
+
+      assertTrue(done.await(10, TimeUnit.SECONDS));
+      assertEquals(8, received.size());
+      List<String> expected = IntStream.range(0, 1000).mapToObj(String::valueOf).collect(Collectors.toList());
+      received.values().forEach(versions -> assertEquals(expected, versions));
+      assertEquals(8000, sharedProcessor.getLaneStatistics().stream().mapToLong(LaneStatistics::getDispatched).sum());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void testShardedDispatchBackpressure() throws InterruptedException {
+    ExecutorService executor = Executors.newCachedThreadPool();
+    try {
+      SharedProcessor<Pod> sharedProcessor = new SharedProcessor<>(executor, "informer");
+      sharedProcessor.shardedDispatch(ShardedDispatch.lanes(1).withLaneCapacity(1), Cache::metaNamespaceKeyFunc);
+      CountDownLatch release = new CountDownLatch(1);
+      sharedProcessor.addListener(new ProcessorListener<>(new ResourceEventHandler<Pod>() {
+        @Override
+        public void onAdd(Pod obj) {
+          try {
+            release.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        }
+
+        @Override
+        public void onUpdate(Pod oldObj, Pod newObj) {
+        }
+
+        @Override
+        public void onDelete(Pod obj, boolean deletedFinalStateUnknown) {
+        }
+      }, 0));
+      Pod pod = new PodBuilder().withNewMetadata().withName("foo1").withNamespace("default").endMetadata().build();
+
+      Thread producer = new Thread(() -> {
+        sharedProcessor.distribute(new ProcessorListener.AddNotification<>(pod), false);
+        sharedProcessor.distribute(new ProcessorListener.AddNotification<>(pod), false);
+      });
+      producer.start();
+
+      Awaitility.await().atMost(10, TimeUnit.SECONDS)
+          .until(() -> sharedProcessor.getLaneStatistics().get(0).getBlocked() == 1);
+      assertEquals(1, sharedProcessor.getLaneStatistics().get(0).getDispatched());
+
+      release.countDown();
+      producer.join(10000);
+
+      LaneStatistics statistics = sharedProcessor.getLaneStatistics().get(0);
+      assertEquals(2, statistics.getDispatched());
+      assertEquals(1, statistics.getMaxQueued());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
   private static class ExpectingNotificationHandler<T> extends ProcessorListener<T> {
     ExpectingNotificationHandler(Notification<T> notification) {
       this(new ResourceEventHandler<T>() {
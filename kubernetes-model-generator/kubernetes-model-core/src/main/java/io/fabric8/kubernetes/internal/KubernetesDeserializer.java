@@ -16,10 +16,12 @@
 package io.fabric8.kubernetes.internal;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.JsonParserSequence;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonMappingException;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesListBuilder;
@@ -28,7 +30,6 @@ import io.fabric8.kubernetes.api.model.runtime.RawExtension;
 
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -96,30 +97,24 @@ public class KubernetesDeserializer extends JsonDeserializer<KubernetesResource>
 
   @Override
   public KubernetesResource deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException {
-    final JsonNode node = jp.readValueAsTree();
-    return deserialize(jp, node);
-  }
-
-  final KubernetesResource deserialize(JsonParser jp, JsonNode node) throws IOException {
-    if (node.isObject()) {
-      return fromObjectNode(jp, node);
-    } else if (node.isArray()) {
-      return fromArrayNode(jp, node);
+    JsonToken token = jp.currentToken();
+    if (token == JsonToken.START_OBJECT || token == JsonToken.FIELD_NAME) {
+      return fromObject(jp, ctxt);
+    } else if (token == JsonToken.START_ARRAY) {
+      return fromArray(jp, ctxt);
     }
-    Object object = node.traverse(jp.getCodec()).readValueAs(Object.class);
+    Object object = ctxt.readValue(jp, Object.class);
     if (object == null) {
       return null;
     }
     return new RawExtension(object);
   }
 
-  private KubernetesResource fromArrayNode(JsonParser jp, JsonNode node) throws IOException {
-    Iterator<JsonNode> iterator = node.elements();
+  private KubernetesResource fromArray(JsonParser jp, DeserializationContext ctxt) throws IOException {
     List<HasMetadata> list = new ArrayList<>();
-    while (iterator.hasNext()) {
-      JsonNode jsonNode = iterator.next();
-      if (jsonNode.isObject()) {
-        KubernetesResource resource = fromObjectNode(jp, jsonNode);
+    for (JsonToken token = jp.nextToken(); token != JsonToken.END_ARRAY; token = jp.nextToken()) {
+      if (token == JsonToken.START_OBJECT) {
+        KubernetesResource resource = fromObject(jp, ctxt);
         if (!(resource instanceof HasMetadata)) {
           throw new JsonMappingException(jp, "Cannot parse a nested array containing a non-HasMetadata resource");
         }
@@ -131,32 +126,93 @@ public class KubernetesDeserializer extends JsonDeserializer<KubernetesResource>
     return new KubernetesListBuilder().withItems(list).build();
   }
 
-  private KubernetesResource fromObjectNode(JsonParser jp, JsonNode node) throws IOException {
-    TypeKey key = createKey(node);
+  /**
+   * Buffers the fields of the object only until both the apiVersion and kind are known - which
+   * are typically the first fields. The object is then bound to the resolved type by replaying the buffered
+   * fields followed by the remainder of the object, without building an intermediate tree.
+   */
+  private KubernetesResource fromObject(JsonParser jp, DeserializationContext ctxt) throws IOException {
+    TokenBuffer prefix = ctxt.bufferForInputBuffering(jp);
+    prefix.writeStartObject();
+    String apiVersion = null;
+    String kind = null;
+    JsonToken token = jp.currentToken();
+    if (token == JsonToken.START_OBJECT) {
+      token = jp.nextToken();
+    }
+    boolean complete = true;
+    for (; token == JsonToken.FIELD_NAME; token = jp.nextToken()) {
+      String fieldName = jp.currentName();
+      if (jp.nextToken() == JsonToken.VALUE_STRING) {
+        if (API_VERSION.equals(fieldName)) {
+          apiVersion = jp.getText();
+        } else if (KIND.equals(fieldName)) {
+          kind = jp.getText();
+        }
+      }
+      prefix.writeFieldName(fieldName);
+      prefix.copyCurrentStructure(jp);
+      if (apiVersion != null && kind != null) {
+        complete = false;
+        break;
+      }
+    }
+    JsonParser replay;
+    if (complete) {
+      prefix.writeEndObject();
+      replay = prefix.asParser(jp);
+    } else {
+      replay = JsonParserSequence.createFlattened(false, prefix.asParser(jp), jp);
+    }
+    replay.nextToken();
+    return ctxt.readValue(replay, resolveType(jp, mapping.createKey(apiVersion, kind)));
+  }
+
+  private Class<? extends KubernetesResource> resolveType(JsonParser jp, TypeKey key) throws JsonMappingException {
     Class<? extends KubernetesResource> resourceType = mapping.getForKey(key);
     if (resourceType == null) {
       if (key == null) {
         // just a wrapper around a map
         // if this raw mapping typed as HasMetadata, a failure will result
-        return jp.getCodec().treeToValue(node, RawExtension.class);
+        return RawExtension.class;
       }
       // this is not quite correct as not all resources have metadata - see LocalResourceAccessReview
-      return jp.getCodec().treeToValue(node, GenericKubernetesResource.class);
+      return GenericKubernetesResource.class;
     } else if (KubernetesResource.class.isAssignableFrom(resourceType)) {
-      return jp.getCodec().treeToValue(node, resourceType);
+      return resourceType;
     }
     throw new JsonMappingException(jp, String.format(
         "There's a class loading issue, %s is registered as a KubernetesResource, but is not an instance of KubernetesResource",
         resourceType.getName()));
   }
 
-  private TypeKey createKey(JsonNode node) {
-    JsonNode apiVersion = node.get(API_VERSION);
-    JsonNode kind = node.get(KIND);
-
-    return mapping.createKey(
-        apiVersion != null ? apiVersion.textValue() : null,
-        kind != null ? kind.textValue() : null);
+  /**
+   * @return the name of the {@link com.fasterxml.jackson.databind.node.JsonNodeType} a value starting with the token
+   *         would be read as
+   */
+  static String nodeType(JsonToken token) {
+    if (token == null) {
+      return "MISSING";
+    }
+    switch (token) {
+      case START_OBJECT:
+      case FIELD_NAME:
+        return "OBJECT";
+      case START_ARRAY:
+        return "ARRAY";
+      case VALUE_STRING:
+        return "STRING";
+      case VALUE_NUMBER_INT:
+      case VALUE_NUMBER_FLOAT:
+        return "NUMBER";
+      case VALUE_TRUE:
+      case VALUE_FALSE:
+        return "BOOLEAN";
+      case VALUE_NULL:
+        return "NULL";
+      default:
+        return token.name();
+    }
   }
 
   /**
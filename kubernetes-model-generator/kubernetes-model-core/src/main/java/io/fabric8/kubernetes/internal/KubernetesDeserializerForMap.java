@@ -16,14 +16,13 @@
 package io.fabric8.kubernetes.internal;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonMappingException;
-import com.fasterxml.jackson.databind.JsonNode;
 import io.fabric8.kubernetes.api.model.KubernetesResource;
 
 import java.io.IOException;
-import java.util.Iterator;
 import java.util.Map;
 
 public class KubernetesDeserializerForMap extends JsonDeserializer<Map<String, KubernetesResource>> {
@@ -36,14 +35,15 @@ public class KubernetesDeserializerForMap extends JsonDeserializer<Map<String, K
 
   @Override
   public Map<String, KubernetesResource> deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
-    final JsonNode node = p.readValueAsTree();
-    if (!node.isObject()) {
-      throw new JsonMappingException(p, "Expected map but found " + node.getNodeType());
+    final JsonToken token = p.currentToken();
+    if (token != JsonToken.START_OBJECT && token != JsonToken.FIELD_NAME) {
+      throw new JsonMappingException(p, "Expected map but found " + KubernetesDeserializer.nodeType(token));
     }
     final Map<String, KubernetesResource> ret = new java.util.LinkedHashMap<>();
-    for (Iterator<Map.Entry<String, JsonNode>> it = node.fields(); it.hasNext();) {
-      final Map.Entry<String, JsonNode> entry = it.next();
-      ret.put(entry.getKey(), kubernetesDeserializer.deserialize(p, entry.getValue()));
+    String fieldName = token == JsonToken.START_OBJECT ? p.nextFieldName() : p.currentName();
+    for (; fieldName != null; fieldName = p.nextFieldName()) {
+      p.nextToken();
+      ret.put(fieldName, kubernetesDeserializer.deserialize(p, ctxt));
     }
     return ret;
   }
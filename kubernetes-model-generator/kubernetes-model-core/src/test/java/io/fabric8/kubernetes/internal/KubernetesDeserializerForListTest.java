@@ -52,6 +52,26 @@ public class KubernetesDeserializerForListTest {
         .withMessageContaining("Expected array but found OBJECT");
   }
 
+  @Test
+  void typeAfterOtherFields() throws IOException {
+    final ListWrapperForList listWrapper = mapper.readValue("{\"aList\":["
+        + "{\"metadata\":{\"name\":\"pod\"},\"spec\":{\"nodeName\":\"node\"},\"kind\":\"Pod\",\"apiVersion\":\"v1\","
+        + "\"status\":{\"phase\":\"Running\"}},"
+        + "{\"metadata\":{\"name\":\"raw\"},\"kind\":\"Pod\"}],"
+        + "\"aListWithRaw\":[]}", ListWrapperForList.class);
+    assertThat(listWrapper.aList)
+        .hasSize(2)
+        .satisfies(l -> assertThat(l.get(0))
+            .isInstanceOf(Pod.class)
+            .hasFieldOrPropertyWithValue("metadata.name", "pod")
+            .hasFieldOrPropertyWithValue("spec.nodeName", "node")
+            .hasFieldOrPropertyWithValue("status.phase", "Running"))
+        .element(1)
+        .isInstanceOf(RawExtension.class)
+        .hasFieldOrPropertyWithValue("value.kind", "Pod");
+    assertThat(listWrapper.aListWithRaw).isEmpty();
+  }
+
   @Nested
   class AsKubernetesResource {
 
@@ -0,0 +1,130 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.mock;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.StatusDetails;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.dsl.base.PatchContext;
+import io.fabric8.kubernetes.client.dsl.base.PatchType;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
+import io.fabric8.mockwebserver.http.RecordedRequest;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@EnableKubernetesMockClient
+class AsyncResourceTest {
+
+  KubernetesMockServer server;
+  KubernetesClient client;
+
+  @Test
+  void get() throws Exception {
+    server.expect().get().withPath("/api/v1/namespaces/test/configmaps/cm1").andReturn(200, configMap()).once();
+
+    ConfigMap result = client.configMaps().withName("cm1").async().get().toCompletableFuture().get(10, TimeUnit.SECONDS);
+
+    assertThat(result.getMetadata().getName()).isEqualTo("cm1");
+    assertThat(result.getApiVersion()).isEqualTo("v1");
+  }
+
+  @Test
+  void getNotFound() throws Exception {
+    ConfigMap result = client.configMaps().withName("cm1").async().get().toCompletableFuture().get(10, TimeUnit.SECONDS);
+
+    assertThat(result).isNull();
+  }
+
+  @Test
+  void getFailure() {
+    server.expect().get().withPath("/api/v1/namespaces/test/configmaps/cm1").andReturn(500, "error").once();
+
+    CompletableFuture<ConfigMap> future = client.configMaps().withName("cm1").async().get().toCompletableFuture();
+
+    ExecutionException exception = assertThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS));
+    assertThat(exception.getCause()).isInstanceOf(KubernetesClientException.class);
+    assertThat(((KubernetesClientException) exception.getCause()).getCode()).isEqualTo(500);
+  }
+
+  @Test
+  void create() throws Exception {
+    server.expect().post().withPath("/api/v1/namespaces/test/configmaps").andReturn(201, configMap()).once();
+
+    ConfigMap result = client.configMaps().resource(configMap()).async().create().toCompletableFuture().get(10,
+        TimeUnit.SECONDS);
+
+    assertThat(result.getMetadata().getName()).isEqualTo("cm1");
+  }
+
+  @Test
+  void patchDoesNotGetTheItem() throws Exception {
+    server.expect().patch().withPath("/api/v1/namespaces/test/configmaps/cm1").andReturn(200, configMap()).once();
+
+    ConfigMap result = client.configMaps().withName("cm1").async()
+        .patch(PatchContext.of(PatchType.JSON_MERGE), "{\"data\":{\"key\":\"value\"}}")
+        .toCompletableFuture().get(10, TimeUnit.SECONDS);
+
+    assertThat(result.getMetadata().getName()).isEqualTo("cm1");
+    assertThat(server.getRequestCount()).isEqualTo(1);
+    RecordedRequest request = server.getLastRequest();
+    assertThat(request.getHeader("Content-Type")).startsWith("application/merge-patch+json");
+  }
+
+  @Test
+  void serverSideApply() throws Exception {
+    server.expect().patch().withPath("/api/v1/namespaces/test/configmaps/cm1?fieldManager=fabric8")
+        .andReturn(200, configMap()).once();
+
+    ConfigMap result = client.configMaps().resource(configMap()).async().serverSideApply()
+        .toCompletableFuture().get(10, TimeUnit.SECONDS);
+
+    assertThat(result.getMetadata().getName()).isEqualTo("cm1");
+    assertThat(server.getLastRequest().getHeader("Content-Type")).startsWith("application/apply-patch+yaml");
+  }
+
+  @Test
+  void delete() throws Exception {
+    server.expect().delete().withPath("/api/v1/namespaces/test/configmaps/cm1").andReturn(200, configMap()).once();
+
+    List<StatusDetails> result = client.configMaps().withName("cm1").async().delete().toCompletableFuture().get(10,
+        TimeUnit.SECONDS);
+
+    assertThat(result).singleElement().extracting(StatusDetails::getName).isEqualTo("cm1");
+  }
+
+  @Test
+  void deleteNotFound() throws Exception {
+    List<StatusDetails> result = client.configMaps().withName("cm1").async().delete().toCompletableFuture().get(10,
+        TimeUnit.SECONDS);
+
+    assertThat(result).isEmpty();
+  }
+
+  private static ConfigMap configMap() {
+    return new ConfigMapBuilder().withNewMetadata().withName("cm1").withNamespace("test").endMetadata().build();
+  }
+
+}
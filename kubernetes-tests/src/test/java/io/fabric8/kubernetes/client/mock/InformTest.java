@@ -370,6 +370,152 @@ class InformTest {
     informer.stop();
   }
 
+  @Test
+  void testStreamingListLimit() throws InterruptedException {
+    // Given
+    Pod pod1 = new PodBuilder().withNewMetadata()
+        .withNamespace("test")
+        .withName("pod1")
+        .withResourceVersion("1")
+        .endMetadata()
+        .build();
+
+    Pod pod2 = new PodBuilder().withNewMetadata()
+        .withNamespace("test")
+        .withName("pod2")
+        .withResourceVersion("2")
+        .endMetadata()
+        .build();
+
+    server.expect()
+        .withPath("/api/v1/namespaces/test/pods?limit=1")
+        .andReturn(HttpURLConnection.HTTP_OK,
+            new PodListBuilder().withNewMetadata()
+                .withResourceVersion("2")
+                .withContinue("x")
+                .endMetadata()
+                .withItems(pod1)
+                .build())
+        .once();
+
+    server.expect()
+        .withPath("/api/v1/namespaces/test/pods?continue=x&limit=1")
+        .andReturn(HttpURLConnection.HTTP_OK,
+            new PodListBuilder().withNewMetadata().withResourceVersion("2").endMetadata().withItems(pod2).build())
+        .once();
+
+    server.expect()
+        .withPath(
+            "/api/v1/namespaces/test/pods?allowWatchBookmarks=true&resourceVersion=2&timeoutSeconds=600&watch=true")
+        .andUpgradeToWebSocket()
+        .open()
+        .done()
+        .once();
+
+    // When
+    SharedIndexInformer<Pod> informer = client.pods().withLimit(1L).withStreamingList(true).runnableInformer(0);
+    informer.run();
+
+    // Then
+    assertEquals(2, informer.getStore().list().size());
+    assertEquals("pod2", informer.getStore().getByKey("test/pod2").getMetadata().getName());
+    assertEquals("2", informer.lastSyncResourceVersion());
+
+    informer.stop();
+  }
+
+  @Test
+  void testWatchList() {
+    // Given
+    Pod pod1 = new PodBuilder().withNewMetadata()
+        .withNamespace("test")
+        .withName("pod1")
+        .withResourceVersion("1")
+        .endMetadata()
+        .build();
+
+    Pod bookmark = new PodBuilder().withNewMetadata()
+        .withResourceVersion("2")
+        .addToAnnotations("k8s.io/initial-events-end", "true")
+        .endMetadata()
+        .build();
+
+    server.expect()
+        .withPath("/api/v1/namespaces/test/pods?allowWatchBookmarks=true&resourceVersion=0"
+            + "&resourceVersionMatch=NotOlderThan&sendInitialEvents=true&timeoutSeconds=600&watch=true")
+        .andUpgradeToWebSocket()
+        .open()
+        .waitFor(EVENT_WAIT_PERIOD_MS)
+        .andEmit(new WatchEvent(pod1, "ADDED"))
+        .waitFor(EVENT_WAIT_PERIOD_MS)
+        .andEmit(new WatchEvent(bookmark, "BOOKMARK"))
+        .done()
+        .once();
+
+    // When
+    SharedIndexInformer<Pod> informer = client.pods().withWatchList(true).runnableInformer(0);
+    informer.run();
+
+    // Then
+    assertEquals(1, informer.getStore().list().size());
+    assertEquals("2", informer.lastSyncResourceVersion());
+
+    informer.stop();
+  }
+
+  @Test
+  void testWatchListIgnoredByServer() {
+    // Given
+    Pod pod1 = new PodBuilder().withNewMetadata()
+        .withNamespace("test")
+        .withName("pod1")
+        .withResourceVersion("1")
+        .endMetadata()
+        .build();
+
+    Pod bookmark = new PodBuilder().withNewMetadata()
+        .withResourceVersion("2")
+        .endMetadata()
+        .build();
+
+    // a server without the WatchList feature accepts the watch, but never ends the initial events
+    server.expect()
+        .withPath("/api/v1/namespaces/test/pods?allowWatchBookmarks=true&resourceVersion=0"
+            + "&resourceVersionMatch=NotOlderThan&sendInitialEvents=true&timeoutSeconds=600&watch=true")
+        .andUpgradeToWebSocket()
+        .open()
+        .waitFor(EVENT_WAIT_PERIOD_MS)
+        .andEmit(new WatchEvent(pod1, "ADDED"))
+        .waitFor(EVENT_WAIT_PERIOD_MS)
+        .andEmit(new WatchEvent(bookmark, "BOOKMARK"))
+        .done()
+        .once();
+
+    server.expect()
+        .withPath("/api/v1/namespaces/test/pods?resourceVersion=0")
+        .andReturn(HttpURLConnection.HTTP_OK,
+            new PodListBuilder().withNewMetadata().withResourceVersion("3").endMetadata().withItems(pod1).build())
+        .once();
+
+    server.expect()
+        .withPath("/api/v1/namespaces/test/pods?allowWatchBookmarks=true&resourceVersion=3&timeoutSeconds=600&watch=true")
+        .andUpgradeToWebSocket()
+        .open()
+        .done()
+        .once();
+
+    // When
+    SharedIndexInformer<Pod> informer = client.pods().withWatchList(true).runnableInformer(0);
+    informer.run();
+
+    // Then
+    assertEquals(1, informer.getStore().list().size());
+    assertEquals("3", informer.lastSyncResourceVersion());
+    assertTrue(informer.isWatching());
+
+    informer.stop();
+  }
+
   @Test
   void testInformWithAlternativeKeyFunction() throws InterruptedException {
     // Given
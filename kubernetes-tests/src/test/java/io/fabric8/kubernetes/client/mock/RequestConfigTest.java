@@ -15,8 +15,10 @@
  */
 package io.fabric8.kubernetes.client.mock;
 
+import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodBuilder;
 import io.fabric8.kubernetes.client.NamespacedKubernetesClient;
+import io.fabric8.kubernetes.client.ReadConsistency;
 import io.fabric8.kubernetes.client.RequestConfigBuilder;
 import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
 import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
@@ -25,6 +27,7 @@ import io.fabric8.mockwebserver.http.RecordedRequest;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
 @EnableKubernetesMockClient
@@ -68,4 +71,84 @@ class RequestConfigTest {
     assertNull(impersonate2);
   }
 
+  @Test
+  void testBoundedStalenessReadsNotOlderThanLastSeen() {
+    server.expect()
+        .withPath("/api/v1/namespaces/test/pods/pod1?resourceVersion=0")
+        .andReturn(200, pod("5"))
+        .once();
+    server.expect()
+        .withPath("/api/v1/namespaces/test/pods/pod1?resourceVersion=5")
+        .andReturn(200, pod("7"))
+        .once();
+
+    Pod pod = client.withRequestConfig(new RequestConfigBuilder().withReadConsistency(ReadConsistency.BOUNDED_STALENESS)
+        .build()).call(c -> {
+          c.pods().inNamespace("test").withName("pod1").get();
+          return c.pods().inNamespace("test").withName("pod1").get();
+        });
+
+    assertEquals("7", pod.getMetadata().getResourceVersion());
+    assertEquals(2, server.getRequestCount());
+  }
+
+  @Test
+  void testCachedReadsReturnLastSeen() {
+    server.expect()
+        .withPath("/api/v1/namespaces/test/pods/pod1?resourceVersion=0")
+        .andReturn(200, pod("5"))
+        .once();
+
+    Pod[] pods = client.withRequestConfig(new RequestConfigBuilder().withReadConsistency(ReadConsistency.CACHED)
+        .withMaxStaleness(60000).build()).call(c -> new Pod[] {
+            c.pods().inNamespace("test").withName("pod1").get(),
+            c.pods().inNamespace("test").withName("pod1").get()
+        });
+
+    assertEquals("5", pods[1].getMetadata().getResourceVersion());
+    assertNotSame(pods[0], pods[1]);
+    assertEquals(1, server.getRequestCount());
+  }
+
+  @Test
+  void testCachedReadsAreNotAffectedByCallerModifications() {
+    server.expect()
+        .withPath("/api/v1/namespaces/test/pods/pod1?resourceVersion=0")
+        .andReturn(200, pod("5"))
+        .once();
+
+    Pod pod = client.withRequestConfig(new RequestConfigBuilder().withReadConsistency(ReadConsistency.CACHED)
+        .withMaxStaleness(60000).build()).call(c -> {
+          c.pods().inNamespace("test").withName("pod1").get().getMetadata().setResourceVersion("6");
+          return c.pods().inNamespace("test").withName("pod1").get();
+        });
+
+    assertEquals("5", pod.getMetadata().getResourceVersion());
+    assertEquals(1, server.getRequestCount());
+  }
+
+  @Test
+  void testStrongReadsDoNotSpecifyResourceVersion() throws InterruptedException {
+    server.expect()
+        .withPath("/api/v1/namespaces/test/pods/pod1")
+        .andReturn(200, pod("5"))
+        .always();
+
+    client.pods().inNamespace("test").withName("pod1").get();
+    client.pods().inNamespace("test").withName("pod1").get();
+
+    assertEquals("/api/v1/namespaces/test/pods/pod1", server.takeRequest().getPath());
+    assertEquals("/api/v1/namespaces/test/pods/pod1", server.takeRequest().getPath());
+  }
+
+  private static Pod pod(String resourceVersion) {
+    return new PodBuilder()
+        .withNewMetadata()
+        .withName("pod1")
+        .withNamespace("test")
+        .withResourceVersion(resourceVersion)
+        .endMetadata()
+        .build();
+  }
+
 }
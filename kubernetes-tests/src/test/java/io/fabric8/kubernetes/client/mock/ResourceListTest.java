@@ -21,15 +21,20 @@ import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.IntOrString;
 import io.fabric8.kubernetes.api.model.KubernetesList;
 import io.fabric8.kubernetes.api.model.KubernetesListBuilder;
+import io.fabric8.kubernetes.api.model.Namespace;
+import io.fabric8.kubernetes.api.model.NamespaceBuilder;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodBuilder;
 import io.fabric8.kubernetes.api.model.PodListBuilder;
 import io.fabric8.kubernetes.api.model.Service;
+import io.fabric8.kubernetes.api.model.ServiceAccount;
+import io.fabric8.kubernetes.api.model.ServiceAccountBuilder;
 import io.fabric8.kubernetes.api.model.ServiceBuilder;
 import io.fabric8.kubernetes.api.model.Status;
 import io.fabric8.kubernetes.api.model.StatusBuilder;
 import io.fabric8.kubernetes.api.model.WatchEvent;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientBulkException;
 import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.KubernetesClientTimeoutException;
 import io.fabric8.kubernetes.client.dsl.ListVisitFromServerGetDeleteRecreateWaitApplicable;
@@ -41,6 +46,7 @@ import io.fabric8.mockwebserver.http.RecordedRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
@@ -103,6 +109,84 @@ class ResourceListTest {
     assertThrows(KubernetesClientException.class, listOp::createOrReplace);
   }
 
+  @Test
+  void testCreateNamespaceBeforeDependents() throws InterruptedException {
+    Pod pod1 = new PodBuilder().withNewMetadata().withName("pod1").withNamespace("test").and().build();
+    Pod pod2 = new PodBuilder().withNewMetadata().withName("pod2").withNamespace("test").and().build();
+    Namespace namespace = new NamespaceBuilder().withNewMetadata().withName("test").and().build();
+
+    server.expect().post().withPath("/api/v1/namespaces/test/pods").andReturn(HTTP_CREATED, pod1).times(2);
+    server.expect().post().withPath("/api/v1/namespaces").andReturn(HTTP_CREATED, namespace).once();
+
+    List<HasMetadata> response = client.resourceList(pod1, pod2, namespace).withConcurrency(3).create();
+
+    assertThat(response).hasSize(3);
+    assertEquals("/api/v1/namespaces", server.takeRequest().getPath());
+  }
+
+  @Test
+  void testCreateConfigurationBeforeWorkloads() throws InterruptedException {
+    Pod pod1 = new PodBuilder().withNewMetadata().withName("pod1").withNamespace("test").and()
+        .withNewSpec().withServiceAccountName("sa").endSpec().build();
+    ServiceAccount serviceAccount = new ServiceAccountBuilder().withNewMetadata().withName("sa").withNamespace("test")
+        .and().build();
+    ConfigMap config = new ConfigMapBuilder().withNewMetadata().withName("config").withNamespace("test").and().build();
+
+    server.expect().post().withPath("/api/v1/namespaces/test/pods").andReturn(HTTP_CREATED, pod1).once();
+    server.expect().post().withPath("/api/v1/namespaces/test/serviceaccounts").andReturn(HTTP_CREATED, serviceAccount)
+        .once();
+    server.expect().post().withPath("/api/v1/namespaces/test/configmaps").andReturn(HTTP_CREATED, config).once();
+
+    List<HasMetadata> response = client.resourceList(pod1, serviceAccount, config).withConcurrency(3).create();
+
+    assertThat(response).hasSize(3);
+    assertThat(Arrays.asList(server.takeRequest().getPath(), server.takeRequest().getPath()))
+        .containsExactlyInAnyOrder("/api/v1/namespaces/test/serviceaccounts", "/api/v1/namespaces/test/configmaps");
+    assertEquals("/api/v1/namespaces/test/pods", server.takeRequest().getPath());
+  }
+
+  @Test
+  void testCreateStopsAtFirstFailureByDefault() {
+    Pod pod1 = new PodBuilder().withNewMetadata().withName("pod1").withNamespace("test").and().build();
+    Pod pod2 = new PodBuilder().withNewMetadata().withName("pod2").withNamespace("test").and().build();
+
+    server.expect().post().withPath("/api/v1/namespaces/test/pods").andReturn(HTTP_CONFLICT, pod1).once();
+
+    NamespaceListVisitFromServerGetDeleteRecreateWaitApplicable<HasMetadata> listOp = client.resourceList(pod1, pod2);
+
+    KubernetesClientBulkException exception = assertThrows(KubernetesClientBulkException.class, listOp::create);
+    assertEquals(HTTP_CONFLICT, exception.getCode());
+    assertThat(exception.getFailures()).containsOnlyKeys(pod1);
+    assertEquals(1, server.getRequestCount());
+  }
+
+  @Test
+  void testCreateAggregatesFailures() {
+    Pod pod1 = new PodBuilder().withNewMetadata().withName("pod1").withNamespace("test").and().build();
+    Pod pod2 = new PodBuilder().withNewMetadata().withName("pod2").withNamespace("other").and().build();
+    Namespace namespace = new NamespaceBuilder().withNewMetadata().withName("test").and().build();
+
+    server.expect().post().withPath("/api/v1/namespaces").andReturn(HTTP_CREATED, namespace).once();
+    server.expect().post().withPath("/api/v1/namespaces/test/pods").andReturn(HTTP_CREATED, pod1).once();
+    server.expect().post().withPath("/api/v1/namespaces/other/pods").andReturn(HTTP_CONFLICT, pod2).once();
+
+    NamespaceListVisitFromServerGetDeleteRecreateWaitApplicable<HasMetadata> listOp = client
+        .resourceList(namespace, pod1, pod2).withConcurrency(2);
+
+    KubernetesClientBulkException exception = assertThrows(KubernetesClientBulkException.class, listOp::create);
+    assertEquals(HTTP_CONFLICT, exception.getCode());
+    assertThat(exception.getResults()).hasSize(2);
+    assertThat(exception.getFailures()).containsOnlyKeys(pod2);
+  }
+
+  @Test
+  void testWithInvalidConcurrency() {
+    NamespaceListVisitFromServerGetDeleteRecreateWaitApplicable<HasMetadata> listOp = client
+        .resourceList(new PodListBuilder().build());
+
+    assertThrows(IllegalArgumentException.class, () -> listOp.withConcurrency(0));
+  }
+
   @Test
   void testCreateWithExplicitNamespace() throws InterruptedException {
     Pod pod1 = new PodBuilder().withNewMetadata().withName("pod1").withNamespace("test").and().build();
@@ -0,0 +1,240 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.micrometer;
+
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.http.RequestPriority;
+import io.fabric8.kubernetes.client.http.RequestScheduler;
+import io.fabric8.kubernetes.client.metrics.ClientMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Records the measurements of a client as Micrometer meters:
+ * <ul>
+ * <li>{@code kubernetes.client.requests} - timer of requests, by method and status, where failed requests have the
+ * status {@code IO_ERROR}
+ * <li>{@code kubernetes.client.requests.active} - gauge of requests in flight
+ * <li>{@code kubernetes.client.requests.retries} - counter of retries, by method
+ * <li>{@code kubernetes.client.response.bytes} - counter of received response body bytes
+ * <li>{@code kubernetes.client.watch.starts} / {@code kubernetes.client.watch.reconnects} - counters of established
+ * watches and of reconnects, by resource
+ * <li>{@code kubernetes.client.watch.events} - counter of received watch events, by resource and type
+ * <li>{@code kubernetes.client.informer.list} - timer of informer lists, by resource, with the listed items in
+ * {@code kubernetes.client.informer.list.items}
+ * <li>{@code kubernetes.client.informer.retries} - counter of informer list or watch retries, by resource
+ * <li>{@code kubernetes.client.informer.dispatch.delay} - timer of the time notifications wait to be delivered to
+ * the event handlers, by resource
+ * </ul>
+ * Meters are created on first use and held, so that recording does not look them up in the registry.
+ * <p>
+ * Use with {@link io.fabric8.kubernetes.client.Config#setMetrics(ClientMetrics)}:
+ *
+ * <pre>
+ * {@code
+ * Config config = new ConfigBuilder().withMetrics(new MicrometerClientMetrics(registry)).build();
+ * }
+ * </pre>
+ */
+public class MicrometerClientMetrics implements ClientMetrics {
+
+  public static final String PREFIX = "kubernetes.client";
+
+  private static final String IO_ERROR = "IO_ERROR";
+
+  private final MeterRegistry registry;
+  private final Tags tags;
+  private final AtomicInteger activeRequests = new AtomicInteger();
+  private final Counter responseBytes;
+  private final Map<String, Map<String, Timer>> requests = new ConcurrentHashMap<>();
+  private final Map<String, Counter> retries = new ConcurrentHashMap<>();
+  private final Map<String, Counter> watchStarts = new ConcurrentHashMap<>();
+  private final Map<String, Counter> watchReconnects = new ConcurrentHashMap<>();
+  private final Map<String, Map<Watcher.Action, Counter>> watchEvents = new ConcurrentHashMap<>();
+  private final Map<String, Timer> informerLists = new ConcurrentHashMap<>();
+  private final Map<String, DistributionSummary> informerListItems = new ConcurrentHashMap<>();
+  private final Map<String, Counter> informerRetries = new ConcurrentHashMap<>();
+  private final Map<String, Timer> informerDispatchDelays = new ConcurrentHashMap<>();
+
+  public MicrometerClientMetrics(MeterRegistry registry) {
+    this(registry, Tags.empty());
+  }
+
+  /**
+   * @param registry the registry to create the meters in
+   * @param tags the tags to add to all meters, for example to identify the client
+   */
+  public MicrometerClientMetrics(MeterRegistry registry, Iterable<Tag> tags) {
+    this.registry = registry;
+    this.tags = Tags.of(tags);
+    Gauge.builder(PREFIX + ".requests.active", activeRequests, AtomicInteger::get)
+        .description("The number of requests in flight")
+        .tags(this.tags)
+        .register(registry);
+    this.responseBytes = Counter.builder(PREFIX + ".response.bytes")
+        .description("The number of received response body bytes")
+        .baseUnit("bytes")
+        .tags(this.tags)
+        .register(registry);
+  }
+
+  /**
+   * Register gauges of the queues and concurrency limits of the scheduler, as
+   * {@code kubernetes.client.scheduler.*} by priority.
+   *
+   * @param scheduler the scheduler
+   * @return this
+   */
+  public MicrometerClientMetrics bindTo(RequestScheduler scheduler) {
+    Gauge.builder(PREFIX + ".scheduler.active", scheduler, RequestScheduler::getInFlight)
+        .description("The number of scheduled requests in flight")
+        .tags(tags)
+        .strongReference(true)
+        .register(registry);
+    FunctionCounter.builder(PREFIX + ".scheduler.throttled", scheduler, RequestScheduler::getThrottledCount)
+        .description("The number of requests throttled by the server")
+        .tags(tags)
+        .register(registry);
+    for (RequestPriority priority : RequestPriority.values()) {
+      if (priority == RequestPriority.WATCH) {
+        continue;
+      }
+      Tags priorityTags = tags.and("priority", priority.name());
+      Gauge.builder(PREFIX + ".scheduler.queued", scheduler, s -> s.getQueued(priority))
+          .description("The number of requests waiting to be sent")
+          .tags(priorityTags)
+          .strongReference(true)
+          .register(registry);
+      Gauge.builder(PREFIX + ".scheduler.limit", scheduler, s -> s.getConcurrencyLimit(priority))
+          .description("The concurrency limit of the priority level of the requests")
+          .tags(priorityTags)
+          .strongReference(true)
+          .register(registry);
+    }
+    return this;
+  }
+
+  @Override
+  public void requestStarted(String method) {
+    activeRequests.incrementAndGet();
+  }
+
+  @Override
+  public void requestCompleted(String method, int code, long durationNanos) {
+    activeRequests.decrementAndGet();
+    requestTimer(method, Integer.toString(code)).record(durationNanos, TimeUnit.NANOSECONDS);
+  }
+
+  @Override
+  public void requestFailed(String method, Throwable cause, long durationNanos) {
+    activeRequests.decrementAndGet();
+    requestTimer(method, IO_ERROR).record(durationNanos, TimeUnit.NANOSECONDS);
+  }
+
+  private Timer requestTimer(String method, String status) {
+    return meter(meters(requests, method), status, s -> Timer.builder(PREFIX + ".requests")
+        .description("The duration of requests until their response headers were received")
+        .tags(tags).tag("method", method).tag("status", s)
+        .register(registry));
+  }
+
+  @Override
+  public void requestRetried(String method) {
+    meter(retries, method, m -> Counter.builder(PREFIX + ".requests.retries")
+        .description("The number of retried requests")
+        .tags(tags).tag("method", m)
+        .register(registry)).increment();
+  }
+
+  @Override
+  public void bytesReceived(long bytes) {
+    responseBytes.increment(bytes);
+  }
+
+  @Override
+  public void watchStarted(String resource) {
+    meter(watchStarts, resource, r -> Counter.builder(PREFIX + ".watch.starts")
+        .description("The number of established watches")
+        .tags(tags).tag("resource", r)
+        .register(registry)).increment();
+  }
+
+  @Override
+  public void watchReconnecting(String resource) {
+    meter(watchReconnects, resource, r -> Counter.builder(PREFIX + ".watch.reconnects")
+        .description("The number of watch reconnects")
+        .tags(tags).tag("resource", r)
+        .register(registry)).increment();
+  }
+
+  @Override
+  public void watchEventReceived(String resource, Watcher.Action action) {
+    meter(meters(watchEvents, resource), action, a -> Counter.builder(PREFIX + ".watch.events")
+        .description("The number of received watch events")
+        .tags(tags).tag("resource", resource).tag("type", a.name())
+        .register(registry)).increment();
+  }
+
+  @Override
+  public void informerListed(String resource, int items, long durationNanos) {
+    meter(informerLists, resource, r -> Timer.builder(PREFIX + ".informer.list")
+        .description("The duration of informer lists")
+        .tags(tags).tag("resource", r)
+        .register(registry)).record(durationNanos, TimeUnit.NANOSECONDS);
+    meter(informerListItems, resource, r -> DistributionSummary.builder(PREFIX + ".informer.list.items")
+        .description("The number of items of informer lists")
+        .tags(tags).tag("resource", r)
+        .register(registry)).record(items);
+  }
+
+  @Override
+  public void informerRetrying(String resource) {
+    meter(informerRetries, resource, r -> Counter.builder(PREFIX + ".informer.retries")
+        .description("The number of informer list or watch retries")
+        .tags(tags).tag("resource", r)
+        .register(registry)).increment();
+  }
+
+  @Override
+  public void informerEventDispatched(String resource, long queuedNanos) {
+    meter(informerDispatchDelays, resource, r -> Timer.builder(PREFIX + ".informer.dispatch.delay")
+        .description("The time notifications wait to be delivered to the event handlers")
+        .tags(tags).tag("resource", r)
+        .register(registry)).record(queuedNanos, TimeUnit.NANOSECONDS);
+  }
+
+  private static <K, V> Map<K, V> meters(Map<String, Map<K, V>> meters, String key) {
+    return meter(meters, key, k -> new ConcurrentHashMap<>());
+  }
+
+  private static <K, M> M meter(Map<K, M> meters, K key, Function<K, M> factory) {
+    M meter = meters.get(key);
+    return meter != null ? meter : meters.computeIfAbsent(key, factory);
+  }
+
+}
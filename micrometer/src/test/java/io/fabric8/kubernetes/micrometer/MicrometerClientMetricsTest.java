@@ -0,0 +1,92 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.micrometer;
+
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.http.RequestScheduler;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MicrometerClientMetricsTest {
+
+  private SimpleMeterRegistry registry;
+  private MicrometerClientMetrics metrics;
+
+  @BeforeEach
+  void setUp() {
+    registry = new SimpleMeterRegistry();
+    metrics = new MicrometerClientMetrics(registry, Tags.of("client", "test"));
+  }
+
+  @Test
+  void requests() {
+    metrics.requestStarted("GET");
+    metrics.requestStarted("GET");
+    assertThat(registry.get("kubernetes.client.requests.active").gauge().value()).isEqualTo(2);
+
+    metrics.requestCompleted("GET", 200, TimeUnit.MILLISECONDS.toNanos(5));
+    metrics.requestFailed("GET", new IOException(), TimeUnit.MILLISECONDS.toNanos(7));
+    metrics.requestRetried("GET");
+    metrics.bytesReceived(10);
+
+    assertThat(registry.get("kubernetes.client.requests.active").gauge().value()).isZero();
+    assertThat(registry.get("kubernetes.client.requests").tags("client", "test", "method", "GET", "status", "200")
+        .timer().totalTime(TimeUnit.MILLISECONDS)).isEqualTo(5);
+    assertThat(registry.get("kubernetes.client.requests").tags("status", "IO_ERROR").timer().count()).isEqualTo(1);
+    assertThat(registry.get("kubernetes.client.requests.retries").tags("method", "GET").counter().count()).isEqualTo(1);
+    assertThat(registry.get("kubernetes.client.response.bytes").counter().count()).isEqualTo(10);
+  }
+
+  @Test
+  void watchesAndInformers() {
+    metrics.watchStarted("v1/Pod");
+    metrics.watchEventReceived("v1/Pod", Watcher.Action.ADDED);
+    metrics.watchEventReceived("v1/Pod", Watcher.Action.ADDED);
+    metrics.watchEventReceived("v1/Pod", Watcher.Action.DELETED);
+    metrics.watchReconnecting("v1/Pod");
+    metrics.informerListed("v1/Pod", 3, TimeUnit.MILLISECONDS.toNanos(20));
+    metrics.informerRetrying("v1/Pod");
+    metrics.informerEventDispatched("v1/Pod", TimeUnit.MILLISECONDS.toNanos(1));
+
+    assertThat(registry.get("kubernetes.client.watch.starts").tags("resource", "v1/Pod").counter().count()).isEqualTo(1);
+    assertThat(registry.get("kubernetes.client.watch.events").tags("type", "ADDED").counter().count()).isEqualTo(2);
+    assertThat(registry.get("kubernetes.client.watch.events").tags("type", "DELETED").counter().count()).isEqualTo(1);
+    assertThat(registry.get("kubernetes.client.watch.reconnects").counter().count()).isEqualTo(1);
+    assertThat(registry.get("kubernetes.client.informer.list").timer().totalTime(TimeUnit.MILLISECONDS)).isEqualTo(20);
+    assertThat(registry.get("kubernetes.client.informer.list.items").summary().totalAmount()).isEqualTo(3);
+    assertThat(registry.get("kubernetes.client.informer.retries").counter().count()).isEqualTo(1);
+    assertThat(registry.get("kubernetes.client.informer.dispatch.delay").timer().count()).isEqualTo(1);
+  }
+
+  @Test
+  void scheduler() {
+    metrics.bindTo(RequestScheduler.builder().initialConcurrency(4).build());
+
+    assertThat(registry.get("kubernetes.client.scheduler.limit").tags("priority", "BULK_LIST").gauge().value())
+        .isEqualTo(4);
+    assertThat(registry.get("kubernetes.client.scheduler.queued").tags("priority", "READ").gauge().value()).isZero();
+    assertThat(registry.get("kubernetes.client.scheduler.active").gauge().value()).isZero();
+    assertThat(registry.get("kubernetes.client.scheduler.throttled").functionCounter().count()).isZero();
+  }
+
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.zjsonpatch;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.EnumSet;
+import java.util.List;
+
+/**
+ * A JSON Patch whose operations, pointers and values have been parsed once by {@link JsonPatch#compile(JsonNode)},
+ * so that it can be applied to any number of documents.
+ * <p>
+ * Consecutive operations under the same parent resolve the parent node only once. Instances are immutable and may
+ * be shared between threads.
+ */
+public final class CompiledJsonPatch {
+
+  private final List<CompiledOperation> operations;
+  private final EnumSet<CompatibilityFlags> flags;
+
+  CompiledJsonPatch(List<CompiledOperation> operations, EnumSet<CompatibilityFlags> flags) {
+    this.operations = operations;
+    this.flags = EnumSet.copyOf(flags);
+  }
+
+  /**
+   * Apply this patch to a copy of the source, which is not modified
+   *
+   * @param source the document to patch
+   * @return the patched copy
+   */
+  public JsonNode apply(JsonNode source) {
+    return process(new CopyingApplyProcessor(source, flags));
+  }
+
+  /**
+   * Apply this patch by modifying the target, which avoids copying the document.
+   * <p>
+   * If the patch cannot be applied, the target may be left partially modified.
+   *
+   * @param target the document to patch
+   * @return the patched document, which is the target itself unless the patch replaces the root
+   */
+  public JsonNode applyInPlace(JsonNode target) {
+    return process(new InPlaceApplyProcessor(target, flags));
+  }
+
+  private JsonNode process(InPlaceApplyProcessor processor) {
+    for (CompiledOperation operation : operations) {
+      try {
+        operation.apply(processor);
+      } catch (JsonPointerEvaluationException e) {
+        throw new JsonPatchException(e.getMessage(), operation.operation, e.getPath());
+      }
+    }
+    return processor.result();
+  }
+
+  static final class CompiledOperation {
+
+    private final Operation operation;
+    private final JsonPointer path;
+    private final JsonPointer from;
+    private final JsonNode value;
+
+    CompiledOperation(Operation operation, JsonPointer path, JsonPointer from, JsonNode value) {
+      this.operation = operation;
+      this.path = path;
+      this.from = from;
+      this.value = value;
+    }
+
+    void apply(JsonPatchProcessor processor) throws JsonPointerEvaluationException {
+      switch (operation) {
+        case REMOVE:
+          processor.remove(path);
+          break;
+        case ADD:
+          processor.add(path, value.deepCopy());
+          break;
+        case REPLACE:
+          processor.replace(path, value.deepCopy());
+          break;
+        case MOVE:
+          processor.move(from, path);
+          break;
+        case COPY:
+          processor.copy(from, path);
+          break;
+        case TEST:
+          // only compared, so it need not be copied
+          processor.test(path, value);
+          break;
+      }
+    }
+  }
+}
@@ -89,7 +89,21 @@ public enum DiffFlags {
    *
    * @since 0.4.8
    */
-  EMIT_TEST_OPERATIONS;
+  EMIT_TEST_OPERATIONS,
+
+  /**
+   * This flag diffs arrays in linear rather than quadratic time and space, instead of computing
+   * their longest common subsequence. Equal leading and trailing elements are skipped. The remaining
+   * elements are matched by their <i>name</i> field if all are objects with unique names, such as
+   * containers or volumes, and otherwise by value if all are unique. Matched elements that are in
+   * the same relative order are diffed with each other, while unmatched elements are added, removed or
+   * diffed with the unmatched element at the same position. If no such matching exists the remaining
+   * elements are diffed by position.
+   * <p>
+   * The resulting patches may differ from, and for keyed objects be smaller than, those produced without
+   * the flag.
+   */
+  LINEAR_ARRAY_DIFF;
 
   public static EnumSet<DiffFlags> defaults() {
     return EnumSet.of(OMIT_VALUE_ON_REMOVE);
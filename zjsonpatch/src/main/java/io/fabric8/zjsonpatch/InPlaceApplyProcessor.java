@@ -30,6 +30,9 @@ class InPlaceApplyProcessor implements JsonPatchProcessor {
 
   private JsonNode target;
   private final EnumSet<CompatibilityFlags> flags;
+  // the last evaluated parent, reused by consecutive operations under the same parent pointer instance
+  private JsonPointer cachedParentPath;
+  private JsonNode cachedParent;
 
   InPlaceApplyProcessor(JsonNode target, EnumSet<CompatibilityFlags> flags) {
     this.target = target;
@@ -80,11 +83,11 @@ class InPlaceApplyProcessor implements JsonPatchProcessor {
   @Override
   public void replace(JsonPointer path, JsonNode value) throws JsonPointerEvaluationException {
     if (path.isRoot()) {
-      target = value;
+      setRoot(value);
       return;
     }
 
-    JsonNode parentNode = path.getParent().evaluate(target);
+    JsonNode parentNode = parentOf(path);
     JsonPointer.RefToken token = path.last();
     if (parentNode.isObject()) {
       if (!flags.contains(CompatibilityFlags.ALLOW_MISSING_TARGET_OBJECT_ON_REPLACE) &&
@@ -108,7 +111,7 @@ class InPlaceApplyProcessor implements JsonPatchProcessor {
     if (path.isRoot())
       throw new JsonPatchException("Cannot remove document root", Operation.REMOVE, path);
 
-    JsonNode parentNode = path.getParent().evaluate(target);
+    JsonNode parentNode = parentOf(path);
     JsonPointer.RefToken token = path.last();
     if (parentNode.isObject()) {
       if (flags.contains(CompatibilityFlags.FORBID_REMOVE_MISSING_OBJECT) && !parentNode.has(token.getField()))
@@ -129,9 +132,9 @@ class InPlaceApplyProcessor implements JsonPatchProcessor {
 
   private void set(JsonPointer path, JsonNode value, Operation forOp) throws JsonPointerEvaluationException {
     if (path.isRoot())
-      target = value;
+      setRoot(value);
     else {
-      JsonNode parentNode = path.getParent().evaluate(target);
+      JsonNode parentNode = parentOf(path);
       if (!parentNode.isContainerNode())
         throw new JsonPatchException("Cannot reference past scalar value", forOp, path.getParent());
       else if (parentNode.isArray())
@@ -141,6 +144,25 @@ class InPlaceApplyProcessor implements JsonPatchProcessor {
     }
   }
 
+  private void setRoot(JsonNode value) {
+    target = value;
+    cachedParentPath = null;
+    cachedParent = null;
+  }
+
+  /**
+   * Operations only modify the children of their parent, so the parent node stays attached to the target
+   * until an operation with another parent is applied.
+   */
+  private JsonNode parentOf(JsonPointer path) throws JsonPointerEvaluationException {
+    JsonPointer parent = path.getParent();
+    if (parent != cachedParentPath) {
+      cachedParent = parent.evaluate(target);
+      cachedParentPath = parent;
+    }
+    return cachedParent;
+  }
+
   private void addToObject(JsonPointer path, JsonNode node, JsonNode value) {
     final ObjectNode target = (ObjectNode) node;
     String key = path.last().getField();
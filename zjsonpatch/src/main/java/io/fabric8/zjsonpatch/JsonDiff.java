@@ -41,6 +41,7 @@ public class JsonDiff {
   public static final String PATH = "path";
   public static final String FROM = "from";
   public static final String FROM_VALUE = "fromValue";
+  private static final String NAME = "name";
 
   private JsonDiff(EnumSet<DiffFlags> flags) {
     this.flags = flags.clone();
@@ -379,6 +380,10 @@ public class JsonDiff {
   }
 
   private void compareArray(JsonPointer path, JsonNode source, JsonNode target) {
+    if (flags.contains(DiffFlags.LINEAR_ARRAY_DIFF)) {
+      compareArrayLinear(path, source, target);
+      return;
+    }
     List<JsonNode> lcs = getLCS(source, target);
     int srcIdx = 0;
     int targetIdx = 0;
@@ -436,6 +441,109 @@ public class JsonDiff {
     removeRemaining(path, pos, srcIdx, srcSize, source);
   }
 
+  /**
+   * See {@link DiffFlags#LINEAR_ARRAY_DIFF}
+   */
+  private void compareArrayLinear(JsonPointer path, JsonNode source, JsonNode target) {
+    int start = 0;
+    int srcEnd = source.size();
+    int targetEnd = target.size();
+    while (start < srcEnd && start < targetEnd && source.get(start).equals(target.get(start))) {
+      start++;
+    }
+    while (srcEnd > start && targetEnd > start && source.get(srcEnd - 1).equals(target.get(targetEnd - 1))) {
+      srcEnd--;
+      targetEnd--;
+    }
+
+    boolean byName = hasNames(source, start, srcEnd) && hasNames(target, start, targetEnd);
+    Map<Object, Integer> srcKeys = keys(source, start, srcEnd, byName);
+    Map<Object, Integer> targetKeys = keys(target, start, targetEnd, byName);
+    if (srcKeys == null || targetKeys == null || !isSameOrder(source, target, start, srcEnd, targetEnd, byName,
+        srcKeys, targetKeys)) {
+      int pos = start;
+      int srcIdx = start;
+      int targetIdx = start;
+      while (srcIdx < srcEnd && targetIdx < targetEnd) {
+        generateDiffs(path.append(pos++), source.get(srcIdx++), target.get(targetIdx++));
+      }
+      pos = addRemaining(path, target, pos, targetIdx, targetEnd);
+      removeRemaining(path, pos, srcIdx, srcEnd, source);
+      return;
+    }
+
+    int pos = start;
+    int srcIdx = start;
+    int targetIdx = start;
+    while (srcIdx < srcEnd || targetIdx < targetEnd) {
+      boolean srcOnly = srcIdx < srcEnd && !targetKeys.containsKey(key(source.get(srcIdx), byName));
+      boolean targetOnly = targetIdx < targetEnd && !srcKeys.containsKey(key(target.get(targetIdx), byName));
+      if (srcIdx < srcEnd && targetIdx < targetEnd && srcOnly == targetOnly) {
+        // either matched with each other, or both unmatched
+        generateDiffs(path.append(pos++), source.get(srcIdx++), target.get(targetIdx++));
+      } else if (srcIdx < srcEnd && (srcOnly || targetIdx == targetEnd)) {
+        removeAt(path.append(pos), source.get(srcIdx++));
+      } else {
+        diffs.add(Diff.generateDiff(Operation.ADD, path.append(pos++), target.get(targetIdx++)));
+      }
+    }
+  }
+
+  private void removeAt(JsonPointer currPath, JsonNode srcNode) {
+    if (flags.contains(DiffFlags.EMIT_TEST_OPERATIONS))
+      diffs.add(new Diff(Operation.TEST, currPath, srcNode));
+    diffs.add(Diff.generateDiff(Operation.REMOVE, currPath, srcNode));
+  }
+
+  private static boolean hasNames(JsonNode array, int start, int end) {
+    for (int i = start; i < end; i++) {
+      JsonNode node = array.get(i);
+      if (!node.isObject() || !node.path(NAME).isTextual()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static Object key(JsonNode node, boolean byName) {
+    return byName ? node.get(NAME).textValue() : node;
+  }
+
+  /**
+   * @return the keys with their indexes, or null if the keys are not unique
+   */
+  private static Map<Object, Integer> keys(JsonNode array, int start, int end, boolean byName) {
+    Map<Object, Integer> keys = new HashMap<>();
+    for (int i = start; i < end; i++) {
+      if (keys.put(key(array.get(i), byName), i) != null) {
+        return null;
+      }
+    }
+    return keys;
+  }
+
+  /**
+   * @return true if the keys present in both arrays are in the same order in both
+   */
+  private static boolean isSameOrder(JsonNode source, JsonNode target, int start, int srcEnd, int targetEnd,
+      boolean byName, Map<Object, Integer> srcKeys, Map<Object, Integer> targetKeys) {
+    int targetIdx = start;
+    for (int srcIdx = start; srcIdx < srcEnd; srcIdx++) {
+      Integer match = targetKeys.get(key(source.get(srcIdx), byName));
+      if (match == null) {
+        continue;
+      }
+      while (targetIdx < targetEnd && !srcKeys.containsKey(key(target.get(targetIdx), byName))) {
+        targetIdx++;
+      }
+      if (match != targetIdx) {
+        return false;
+      }
+      targetIdx++;
+    }
+    return true;
+  }
+
   private void removeRemaining(JsonPointer path, int pos, int srcIdx, int srcSize, JsonNode source) {
     while (srcIdx < srcSize) {
       JsonPointer currPath = path.append(pos);
@@ -18,8 +18,13 @@ package io.fabric8.zjsonpatch;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.NullNode;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 
 /**
  * This class is ported from <a href=
@@ -62,11 +67,40 @@ public class JsonPatch {
       return child;
   }
 
-  private static void process(JsonNode patch, JsonPatchProcessor processor, EnumSet<CompatibilityFlags> flags) {
+  private static JsonNode getPatchValue(JsonNode jsonNode, EnumSet<CompatibilityFlags> flags) {
+    JsonNode value;
+    if (!flags.contains(CompatibilityFlags.MISSING_VALUES_AS_NULLS))
+      value = getPatchAttr(jsonNode, VALUE);
+    else
+      value = getPatchAttrWithDefault(jsonNode, VALUE, NullNode.getInstance());
+    return value;
+  }
+
+  /**
+   * Parse the patch once, so that it can be applied to many documents
+   *
+   * @param patch the JSON Patch, an array of operations
+   * @param flags the compatibility flags to parse and apply the patch with
+   * @return the compiled patch
+   */
+  public static CompiledJsonPatch compile(JsonNode patch, EnumSet<CompatibilityFlags> flags) {
+    return compile(patch, flags, true);
+  }
+
+  public static CompiledJsonPatch compile(JsonNode patch) {
+    return compile(patch, CompatibilityFlags.defaults());
+  }
+
+  /**
+   * @param copyValues false if the patch is only applied once, and so its values need only be copied when applied
+   */
+  private static CompiledJsonPatch compile(JsonNode patch, EnumSet<CompatibilityFlags> flags, boolean copyValues) {
 
     if (!patch.isArray()) {
       throw new JsonPatchException("Invalid JSON Patch payload (not an array)");
     }
+    List<CompiledJsonPatch.CompiledOperation> compiled = new ArrayList<>(patch.size());
+    Map<JsonPointer, JsonPointer> parents = new HashMap<>();
     Iterator<JsonNode> operations = patch.iterator();
     while (operations.hasNext()) {
       JsonNode jsonNode = operations.next();
@@ -75,66 +109,45 @@ public class JsonPatch {
       }
       Operation operation = Operation.fromRfcName(getPatchStringAttr(jsonNode, OP).textValue());
       JsonPointer path = JsonPointer.parse(getPatchStringAttr(jsonNode, PATH).textValue());
-
-      try {
-        switch (operation) {
-          case REMOVE: {
-            processor.remove(path);
-            break;
-          }
-
-          case ADD: {
-            JsonNode value;
-            if (!flags.contains(CompatibilityFlags.MISSING_VALUES_AS_NULLS))
-              value = getPatchAttr(jsonNode, VALUE);
-            else
-              value = getPatchAttrWithDefault(jsonNode, VALUE, NullNode.getInstance());
-            processor.add(path, value.deepCopy());
-            break;
-          }
-
-          case REPLACE: {
-            JsonNode value;
-            if (!flags.contains(CompatibilityFlags.MISSING_VALUES_AS_NULLS))
-              value = getPatchAttr(jsonNode, VALUE);
-            else
-              value = getPatchAttrWithDefault(jsonNode, VALUE, NullNode.getInstance());
-            processor.replace(path, value.deepCopy());
-            break;
-          }
-
-          case MOVE: {
-            JsonPointer fromPath = JsonPointer.parse(getPatchStringAttr(jsonNode, FROM).textValue());
-            processor.move(fromPath, path);
-            break;
-          }
-
-          case COPY: {
-            JsonPointer fromPath = JsonPointer.parse(getPatchStringAttr(jsonNode, FROM).textValue());
-            processor.copy(fromPath, path);
-            break;
-          }
-
-          case TEST: {
-            JsonNode value;
-            if (!flags.contains(CompatibilityFlags.MISSING_VALUES_AS_NULLS))
-              value = getPatchAttr(jsonNode, VALUE);
-            else
-              value = getPatchAttrWithDefault(jsonNode, VALUE, NullNode.getInstance());
-            processor.test(path, value.deepCopy());
-            break;
+      path.internParent(parents);
+      JsonPointer fromPath = null;
+      JsonNode value = null;
+
+      switch (operation) {
+        case ADD:
+        case REPLACE:
+        case TEST:
+          value = getPatchValue(jsonNode, flags);
+          if (copyValues) {
+            value = value.deepCopy();
           }
-        }
-      } catch (JsonPointerEvaluationException e) {
-        throw new JsonPatchException(e.getMessage(), operation, e.getPath());
+          break;
+        case MOVE:
+        case COPY:
+          fromPath = JsonPointer.parse(getPatchStringAttr(jsonNode, FROM).textValue());
+          fromPath.internParent(parents);
+          break;
+        default:
+          break;
       }
+      compiled.add(new CompiledJsonPatch.CompiledOperation(operation, path, fromPath, value));
     }
+    return new CompiledJsonPatch(Collections.unmodifiableList(compiled), flags);
   }
 
+  /**
+   * Apply the patch to a copy of the source.
+   * <br>
+   * The whole patch is validated before any operation is applied, so an invalid operation is reported
+   * even if an earlier operation would fail when applied.
+   *
+   * @param patch the JSON Patch, an array of operations
+   * @param source the document to patch, which is not modified
+   * @param flags the compatibility flags to parse and apply the patch with
+   * @return the patched copy of the source
+   */
   public static JsonNode apply(JsonNode patch, JsonNode source, EnumSet<CompatibilityFlags> flags) {
-    CopyingApplyProcessor processor = new CopyingApplyProcessor(source, flags);
-    process(patch, processor, flags);
-    return processor.result();
+    return compile(patch, flags, false).apply(source);
   }
 
   public static JsonNode apply(JsonNode patch, JsonNode source) {
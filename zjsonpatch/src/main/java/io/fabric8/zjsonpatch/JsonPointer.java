@@ -20,6 +20,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -30,6 +31,7 @@ import java.util.regex.Pattern;
  */
 public class JsonPointer {
   private final RefToken[] tokens;
+  private JsonPointer parent;
 
   /** A JSON pointer representing the root node of a JSON document */
   public final static JsonPointer ROOT = new JsonPointer(new RefToken[] {});
@@ -197,7 +199,25 @@ public class JsonPointer {
    * @return A {@link JsonPointer} to the parent node.
    */
   public JsonPointer getParent() {
-    return isRoot() ? this : new JsonPointer(Arrays.copyOf(tokens, tokens.length - 1));
+    if (isRoot()) {
+      return this;
+    }
+    JsonPointer result = parent;
+    if (result == null) {
+      result = new JsonPointer(Arrays.copyOf(tokens, tokens.length - 1));
+      parent = result;
+    }
+    return result;
+  }
+
+  /**
+   * Replaces the parent of this pointer with an equal instance held by the given map, so that pointers sharing
+   * a parent may be recognized by identity
+   */
+  void internParent(Map<JsonPointer, JsonPointer> parents) {
+    if (!isRoot()) {
+      parent = parents.computeIfAbsent(getParent(), p -> p);
+    }
   }
 
   private void error(int atToken, String message, JsonNode document) throws JsonPointerEvaluationException {
@@ -71,6 +71,59 @@ class JsonDiffTest {
         .isNotNull();
   }
 
+  @Nested
+  @DisplayName("with LINEAR_ARRAY_DIFF")
+  class LinearArrayDiff {
+
+    private final EnumSet<DiffFlags> flags = EnumSet.of(DiffFlags.OMIT_VALUE_ON_REMOVE, DiffFlags.LINEAR_ARRAY_DIFF);
+
+    @Test
+    void samplePatchesAreSymmetrical() throws IOException {
+      ArrayNode samples = (ArrayNode) objectMapper.readTree(JsonDiffTest.class.getResourceAsStream("/json-diff.json"));
+      for (int i = 0; i < samples.size(); i++) {
+        JsonNode first = samples.get(i).get("first");
+        JsonNode second = samples.get(i).get("second");
+        JsonNode actualPatch = JsonDiff.asJson(first, second, flags);
+        assertEquals(second, JsonPatch.apply(actualPatch, first), "JSON Patch not symmetrical [index=" + i + "]");
+      }
+    }
+
+    @Test
+    void namedObjectsAreMatchedByName() throws IOException {
+      JsonNode source = objectMapper.readTree(
+          "{\"env\":[{\"name\":\"A\",\"value\":\"1\"},{\"name\":\"B\",\"value\":\"1\"},{\"name\":\"C\",\"value\":\"1\"}]}");
+      JsonNode target = objectMapper.readTree(
+          "{\"env\":[{\"name\":\"B\",\"value\":\"2\"},{\"name\":\"C\",\"value\":\"1\"}]}");
+
+      JsonNode diff = JsonDiff.asJson(source, target, flags);
+
+      assertEquals(objectMapper.readTree(
+          "[{\"op\":\"remove\",\"path\":\"/env/0\"},{\"op\":\"replace\",\"path\":\"/env/0/value\",\"value\":\"2\"}]"),
+          diff);
+    }
+
+    @Test
+    void commonPrefixAndSuffixAreSkipped() throws IOException {
+      JsonNode source = objectMapper.readTree("[1,2,3,4,5]");
+      JsonNode target = objectMapper.readTree("[1,2,6,4,5]");
+
+      JsonNode diff = JsonDiff.asJson(source, target, flags);
+
+      assertEquals(objectMapper.readTree("[{\"op\":\"replace\",\"path\":\"/2\",\"value\":6}]"), diff);
+    }
+
+    @Test
+    void reorderedElementsAreDiffedByPosition() throws IOException {
+      JsonNode source = objectMapper.readTree("[\"a\",\"b\",\"c\"]");
+      JsonNode target = objectMapper.readTree("[\"c\",\"b\",\"a\"]");
+
+      JsonNode diff = JsonDiff.asJson(source, target, flags);
+
+      assertEquals(target, JsonPatch.apply(diff, source));
+      assertEquals(2, diff.size());
+    }
+  }
+
   @Nested
   /*
    * This class is ported from <a href=
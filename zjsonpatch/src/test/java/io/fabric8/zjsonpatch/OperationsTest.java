@@ -18,7 +18,9 @@ package io.fabric8.zjsonpatch;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
@@ -80,4 +82,81 @@ class OperationsTest {
           .contains(errorNode.get(i).get("message").asText());
     }
   }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+      "/operations-add.json",
+      "/operations-copy.json",
+      "/operations-move.json",
+      "/operations-remove.json",
+      "/operations-replace.json",
+      "/operations-test.json"
+  })
+  void compiledPatchAppliedRepeatedly(String operationData) throws Exception {
+    final ArrayNode jsonNode = (ArrayNode) objectMapper
+        .readTree(OperationsTest.class.getResourceAsStream(operationData))
+        .get("ops");
+    for (int i = 0; i < jsonNode.size(); i++) {
+      JsonNode first = jsonNode.get(i).get("node");
+      JsonNode second = jsonNode.get(i).get("expected");
+      CompiledJsonPatch patch = JsonPatch.compile(jsonNode.get(i).get("op"));
+      JsonNode copy = first.deepCopy();
+      assertThat(patch.apply(first)).isEqualTo(second);
+      assertThat(first).isEqualTo(copy);
+      assertThat(patch.applyInPlace(copy)).isEqualTo(second);
+      assertThat(patch.applyInPlace(first.deepCopy())).isEqualTo(second);
+    }
+  }
+
+  @Test
+  void compiledPatchAppliesInPlace() throws Exception {
+    JsonNode target = objectMapper.readTree("{\"a\":{\"x\":1},\"b\":[1]}");
+    CompiledJsonPatch patch = JsonPatch.compile(objectMapper.readTree(
+        "[{\"op\":\"add\",\"path\":\"/a/y\",\"value\":{\"z\":2}},{\"op\":\"remove\",\"path\":\"/a/x\"}]"));
+
+    JsonNode result = patch.applyInPlace(target);
+
+    assertThat(result).isSameAs(target)
+        .isEqualTo(objectMapper.readTree("{\"a\":{\"y\":{\"z\":2}},\"b\":[1]}"));
+    // values are copied for each application
+    ((ObjectNode) result.get("a").get("y")).put("z", 3);
+    assertThat(patch.apply(objectMapper.readTree("{\"a\":{\"x\":1}}")))
+        .isEqualTo(objectMapper.readTree("{\"a\":{\"y\":{\"z\":2}}}"));
+  }
+
+  @Test
+  void compiledPatchResolvesParentAfterItIsReplaced() throws Exception {
+    CompiledJsonPatch patch = JsonPatch.compile(objectMapper.readTree("[" +
+        "{\"op\":\"add\",\"path\":\"/a/x\",\"value\":1}," +
+        "{\"op\":\"replace\",\"path\":\"/a\",\"value\":{}}," +
+        "{\"op\":\"add\",\"path\":\"/a/y\",\"value\":2}," +
+        "{\"op\":\"move\",\"from\":\"/a\",\"path\":\"/b\"}," +
+        "{\"op\":\"add\",\"path\":\"/b/z\",\"value\":3}," +
+        "{\"op\":\"replace\",\"path\":\"\",\"value\":{\"b\":{}}}," +
+        "{\"op\":\"add\",\"path\":\"/b/w\",\"value\":4}" +
+        "]"));
+
+    assertThat(patch.applyInPlace(objectMapper.readTree("{\"a\":{}}")))
+        .isEqualTo(objectMapper.readTree("{\"b\":{\"w\":4}}"));
+  }
+
+  @Test
+  void compileRejectsInvalidPatch() throws Exception {
+    JsonNode patch = objectMapper.readTree("[{\"op\":\"add\",\"path\":\"/a\"}]");
+
+    assertThatThrownBy(() -> JsonPatch.compile(patch))
+        .isInstanceOf(JsonPatchException.class)
+        .hasMessageContaining("missing 'value' field");
+  }
+
+  @Test
+  void applyValidatesWholePatchBeforeApplyingOperations() throws Exception {
+    // the first operation would fail when applied, but the second one is invalid
+    JsonNode patch = objectMapper.readTree(
+        "[{\"op\":\"remove\",\"path\":\"/missing\"},{\"op\":\"add\",\"path\":\"/a\"}]");
+
+    assertThatThrownBy(() -> JsonPatch.apply(patch, objectMapper.readTree("{}")))
+        .isInstanceOf(JsonPatchException.class)
+        .hasMessage("Invalid JSON Patch payload (missing 'value' field)");
+  }
 }